@@ -82,6 +82,7 @@ public class JobHandlerConfiguration {
         .setLongPollingTimeout(config.longPolling().getTimeout())
         .setProbeTimeoutMillis(config.longPolling().getProbeTimeout())
         .setMinEmptyResponses(config.longPolling().getMinEmptyResponses())
+        .setSkipEmptyPartitions(config.longPolling().isSkipEmptyPartitions())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(RuntimeException::new)
         .setRequestCanceledExceptionProvider(RuntimeException::new)
@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfileSnapshot;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * An actuator endpoint which dumps the profile of all actors scheduled on this node, to find out
+ * which actors hold the actor threads when the node is saturated. The profile is only collected if
+ * the actor metrics are enabled; otherwise, the list of actors is always empty.
+ */
+@Component
+@WebEndpoint(id = "actors")
+public final class ActorsEndpoint {
+  private final ActorScheduler scheduler;
+
+  @Autowired
+  public ActorsEndpoint(final ActorScheduler scheduler) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify an actor scheduler");
+  }
+
+  /**
+   * Returns the profile of each scheduled actor, the actors which held the actor threads the
+   * longest first. Actors with {@code longExecutions} held a CPU bound thread for so long that they
+   * delayed the other actors queued on the same thread.
+   */
+  @ReadOperation
+  public WebEndpointResponse<ActorProfiles> profile() {
+    final var profiler = scheduler.getActorProfiler();
+    return new WebEndpointResponse<>(
+        new ActorProfiles(profiler.isEnabled(), profiler.snapshot()),
+        200,
+        MimeTypeUtils.APPLICATION_JSON);
+  }
+
+  public record ActorProfiles(boolean enabled, List<ActorProfileSnapshot> actors) {}
+}
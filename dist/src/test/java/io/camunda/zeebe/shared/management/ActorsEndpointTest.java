@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfileSnapshot;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+final class ActorsEndpointTest {
+
+  @Test
+  void shouldDumpProfileOfScheduledActors() throws Exception {
+    // given
+    try (final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setMetricsEnabled(true)
+            .build()) {
+      scheduler.start();
+      final var actor = Actor.newActor().name("profiled").build();
+      scheduler.submitActor(actor).join();
+      final var endpoint = new ActorsEndpoint(scheduler);
+
+      // when
+      final var response = endpoint.profile();
+
+      // then
+      assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+      assertThat(response.getBody().enabled()).isTrue();
+      assertThat(response.getBody().actors())
+          .extracting(ActorProfileSnapshot::actorName)
+          .contains("profiled");
+    }
+  }
+
+  @Test
+  void shouldReturnEmptyProfileIfMetricsAreDisabled() throws Exception {
+    // given
+    try (final var scheduler = ActorScheduler.newActorScheduler().build()) {
+      scheduler.start();
+      final var endpoint = new ActorsEndpoint(scheduler);
+
+      // when
+      final var response = endpoint.profile();
+
+      // then
+      assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+      assertThat(response.getBody().enabled()).isFalse();
+      assertThat(response.getBody().actors()).isEmpty();
+    }
+  }
+}
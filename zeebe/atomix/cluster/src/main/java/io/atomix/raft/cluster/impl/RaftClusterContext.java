@@ -375,7 +375,9 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
                 new RaftMemberContext(
                     new DefaultRaftMember(memberId, member.getType(), time),
                     this,
-                    raft.getMaxAppendsPerFollower()));
+                    raft.getMaxAppendsPerFollower(),
+                    raft.getMaxInFlightAppendBytesPerFollower(),
+                    raft.getMaxInstallsPerFollower()));
 
     // If the member type has changed, update the member type and reset its state.
     if (context.getMember().getType() != member.getType()) {
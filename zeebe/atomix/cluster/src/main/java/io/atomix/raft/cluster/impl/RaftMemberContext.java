@@ -35,6 +35,8 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final long maxInFlightAppendBytes;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -45,10 +47,12 @@ public final class RaftMemberContext {
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long inFlightAppendBytes;
+  private long appendEpoch;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +62,13 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final long maxInFlightAppendBytes,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInFlightAppendBytes = maxInFlightAppendBytes;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -72,9 +80,10 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    inFlightAppendBytes = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -146,6 +155,12 @@ public final class RaftMemberContext {
   /**
    * Returns a boolean indicating whether an append request can be sent to the member.
    *
+   * <p>Without a byte window, further requests are spread over the mean round trip time of the
+   * previous ones. With a byte window, further requests are sent right away as long as the bytes
+   * which were not yet acknowledged by the member stay below the window; the window then opens as
+   * the member acknowledges requests, so the throughput is bound by the link rather than by round
+   * trips.
+   *
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
@@ -153,8 +168,15 @@ public final class RaftMemberContext {
         && (inFlightAppendCount == 0
             || (appendSucceeded
                 && inFlightAppendCount < maxAppendsPerMember
-                && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
-                    >= appendTime));
+                && hasAppendWindowCapacity()));
+  }
+
+  private boolean hasAppendWindowCapacity() {
+    if (maxInFlightAppendBytes > 0) {
+      return inFlightAppendBytes < maxInFlightAppendBytes;
+    }
+
+    return System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember) >= appendTime;
   }
 
   /**
@@ -185,9 +207,14 @@ public final class RaftMemberContext {
     appendSucceeded(false);
   }
 
-  /** Starts an append request to the member. */
-  public void startAppend() {
+  /**
+   * Starts an append request to the member.
+   *
+   * @param bytes The approximate size of the entries sent with the request.
+   */
+  public void startAppend(final long bytes) {
     inFlightAppendCount++;
+    inFlightAppendBytes += bytes;
     appendTime = System.currentTimeMillis();
   }
 
@@ -200,12 +227,41 @@ public final class RaftMemberContext {
    * Completes an append request to the member.
    *
    * @param time The time in milliseconds for the append.
+   * @param bytes The approximate size of the entries which were sent with the request.
    */
-  public void completeAppend(final long time) {
+  public void completeAppend(final long time, final long bytes) {
     inFlightAppendCount--;
+    // the state may have been reset while the request was in flight
+    inFlightAppendBytes = Math.max(0, inFlightAppendBytes - bytes);
     timeStats.addValue(time);
   }
 
+  /**
+   * @return the approximate size of the entries which were sent, but not yet acknowledged
+   */
+  public long getInFlightAppendBytes() {
+    return inFlightAppendBytes;
+  }
+
+  /**
+   * @return the mean round trip time of the recent append requests in milliseconds, or 0 if none
+   *     completed yet
+   */
+  public double getMeanAppendTime() {
+    return timeStats.getN() == 0 ? 0 : timeStats.getMean();
+  }
+
+  /**
+   * Returns the current append epoch, which changes whenever the replication of entries is rewound
+   * with {@link #reset(long)}. Responses to requests sent in an older epoch don't describe the
+   * entries which are currently sent to the member anymore.
+   *
+   * @return the current append epoch
+   */
+  public long getAppendEpoch() {
+    return appendEpoch;
+  }
+
   /**
    * Returns a boolean indicating whether a configure request can be sent to the member.
    *
@@ -226,22 +282,29 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. While
+   * install requests are in flight, further requests are only sent if the next chunk to send is
+   * known, i.e. not after the last chunk was sent or the replication was restarted.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    if (!open) {
+      return false;
+    }
+
+    return inFlightInstallCount == 0
+        || (inFlightInstallCount < maxInstallsPerMember && nextSnapshotChunk != null);
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
   }
 
   /**
@@ -274,10 +337,11 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendingBytes", inFlightAppendBytes)
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -480,6 +544,7 @@ public final class RaftMemberContext {
   }
 
   public void reset(final long index) {
+    appendEpoch++;
     final var nextIndex = reader.seek(index - 1);
     if (nextIndex == index - 1) {
       currentEntry = reader.next();
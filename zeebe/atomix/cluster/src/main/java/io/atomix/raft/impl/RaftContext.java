@@ -405,6 +405,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public long getMaxInFlightAppendBytesPerFollower() {
+    return partitionConfig.getMaxInFlightAppendBytesPerFollower();
+  }
+
+  public int getMaxInstallsPerFollower() {
+    return partitionConfig.getMaxInstallsPerFollower();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -19,6 +19,8 @@ import io.prometheus.client.Gauge;
 
 public class RaftReplicationMetrics extends RaftMetrics {
 
+  private static final String FOLLOWER_LABEL = "follower";
+
   private static final Gauge COMMIT_INDEX =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -35,6 +37,22 @@ public class RaftReplicationMetrics extends RaftMetrics {
           .name("partition_raft_append_index")
           .register();
 
+  private static final Gauge FOLLOWER_IN_FLIGHT_APPEND_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The approximate size of entries sent to the follower which were not acknowledged")
+          .name("partition_raft_follower_in_flight_append_bytes")
+          .register();
+
+  private static final Gauge FOLLOWER_APPEND_ROUND_TRIP_TIME =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The mean round trip time of the recent append requests to the follower in ms")
+          .name("partition_raft_follower_append_round_trip_time")
+          .register();
+
   private final Gauge.Child commitIndex;
   private final Gauge.Child appendIndex;
 
@@ -52,4 +70,12 @@ public class RaftReplicationMetrics extends RaftMetrics {
   public void setAppendIndex(final long value) {
     appendIndex.set(value);
   }
+
+  public void setFollowerInFlightAppendBytes(final String memberId, final long bytes) {
+    FOLLOWER_IN_FLIGHT_APPEND_BYTES.labels(memberId, partitionGroupName, partition).set(bytes);
+  }
+
+  public void setFollowerAppendRoundTripTime(final String memberId, final double millis) {
+    FOLLOWER_APPEND_ROUND_TRIP_TIME.labels(memberId, partitionGroupName, partition).set(millis);
+  }
 }
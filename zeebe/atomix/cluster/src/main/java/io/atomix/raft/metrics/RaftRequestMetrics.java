@@ -17,6 +17,7 @@
 package io.atomix.raft.metrics;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
 
 public class RaftRequestMetrics extends RaftMetrics {
 
@@ -36,6 +37,31 @@ public class RaftRequestMetrics extends RaftMetrics {
           .labelNames("to", "type", PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
 
+  private static final Counter APPEND_UNCOMPRESSED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("raft_append_uncompressed_bytes")
+          .help("Size of the entries of compressed append requests before compression")
+          .labelNames("algorithm", PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Counter APPEND_COMPRESSED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("raft_append_compressed_bytes")
+          .help("Size of the entries of compressed append requests after compression")
+          .labelNames("algorithm", PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Histogram APPEND_COMPRESSION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("raft_append_compression_time")
+          .help("Time spent (de)compressing the entries of append requests in seconds")
+          .labelNames("operation", "algorithm", PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05)
+          .register();
+
   public RaftRequestMetrics(final String partitionName) {
     super(partitionName);
   }
@@ -47,4 +73,24 @@ public class RaftRequestMetrics extends RaftMetrics {
   public void sendMessage(final String memberId, final String type) {
     RAFT_MESSAGES_SEND.labels(memberId, type, partitionGroupName, partition).inc();
   }
+
+  public void observeAppendCompression(
+      final String algorithm,
+      final long uncompressedBytes,
+      final long compressedBytes,
+      final long durationNanos) {
+    APPEND_UNCOMPRESSED_BYTES
+        .labels(algorithm, partitionGroupName, partition)
+        .inc(uncompressedBytes);
+    APPEND_COMPRESSED_BYTES.labels(algorithm, partitionGroupName, partition).inc(compressedBytes);
+    APPEND_COMPRESSION_TIME
+        .labels("compress", algorithm, partitionGroupName, partition)
+        .observe(durationNanos / 1e9);
+  }
+
+  public void observeAppendDecompression(final String algorithm, final long durationNanos) {
+    APPEND_COMPRESSION_TIME
+        .labels("decompress", algorithm, partitionGroupName, partition)
+        .observe(durationNanos / 1e9);
+  }
 }
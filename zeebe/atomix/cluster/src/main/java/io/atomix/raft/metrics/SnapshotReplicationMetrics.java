@@ -15,6 +15,7 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public class SnapshotReplicationMetrics extends RaftMetrics {
@@ -32,14 +33,32 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
           .help("Approximate duration of replication in milliseconds")
           .name("snapshot_replication_duration_milliseconds")
           .register();
+  private static final Counter RECEIVED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Total bytes of snapshot chunks received, its rate is the replication throughput")
+          .name("snapshot_replication_received_bytes")
+          .register();
+  private static final Counter RECEIVED_CHUNKS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Total count of snapshot chunks received")
+          .name("snapshot_replication_received_chunks")
+          .register();
 
   private final Gauge.Child count;
   private final Gauge.Child duration;
+  private final Counter.Child receivedBytes;
+  private final Counter.Child receivedChunks;
 
   public SnapshotReplicationMetrics(final String partitionName) {
     super(partitionName);
     count = COUNT.labels(partitionGroupName, partition);
     duration = DURATION.labels(partitionGroupName, partition);
+    receivedBytes = RECEIVED_BYTES.labels(partitionGroupName, partition);
+    receivedChunks = RECEIVED_CHUNKS.labels(partitionGroupName, partition);
   }
 
   public void incrementCount() {
@@ -57,4 +76,9 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
   public void observeDuration(final long durationMillis) {
     duration.set(durationMillis);
   }
+
+  public void observeReceivedChunk(final int chunkSize) {
+    receivedBytes.inc(chunkSize);
+    receivedChunks.inc();
+  }
 }
@@ -16,6 +16,7 @@
  */
 package io.atomix.raft.partition;
 
+import io.atomix.raft.protocol.AppendCompressionAlgorithm;
 import io.atomix.raft.zeebe.EntryValidator;
 import java.time.Duration;
 
@@ -30,11 +31,18 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_MAX_INSTALLS_PER_FOLLOWER = 1;
+  private static final long DEFAULT_MAX_IN_FLIGHT_APPEND_BYTES_PER_FOLLOWER = 0;
+  private static final AppendCompressionAlgorithm DEFAULT_APPEND_COMPRESSION =
+      AppendCompressionAlgorithm.NONE;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
+  private long maxInFlightAppendBytesPerFollower = DEFAULT_MAX_IN_FLIGHT_APPEND_BYTES_PER_FOLLOWER;
+  private int maxInstallsPerFollower = DEFAULT_MAX_INSTALLS_PER_FOLLOWER;
   private int maxAppendBatchSize = 32 * 1024;
+  private AppendCompressionAlgorithm appendCompression = DEFAULT_APPEND_COMPRESSION;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -94,6 +102,51 @@ public class RaftPartitionConfig {
     this.maxAppendsPerFollower = maxAppendsPerFollower;
   }
 
+  /**
+   * Returns the maximum size of entries which are sent to a follower without being acknowledged.
+   *
+   * @return the maximum number of in-flight append bytes per follower, or 0 if disabled
+   */
+  public long getMaxInFlightAppendBytesPerFollower() {
+    return maxInFlightAppendBytesPerFollower;
+  }
+
+  /**
+   * Sets the maximum size of entries which are sent to a follower without being acknowledged. When
+   * set, further append requests are sent as soon as the follower acknowledges earlier ones, up to
+   * {@link #getMaxAppendsPerFollower()} requests. With 0, further append requests are spread over
+   * the mean round trip time of the previous ones instead.
+   *
+   * @param maxInFlightAppendBytesPerFollower the maximum number of in-flight append bytes per
+   *     follower
+   */
+  public RaftPartitionConfig setMaxInFlightAppendBytesPerFollower(
+      final long maxInFlightAppendBytesPerFollower) {
+    this.maxInFlightAppendBytesPerFollower = maxInFlightAppendBytesPerFollower;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of snapshot chunks which are sent to a follower without waiting for
+   * their responses.
+   *
+   * @return the maximum number of in-flight install requests per follower
+   */
+  public int getMaxInstallsPerFollower() {
+    return maxInstallsPerFollower;
+  }
+
+  /**
+   * Sets the maximum number of snapshot chunks which are sent to a follower without waiting for
+   * their responses. With 1, the next chunk is only sent once the previous one was acknowledged.
+   *
+   * @param maxInstallsPerFollower the maximum number of in-flight install requests per follower
+   */
+  public RaftPartitionConfig setMaxInstallsPerFollower(final int maxInstallsPerFollower) {
+    this.maxInstallsPerFollower = maxInstallsPerFollower;
+    return this;
+  }
+
   public int getMaxAppendBatchSize() {
     return maxAppendBatchSize;
   }
@@ -102,6 +155,29 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  /**
+   * Returns the algorithm with which the entries of append requests are compressed before they are
+   * sent to a follower.
+   *
+   * @return the append compression algorithm
+   */
+  public AppendCompressionAlgorithm getAppendCompression() {
+    return appendCompression;
+  }
+
+  /**
+   * Sets the algorithm with which the entries of append requests are compressed before they are
+   * sent to a follower. Followers which don't support compressed append requests keep receiving
+   * them uncompressed. Entries are always written uncompressed to the log.
+   *
+   * @param appendCompression the append compression algorithm
+   */
+  public RaftPartitionConfig setAppendCompression(
+      final AppendCompressionAlgorithm appendCompression) {
+    this.appendCompression = appendCompression;
+    return this;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -218,8 +294,14 @@ public class RaftPartitionConfig {
         + heartbeatInterval
         + ", maxAppendsPerFollower="
         + maxAppendsPerFollower
+        + ", maxInFlightAppendBytesPerFollower="
+        + maxInFlightAppendBytesPerFollower
+        + ", maxInstallsPerFollower="
+        + maxInstallsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", appendCompression="
+        + appendCompression
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
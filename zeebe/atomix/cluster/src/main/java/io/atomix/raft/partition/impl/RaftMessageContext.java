@@ -37,6 +37,8 @@ class RaftMessageContext {
   final String voteSubject;
   final String appendV1subject;
   final String appendV2subject;
+  final String appendCompressedSubject;
+  final String appendSbeSubject;
   final String leaderHeartbeatSubject;
 
   RaftMessageContext(final String prefix) {
@@ -58,6 +60,8 @@ class RaftMessageContext {
     voteSubject = getSubject(prefix, "vote");
     appendV1subject = getSubject(prefix, "append");
     appendV2subject = getSubject(prefix, "append-versioned");
+    appendCompressedSubject = getSubject(prefix, "append-compressed");
+    appendSbeSubject = getSubject(prefix, "append-sbe");
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
@@ -21,8 +21,10 @@ import io.atomix.raft.RaftError;
 import io.atomix.raft.RaftError.Type;
 import io.atomix.raft.cluster.RaftMember;
 import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.protocol.AppendCompressionAlgorithm;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.CompressedAppendRequest;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
 import io.atomix.raft.protocol.ForceConfigureRequest;
@@ -98,6 +100,8 @@ public final class RaftNamespaces {
           .register(LeaveResponse.class)
           .register(ForceConfigureRequest.class)
           .register(ForceConfigureResponse.class)
+          .register(CompressedAppendRequest.class)
+          .register(AppendCompressionAlgorithm.class)
           .name("RaftProtocol")
           .build();
 
@@ -314,7 +314,8 @@ public class RaftPartitionServer implements HealthMonitorable {
         clusterCommunicator,
         requestTimeout,
         snapshotRequestTimeout,
-        configurationChangeTimeout);
+        configurationChangeTimeout,
+        config.getAppendCompression());
   }
 
   public CompletableFuture<Void> stepDown() {
@@ -19,9 +19,13 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.metrics.RaftRequestMetrics;
+import io.atomix.raft.protocol.AppendCompressionAlgorithm;
+import io.atomix.raft.protocol.AppendEntriesCompressor;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.CompressedAppendRequest;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
 import io.atomix.raft.protocol.ForceConfigureRequest;
@@ -43,14 +47,25 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  private static final Logger LOG = LoggerFactory.getLogger(RaftServerCommunicator.class);
+  // members without support for a newer append request format are probed again after this delay,
+  // so that the format is picked up once they were updated
+  private static final long PROBE_INTERVAL_MS = Duration.ofMinutes(1).toMillis();
+
   private final RaftMessageContext context;
   private final Serializer serializer;
   private final ClusterCommunicationService clusterCommunicator;
@@ -58,6 +73,9 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   private final Duration requestTimeout;
   private final Duration snapshotRequestTimeout;
   private final Duration configurationChangeTimeout;
+  private final AppendEntriesCompressor appendCompressor;
+  private final Map<MemberId, Long> uncompressedAppendsUntil = new ConcurrentHashMap<>();
+  private final Map<MemberId, Long> kryoAppendsUntil = new ConcurrentHashMap<>();
 
   public RaftServerCommunicator(
       final String prefix,
@@ -65,7 +83,8 @@ public class RaftServerCommunicator implements RaftServerProtocol {
       final ClusterCommunicationService clusterCommunicator,
       final Duration requestTimeout,
       final Duration snapshotRequestTimeout,
-      final Duration configurationChangeTimeout) {
+      final Duration configurationChangeTimeout,
+      final AppendCompressionAlgorithm appendCompression) {
     context = new RaftMessageContext(prefix);
     this.serializer = Preconditions.checkNotNull(serializer, "serializer cannot be null");
     this.clusterCommunicator =
@@ -74,6 +93,7 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     this.snapshotRequestTimeout = snapshotRequestTimeout;
     this.configurationChangeTimeout = configurationChangeTimeout;
     metrics = new RaftRequestMetrics(prefix);
+    appendCompressor = new AppendEntriesCompressor(appendCompression, metrics);
   }
 
   @Override
@@ -137,9 +157,85 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
+    if (shouldCompress(memberId, request)) {
+      return withKryoFallback(
+          memberId,
+          request,
+          sendAndReceive(
+              context.appendCompressedSubject, appendCompressor.compress(request), memberId),
+          uncompressedAppendsUntil,
+          "compressed");
+    }
+
+    if (isSupported(memberId, kryoAppendsUntil)) {
+      return withKryoFallback(
+          memberId,
+          request,
+          sendAndReceive(
+              context.appendSbeSubject,
+              request,
+              RaftProtocolSBESerializer::encodeAppendRequest,
+              RaftProtocolSBESerializer::decodeAppendResponse,
+              memberId,
+              requestTimeout),
+          kryoAppendsUntil,
+          "SBE encoded");
+    }
+
     return sendAndReceive(context.appendV2subject, request, memberId);
   }
 
+  private boolean shouldCompress(final MemberId memberId, final VersionedAppendRequest request) {
+    return appendCompressor.isEnabled()
+        && !request.entries().isEmpty()
+        && isSupported(memberId, uncompressedAppendsUntil);
+  }
+
+  private static boolean isSupported(
+      final MemberId memberId, final Map<MemberId, Long> unsupportedUntil) {
+    final Long until = unsupportedUntil.get(memberId);
+    return until == null || until <= System.currentTimeMillis();
+  }
+
+  /**
+   * Falls back to a Kryo serialized {@link VersionedAppendRequest} if the member has no handler for
+   * the subject of the given response. If the fallback succeeds, the member is known to lack the
+   * newer subject, and the fallback is used right away for a while; otherwise the member isn't
+   * ready to handle any request yet.
+   */
+  private CompletableFuture<AppendResponse> withKryoFallback(
+      final MemberId memberId,
+      final VersionedAppendRequest request,
+      final CompletableFuture<AppendResponse> response,
+      final Map<MemberId, Long> unsupportedUntil,
+      final String format) {
+    return response.exceptionallyCompose(
+        error -> {
+          final var cause = error instanceof CompletionException ? error.getCause() : error;
+          if (!(cause instanceof NoRemoteHandler)) {
+            return CompletableFuture.failedFuture(error);
+          }
+
+          return this.<VersionedAppendRequest, AppendResponse>sendAndReceive(
+                  context.appendV2subject, request, memberId)
+              .thenApply(
+                  fallbackResponse -> {
+                    onUnsupported(memberId, unsupportedUntil, format);
+                    return fallbackResponse;
+                  });
+        });
+  }
+
+  private static void onUnsupported(
+      final MemberId memberId, final Map<MemberId, Long> unsupportedUntil, final String format) {
+    if (unsupportedUntil.put(memberId, System.currentTimeMillis() + PROBE_INTERVAL_MS) == null) {
+      LOG.info(
+          "Member {} does not support {} append requests, falling back to the previous format",
+          memberId,
+          format);
+    }
+  }
+
   @Override
   public void registerTransferHandler(
       final Function<TransferRequest, CompletableFuture<TransferResponse>> handler) {
@@ -293,12 +389,27 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.appendSbeSubject,
+        RaftProtocolSBESerializer::decodeAppendRequest,
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        RaftProtocolSBESerializer::encodeAppendResponse);
+    // compressed requests are always accepted, regardless of whether this member compresses its own
+    clusterCommunicator.replyTo(
+        context.appendCompressedSubject,
+        serializer::decode,
+        handler
+            .compose(appendCompressor::decompress)
+            .<CompressedAppendRequest>compose(this::recordReceivedMetrics),
+        serializer::encode);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendCompressedSubject);
+    clusterCommunicator.unsubscribe(context.appendSbeSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -308,11 +419,21 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   private <T, U> CompletableFuture<U> sendAndReceive(
       final String subject, final T request, final MemberId memberId, final Duration timeout) {
-    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
-    return clusterCommunicator.send(
+    return sendAndReceive(
         subject, request, serializer::encode, serializer::decode, memberId, timeout);
   }
 
+  private <T, U> CompletableFuture<U> sendAndReceive(
+      final String subject,
+      final T request,
+      final Function<T, byte[]> encoder,
+      final Function<byte[], U> decoder,
+      final MemberId memberId,
+      final Duration timeout) {
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator.send(subject, request, encoder, decoder, memberId, timeout);
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
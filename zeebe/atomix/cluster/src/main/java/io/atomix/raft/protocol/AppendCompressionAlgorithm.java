@@ -0,0 +1,18 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+/**
+ * The algorithms with which the entries of append requests can be compressed before they are sent
+ * to a follower. Entries are only compressed on the wire; they are written uncompressed to the log.
+ */
+public enum AppendCompressionAlgorithm {
+  NONE,
+  SNAPPY,
+  ZSTD
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import com.github.luben.zstd.Zstd;
+import io.atomix.raft.metrics.RaftRequestMetrics;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.Snappy;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Compresses the entries of a {@link VersionedAppendRequest} into a {@link
+ * CompressedAppendRequest}, and back. The entries are written one after another as term, index,
+ * checksum, length and the serialized journal record, and the whole batch is compressed at once, so
+ * that the keys which repeat across records are only sent once.
+ *
+ * <p>Compressing is not thread safe, as it reuses its buffer; decompressing is.
+ */
+public final class AppendEntriesCompressor {
+
+  private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+  private static final int ENTRY_HEADER_LENGTH = 3 * Long.BYTES + Integer.BYTES;
+  // netty's Snappy encodes offsets of up to 64KB only, so larger batches are split into blocks
+  private static final int SNAPPY_BLOCK_LENGTH = 32 * 1024;
+  // favour speed over ratio, as append requests are small and on the replication hot path
+  private static final int ZSTD_LEVEL = 1;
+
+  private final ExpandableArrayBuffer entriesBuffer = new ExpandableArrayBuffer();
+  private final AppendCompressionAlgorithm algorithm;
+  private final RaftRequestMetrics metrics;
+
+  public AppendEntriesCompressor(
+      final AppendCompressionAlgorithm algorithm, final RaftRequestMetrics metrics) {
+    this.algorithm = algorithm;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return true if append requests should be compressed, false if they are sent as they are
+   */
+  public boolean isEnabled() {
+    return algorithm != AppendCompressionAlgorithm.NONE;
+  }
+
+  public CompressedAppendRequest compress(final VersionedAppendRequest request) {
+    if (!isEnabled()) {
+      throw new IllegalStateException("Expected append compression to be enabled, but it is not");
+    }
+
+    final long startTime = System.nanoTime();
+    final int uncompressedLength = writeEntries(request.entries());
+    final byte[] compressedEntries =
+        switch (algorithm) {
+          case SNAPPY -> compressSnappy(uncompressedLength);
+          case ZSTD -> compressZstd(uncompressedLength);
+          case NONE -> throw new IllegalStateException("Unexpected algorithm " + algorithm);
+        };
+    metrics.observeAppendCompression(
+        algorithm.name(),
+        uncompressedLength,
+        compressedEntries.length,
+        System.nanoTime() - startTime);
+
+    return new CompressedAppendRequest(
+        request.term(),
+        request.leader().id(),
+        request.prevLogIndex(),
+        request.prevLogTerm(),
+        request.commitIndex(),
+        algorithm,
+        request.entries().size(),
+        uncompressedLength,
+        compressedEntries);
+  }
+
+  public VersionedAppendRequest decompress(final CompressedAppendRequest request) {
+    final long startTime = System.nanoTime();
+    final byte[] entries =
+        switch (request.algorithm()) {
+          case SNAPPY -> decompressSnappy(request);
+          case ZSTD -> decompressZstd(request);
+          case NONE -> request.compressedEntries();
+        };
+    final var builder =
+        VersionedAppendRequest.builder()
+            .withTerm(request.term())
+            .withLeader(request.leader())
+            .withPrevLogIndex(request.prevLogIndex())
+            .withPrevLogTerm(request.prevLogTerm())
+            .withCommitIndex(request.commitIndex())
+            .withEntries(readEntries(entries, request.entryCount()));
+    metrics.observeAppendDecompression(request.algorithm().name(), System.nanoTime() - startTime);
+
+    return builder.build();
+  }
+
+  private int writeEntries(final List<ReplicatableJournalRecord> entries) {
+    int offset = 0;
+    for (final var entry : entries) {
+      final byte[] serializedRecord = entry.serializedJournalRecord();
+      entriesBuffer.putLong(offset, entry.term(), ORDER);
+      entriesBuffer.putLong(offset + Long.BYTES, entry.index(), ORDER);
+      entriesBuffer.putLong(offset + 2 * Long.BYTES, entry.checksum(), ORDER);
+      entriesBuffer.putInt(offset + 3 * Long.BYTES, serializedRecord.length, ORDER);
+      entriesBuffer.putBytes(offset + ENTRY_HEADER_LENGTH, serializedRecord);
+      offset += ENTRY_HEADER_LENGTH + serializedRecord.length;
+    }
+
+    return offset;
+  }
+
+  private static List<ReplicatableJournalRecord> readEntries(
+      final byte[] entries, final int entryCount) {
+    final var buffer = new UnsafeBuffer(entries);
+    final List<ReplicatableJournalRecord> records = new ArrayList<>(entryCount);
+    int offset = 0;
+    for (int i = 0; i < entryCount; i++) {
+      final long term = buffer.getLong(offset, ORDER);
+      final long index = buffer.getLong(offset + Long.BYTES, ORDER);
+      final long checksum = buffer.getLong(offset + 2 * Long.BYTES, ORDER);
+      final int length = buffer.getInt(offset + 3 * Long.BYTES, ORDER);
+      final byte[] serializedRecord = new byte[length];
+      buffer.getBytes(offset + ENTRY_HEADER_LENGTH, serializedRecord);
+      records.add(new ReplicatableJournalRecord(term, index, checksum, serializedRecord));
+      offset += ENTRY_HEADER_LENGTH + length;
+    }
+
+    return records;
+  }
+
+  private byte[] compressSnappy(final int length) {
+    final ByteBuf in = Unpooled.wrappedBuffer(entriesBuffer.byteArray(), 0, length);
+    final ByteBuf out = Unpooled.buffer(length / 2 + Integer.BYTES);
+    final var snappy = new Snappy();
+    while (in.isReadable()) {
+      // each block is prefixed with its compressed length
+      final int lengthIndex = out.writerIndex();
+      out.writeInt(0);
+      // netty's Snappy only compresses buffers from their start, so each block is a slice
+      final int blockLength = Math.min(in.readableBytes(), SNAPPY_BLOCK_LENGTH);
+      snappy.encode(in.readSlice(blockLength), out, blockLength);
+      out.setInt(lengthIndex, out.writerIndex() - lengthIndex - Integer.BYTES);
+      snappy.reset();
+    }
+
+    final byte[] compressed = new byte[out.readableBytes()];
+    out.readBytes(compressed);
+    return compressed;
+  }
+
+  private static byte[] decompressSnappy(final CompressedAppendRequest request) {
+    final ByteBuf in = Unpooled.wrappedBuffer(request.compressedEntries());
+    final ByteBuf out = Unpooled.wrappedBuffer(new byte[request.uncompressedLength()]);
+    out.writerIndex(0);
+    final var snappy = new Snappy();
+    while (in.isReadable()) {
+      final int blockLength = in.readInt();
+      snappy.decode(in.readSlice(blockLength), out);
+      snappy.reset();
+    }
+
+    if (out.writerIndex() != request.uncompressedLength()) {
+      throw new IllegalStateException(
+          "Expected to decompress %d bytes of entries, but got %d"
+              .formatted(request.uncompressedLength(), out.writerIndex()));
+    }
+    return out.array();
+  }
+
+  private byte[] compressZstd(final int length) {
+    final byte[] compressed = new byte[(int) Zstd.compressBound(length)];
+    final long compressedLength =
+        Zstd.compressByteArray(
+            compressed, 0, compressed.length, entriesBuffer.byteArray(), 0, length, ZSTD_LEVEL);
+    if (Zstd.isError(compressedLength)) {
+      throw new IllegalStateException(
+          "Failed to compress entries: " + Zstd.getErrorName(compressedLength));
+    }
+
+    final byte[] result = new byte[(int) compressedLength];
+    System.arraycopy(compressed, 0, result, 0, result.length);
+    return result;
+  }
+
+  private static byte[] decompressZstd(final CompressedAppendRequest request) {
+    final byte[] compressed = request.compressedEntries();
+    final byte[] entries = new byte[request.uncompressedLength()];
+    final long length =
+        Zstd.decompressByteArray(entries, 0, entries.length, compressed, 0, compressed.length);
+    if (Zstd.isError(length) || length != entries.length) {
+      throw new IllegalStateException(
+          "Expected to decompress %d bytes of entries, but got %s"
+              .formatted(
+                  entries.length, Zstd.isError(length) ? Zstd.getErrorName(length) : length));
+    }
+
+    return entries;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+import io.atomix.cluster.MemberId;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Append request whose entries are compressed as one batch, see {@link AppendEntriesCompressor}. It
+ * is sent instead of a {@link VersionedAppendRequest} to followers which understand it, and is
+ * decompressed back into one before it is handled.
+ */
+public class CompressedAppendRequest extends AbstractRaftRequest {
+
+  private final long term;
+  private final String leader;
+  private final long prevLogIndex;
+  private final long prevLogTerm;
+  private final long commitIndex;
+  private final AppendCompressionAlgorithm algorithm;
+  private final int entryCount;
+  private final int uncompressedLength;
+  private final byte[] compressedEntries;
+
+  public CompressedAppendRequest(
+      final long term,
+      final String leader,
+      final long prevLogIndex,
+      final long prevLogTerm,
+      final long commitIndex,
+      final AppendCompressionAlgorithm algorithm,
+      final int entryCount,
+      final int uncompressedLength,
+      final byte[] compressedEntries) {
+    this.term = term;
+    this.leader = leader;
+    this.prevLogIndex = prevLogIndex;
+    this.prevLogTerm = prevLogTerm;
+    this.commitIndex = commitIndex;
+    this.algorithm = algorithm;
+    this.entryCount = entryCount;
+    this.uncompressedLength = uncompressedLength;
+    this.compressedEntries = compressedEntries;
+  }
+
+  public long term() {
+    return term;
+  }
+
+  public MemberId leader() {
+    return MemberId.from(leader);
+  }
+
+  public long prevLogIndex() {
+    return prevLogIndex;
+  }
+
+  public long prevLogTerm() {
+    return prevLogTerm;
+  }
+
+  public long commitIndex() {
+    return commitIndex;
+  }
+
+  public AppendCompressionAlgorithm algorithm() {
+    return algorithm;
+  }
+
+  public int entryCount() {
+    return entryCount;
+  }
+
+  public int uncompressedLength() {
+    return uncompressedLength;
+  }
+
+  public byte[] compressedEntries() {
+    return compressedEntries;
+  }
+
+  @Override
+  public MemberId from() {
+    return leader();
+  }
+
+  @Override
+  public int hashCode() {
+    int result =
+        Objects.hash(
+            term,
+            leader,
+            prevLogIndex,
+            prevLogTerm,
+            commitIndex,
+            algorithm,
+            entryCount,
+            uncompressedLength);
+    result = 31 * result + Arrays.hashCode(compressedEntries);
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final CompressedAppendRequest that = (CompressedAppendRequest) o;
+    return term == that.term
+        && prevLogIndex == that.prevLogIndex
+        && prevLogTerm == that.prevLogTerm
+        && commitIndex == that.commitIndex
+        && entryCount == that.entryCount
+        && uncompressedLength == that.uncompressedLength
+        && leader.equals(that.leader)
+        && algorithm == that.algorithm
+        && Arrays.equals(compressedEntries, that.compressedEntries);
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("term", term)
+        .add("leader", leader)
+        .add("prevLogIndex", prevLogIndex)
+        .add("prevLogTerm", prevLogTerm)
+        .add("commitIndex", commitIndex)
+        .add("algorithm", algorithm)
+        .add("entries", entryCount)
+        .add("uncompressedLength", uncompressedLength)
+        .add("compressedLength", compressedEntries.length)
+        .toString();
+  }
+}
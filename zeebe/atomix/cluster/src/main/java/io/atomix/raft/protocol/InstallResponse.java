@@ -20,33 +20,59 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
  * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * the request was successful, except for the response to the initial request, which may contain the
+ * checksums of the files of the receiver's latest snapshot. The leader then does not send the files
+ * which the receiver already has.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the checksums of the files of the receiver's latest snapshot (or null if unknown)
+  protected HashMap<String, Long> snapshotFileChecksums;
 
   public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+    this(status, error, preferredChunkSize, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> snapshotFileChecksums) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.snapshotFileChecksums = snapshotFileChecksums;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * @return the checksums of the files of the receiver's latest snapshot by file name, or null if
+   *     the receiver did not send them
+   */
+  public Map<String, Long> snapshotFileChecksums() {
+    return snapshotFileChecksums;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add(
+            "snapshotFileChecksums",
+            snapshotFileChecksums == null ? null : snapshotFileChecksums.size() + " files")
         .toString();
   }
 
@@ -62,17 +88,24 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashMap<String, Long> snapshotFileChecksums;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, snapshotFileChecksums);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withSnapshotFileChecksums(final Map<String, Long> snapshotFileChecksums) {
+      this.snapshotFileChecksums =
+          snapshotFileChecksums == null ? null : new HashMap<>(snapshotFileChecksums);
+      return this;
+    }
   }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.serializer.AppendRequestEncoder.EntriesEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Encodes the hot Raft messages with SBE, as an alternative to the reflective Kryo serialization of
+ * {@link io.atomix.raft.partition.impl.RaftNamespaces#RAFT_PROTOCOL}. Messages are encoded directly
+ * into an array of their exact length, and decoded straight from the received array.
+ *
+ * <p>The flyweights are kept per thread, as messages are encoded and decoded on the Raft thread as
+ * well as on the messaging threads.
+ */
+public final class RaftProtocolSBESerializer {
+
+  private static final ThreadLocal<Codec> CODEC = ThreadLocal.withInitial(Codec::new);
+
+  private RaftProtocolSBESerializer() {}
+
+  public static byte[] encodeAppendRequest(final VersionedAppendRequest request) {
+    final var codec = CODEC.get();
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final List<ReplicatableJournalRecord> entries = request.entries();
+
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    for (final var entry : entries) {
+      length +=
+          EntriesEncoder.sbeBlockLength()
+              + EntriesEncoder.serializedJournalRecordHeaderLength()
+              + entry.serializedJournalRecord().length;
+    }
+
+    final var buffer = codec.wrap(new byte[length]);
+    final var encoder =
+        codec
+            .appendRequestEncoder
+            .wrapAndApplyHeader(buffer, 0, codec.headerEncoder)
+            .version(request.version())
+            .term(request.term())
+            .prevLogIndex(request.prevLogIndex())
+            .prevLogTerm(request.prevLogTerm())
+            .commitIndex(request.commitIndex());
+    final var entriesEncoder = encoder.entriesCount(entries.size());
+    for (final var entry : entries) {
+      final byte[] serializedRecord = entry.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(entry.term())
+          .index(entry.index())
+          .checksum(entry.checksum())
+          .putSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+    }
+    encoder.putLeader(leader, 0, leader.length);
+
+    return buffer.byteArray();
+  }
+
+  public static VersionedAppendRequest decodeAppendRequest(final byte[] bytes) {
+    final var codec = CODEC.get();
+    final var decoder = codec.appendRequestDecoder;
+    decoder.wrapAndApplyHeader(
+        codec.readHeader(bytes, decoder.sbeTemplateId()), 0, codec.headerDecoder);
+
+    final int version = decoder.version();
+    final long term = decoder.term();
+    final long prevLogIndex = decoder.prevLogIndex();
+    final long prevLogTerm = decoder.prevLogTerm();
+    final long commitIndex = decoder.commitIndex();
+    final EntriesDecoder entriesDecoder = decoder.entries();
+    final List<ReplicatableJournalRecord> entries = new ArrayList<>(entriesDecoder.count());
+    for (final var entry : entriesDecoder) {
+      final long entryTerm = entry.term();
+      final long index = entry.index();
+      final long checksum = entry.checksum();
+      final byte[] serializedRecord = new byte[entry.serializedJournalRecordLength()];
+      entry.getSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+      entries.add(new ReplicatableJournalRecord(entryTerm, index, checksum, serializedRecord));
+    }
+
+    return new VersionedAppendRequest(
+        version, term, decoder.leader(), prevLogIndex, prevLogTerm, entries, commitIndex);
+  }
+
+  public static byte[] encodeAppendResponse(final AppendResponse response) {
+    final var codec = CODEC.get();
+    final RaftError error = response.error();
+    final byte[] errorMessage =
+        error == null || error.message() == null
+            ? new byte[0]
+            : error.message().getBytes(StandardCharsets.UTF_8);
+    final int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendResponseEncoder.BLOCK_LENGTH
+            + AppendResponseEncoder.errorMessageHeaderLength()
+            + errorMessage.length;
+
+    final var buffer = codec.wrap(new byte[length]);
+    codec
+        .appendResponseEncoder
+        .wrapAndApplyHeader(buffer, 0, codec.headerEncoder)
+        .status(response.status() == Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR)
+        .errorType(error == null ? ErrorType.NONE : ErrorType.valueOf(error.type().name()))
+        .term(response.term())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .configurationIndex(response.configurationIndex())
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+
+    return buffer.byteArray();
+  }
+
+  public static AppendResponse decodeAppendResponse(final byte[] bytes) {
+    final var codec = CODEC.get();
+    final var decoder = codec.appendResponseDecoder;
+    decoder.wrapAndApplyHeader(
+        codec.readHeader(bytes, decoder.sbeTemplateId()), 0, codec.headerDecoder);
+
+    final Status status = decoder.status() == ResponseStatus.OK ? Status.OK : Status.ERROR;
+    final ErrorType errorType = decoder.errorType();
+    final long term = decoder.term();
+    final boolean succeeded = decoder.succeeded() == BooleanType.TRUE;
+    final long lastLogIndex = decoder.lastLogIndex();
+    final long lastSnapshotIndex = decoder.lastSnapshotIndex();
+    final long configurationIndex = decoder.configurationIndex();
+    final String errorMessage = decoder.errorMessage();
+    final RaftError error =
+        errorType == ErrorType.NONE
+            ? null
+            : new RaftError(
+                RaftError.Type.valueOf(errorType.name()),
+                errorMessage.isEmpty() ? null : errorMessage);
+
+    return new AppendResponse(
+        status, error, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+  }
+
+  private static final class Codec {
+    private final UnsafeBuffer buffer = new UnsafeBuffer();
+    private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+    private final AppendRequestEncoder appendRequestEncoder = new AppendRequestEncoder();
+    private final AppendRequestDecoder appendRequestDecoder = new AppendRequestDecoder();
+    private final AppendResponseEncoder appendResponseEncoder = new AppendResponseEncoder();
+    private final AppendResponseDecoder appendResponseDecoder = new AppendResponseDecoder();
+
+    private UnsafeBuffer wrap(final byte[] bytes) {
+      buffer.wrap(bytes);
+      return buffer;
+    }
+
+    private DirectBuffer readHeader(final byte[] bytes, final int expectedTemplateId) {
+      headerDecoder.wrap(wrap(bytes), 0);
+      if (headerDecoder.schemaId() != MessageHeaderDecoder.SCHEMA_ID
+          || headerDecoder.templateId() != expectedTemplateId) {
+        throw new IllegalArgumentException(
+            "Expected to decode message with schema %d and template %d, but got schema %d and template %d"
+                .formatted(
+                    MessageHeaderDecoder.SCHEMA_ID,
+                    expectedTemplateId,
+                    headerDecoder.schemaId(),
+                    headerDecoder.templateId()));
+      }
+      return buffer;
+    }
+  }
+}
@@ -205,7 +205,10 @@ final class LeaderAppender {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final int requestBytes = approximateSize(request.entries());
+    final long appendEpoch = member.getAppendEpoch();
+    member.startAppend(requestBytes);
+    observeInFlightAppends(member);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -219,14 +222,16 @@ final class LeaderAppender {
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
                 if (!request.entries().isEmpty()) {
-                  member.completeAppend(appendLatency);
+                  member.completeAppend(appendLatency, requestBytes);
                 } else {
                   member.completeAppend();
                 }
+                observeInFlightAppends(member);
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(
+                      member, request, requestBytes, response, timestamp, appendEpoch);
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
@@ -279,6 +284,13 @@ final class LeaderAppender {
     }
   }
 
+  private void observeInFlightAppends(final RaftMemberContext member) {
+    final var memberId = member.getMember().memberId().id();
+    final var replicationMetrics = raft.getReplicationMetrics();
+    replicationMetrics.setFollowerInFlightAppendBytes(memberId, member.getInFlightAppendBytes());
+    replicationMetrics.setFollowerAppendRoundTripTime(memberId, member.getMeanAppendTime());
+  }
+
   private void observeRemainingMemberEntries(final RaftMemberContext member) {
     metrics.observeRemainingEntries(
         member.getMember().memberId().id(), raft.getLog().getLastIndex() - member.getMatchIndex());
@@ -449,8 +461,13 @@ final class LeaderAppender {
 
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
-    // Start the install to the member.
+    // Start the install to the member. The next chunk can be sent before this one is acknowledged,
+    // if more than one install request is allowed to be in flight. The chunks following the initial
+    // one are only sent once it was acknowledged, as its response determines which files to skip.
     member.startInstall();
+    if (!request.isInitial()) {
+      member.setNextSnapshotChunkId(request.nextChunkId());
+    }
 
     final long timestamp = System.currentTimeMillis();
 
@@ -487,6 +504,9 @@ final class LeaderAppender {
     if (!isTimeout) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+    } else if (member.getNextSnapshotIndex() == request.index()) {
+      // Resend the chunk which timed out; the follower acknowledges it again if it was received
+      member.setNextSnapshotChunkId(request.isInitial() ? null : request.chunkId());
     }
 
     // Log the failed attempt to contact the member.
@@ -512,9 +532,14 @@ final class LeaderAppender {
       member.setNextSnapshotChunkId(null);
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
-    }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
+    } else if (request.isInitial()
+        && member.getNextSnapshotIndex() == request.index()
+        && member.getNextSnapshotChunk() == null) {
+      if (response.snapshotFileChecksums() != null) {
+        member
+            .getSnapshotChunkReader()
+            .skipFilesAvailableAtReceiver(response.snapshotFileChecksums());
+      }
       member.setNextSnapshotChunkId(request.nextChunkId());
     }
 
@@ -672,10 +697,12 @@ final class LeaderAppender {
   private void handleAppendResponse(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
+      final int requestBytes,
       final AppendResponse response,
-      final long timestamp) {
+      final long timestamp,
+      final long appendEpoch) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, requestBytes, response, appendEpoch);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -685,7 +712,9 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
-      final AppendResponse response) {
+      final int requestBytes,
+      final AppendResponse response,
+      final long appendEpoch) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -696,9 +725,7 @@ final class LeaderAppender {
       member.appendSucceeded();
       updateMatchIndex(member, response);
       metrics.observeAppend(
-          member.getMember().memberId().id(),
-          request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          member.getMember().memberId().id(), request.entries().size(), requestBytes);
 
       commitEntries();
 
@@ -722,7 +749,15 @@ final class LeaderAppender {
     // log. This helps
     // us converge on the matchIndex faster than by simply decrementing nextIndex one index at a
     // time.
-    else {
+    else if (appendEpoch != member.getAppendEpoch()) {
+      // The request was sent before the last rewind, so the member was already reset with the
+      // rejection of an earlier pipelined request. Rewinding again would only resend entries
+      // which are already in flight.
+      log.trace(
+          "Ignoring rejected append {} from {}, next index was already reset",
+          response,
+          member.getMember().memberId());
+    } else {
       member.appendFailed();
       resetMatchIndex(member, response);
       resetNextIndex(member, response);
@@ -792,6 +827,14 @@ final class LeaderAppender {
     }
   }
 
+  private static int approximateSize(final List<ReplicatableJournalRecord> entries) {
+    int size = 0;
+    for (final var entry : entries) {
+      size += entry.approximateSize();
+    }
+    return size;
+  }
+
   private boolean hasMoreEntries(final RaftMemberContext member) {
     // If the member's nextIndex is an entry in the local log then more entries can be sent.
     return !member.hasReplicationContext() || member.hasNextEntry();
@@ -908,8 +951,14 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // fill the window of in-flight install requests, which is a single request by default
+    do {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+      sendInstallRequest(member, installRequest.get());
+    } while (member.canInstall());
   }
 
   private void replicateEvents(final RaftMemberContext member) {
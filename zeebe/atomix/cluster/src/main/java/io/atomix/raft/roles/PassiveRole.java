@@ -49,6 +49,7 @@ import io.atomix.raft.storage.system.Configuration;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
@@ -58,6 +59,7 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -163,6 +165,7 @@ public class PassiveRole extends InactiveRole {
     // Process the request
 
     // If there is no pending snapshot, create a new snapshot.
+    Map<String, Long> latestSnapshotFileChecksums = null;
     if (pendingSnapshot == null) {
       // if we have no pending snapshot then the request must be the first chunk, otherwise we could
       // receive an old request and end up in a strange state
@@ -203,10 +206,19 @@ public class PassiveRole extends InactiveRole {
       // When all chunks of the snapshot is received the log will be reset. Hence notify the
       // listeners in advance so that they can close all consumers of the log.
       raft.notifySnapshotReplicationStarted();
+
+      // the leader can skip the files which are part of our latest snapshot already
+      latestSnapshotFileChecksums =
+          raft.getPersistedSnapshotStore()
+              .getLatestSnapshot()
+              .map(PersistedSnapshot::getChecksums)
+              .map(ImmutableChecksumsSFV::getChecksums)
+              .orElse(null);
     }
 
     try {
       pendingSnapshot.apply(snapshotChunk).join();
+      snapshotReplicationMetrics.observeReceivedChunk(snapshotChunkBuffer.capacity());
     } catch (final Exception e) {
       log.warn(
           "Failed to write pending snapshot chunk {}, rolling back snapshot {}",
@@ -267,6 +279,7 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withSnapshotFileChecksums(latestSnapshotFileChecksums)
                 .build()));
   }
 
@@ -17,7 +17,11 @@ package io.atomix.raft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
 import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import java.time.Duration;
 import java.util.stream.Collectors;
 import org.awaitility.Awaitility;
 import org.junit.Rule;
@@ -36,7 +40,11 @@ public class RaftReplicationTest {
     return new Object[][] {
       new Object[] {RaftRule.withBootstrappedNodes(3)},
       new Object[] {RaftRule.withBootstrappedNodes(4)},
-      new Object[] {RaftRule.withBootstrappedNodes(5)}
+      new Object[] {RaftRule.withBootstrappedNodes(5)},
+      // sends several snapshot chunks without waiting for the previous ones to be acknowledged
+      new Object[] {RaftRule.withBootstrappedNodes(3, new PipelinedInstallConfigurator())},
+      // sends append requests as long as the follower's in-flight bytes stay below the window
+      new Object[] {RaftRule.withBootstrappedNodes(3, new PipelinedAppendConfigurator())}
     };
   }
 
@@ -161,4 +169,26 @@ public class RaftReplicationTest {
                         .size()
                     == 1);
   }
+
+  private static final class PipelinedInstallConfigurator implements Configurator {
+    @Override
+    public void configure(final MemberId id, final RaftServer.Builder builder) {
+      builder.withPartitionConfig(
+          new RaftPartitionConfig()
+              .setElectionTimeout(Duration.ofSeconds(1))
+              .setHeartbeatInterval(Duration.ofMillis(100))
+              .setMaxInstallsPerFollower(3));
+    }
+  }
+
+  private static final class PipelinedAppendConfigurator implements Configurator {
+    @Override
+    public void configure(final MemberId id, final RaftServer.Builder builder) {
+      builder.withPartitionConfig(
+          new RaftPartitionConfig()
+              .setElectionTimeout(Duration.ofSeconds(1))
+              .setHeartbeatInterval(Duration.ofMillis(100))
+              .setMaxInFlightAppendBytesPerFollower(64 * 1024));
+    }
+  }
 }
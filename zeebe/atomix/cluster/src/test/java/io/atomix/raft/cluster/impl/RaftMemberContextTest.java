@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogReader;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private static final int MAX_APPENDS = 10;
+  private static final long MAX_IN_FLIGHT_APPEND_BYTES = 100;
+
+  private final RaftMemberContext member = createMemberContext();
+
+  @Test
+  void shouldAppendWhileInFlightBytesAreBelowWindow() {
+    // given
+    member.startAppend(60);
+    member.appendSucceeded();
+
+    // when - then
+    assertThat(member.canAppend()).isTrue();
+    assertThat(member.getInFlightAppendBytes()).isEqualTo(60);
+  }
+
+  @Test
+  void shouldNotAppendWhenInFlightBytesExceedWindow() {
+    // given
+    member.startAppend(60);
+    member.appendSucceeded();
+
+    // when
+    member.startAppend(60);
+
+    // then
+    assertThat(member.canAppend()).isFalse();
+    assertThat(member.getInFlightAppendBytes()).isEqualTo(120);
+  }
+
+  @Test
+  void shouldAppendAgainWhenAcknowledgedBytesFreeWindow() {
+    // given
+    member.startAppend(60);
+    member.appendSucceeded();
+    member.startAppend(60);
+
+    // when
+    member.completeAppend(5, 60);
+
+    // then
+    assertThat(member.canAppend()).isTrue();
+    assertThat(member.getInFlightAppendBytes()).isEqualTo(60);
+    assertThat(member.getMeanAppendTime()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldNotPipelineAppendsAfterFailedAppend() {
+    // given
+    member.startAppend(10);
+
+    // when
+    member.appendFailed();
+
+    // then
+    assertThat(member.canAppend()).isFalse();
+  }
+
+  @Test
+  void shouldNotTrackNegativeInFlightBytesAfterStateReset() {
+    // given
+    member.startAppend(60);
+    member.resetState(mock(RaftLog.class));
+
+    // when
+    member.completeAppend(5, 60);
+
+    // then
+    assertThat(member.getInFlightAppendBytes()).isZero();
+  }
+
+  @Test
+  void shouldStartNewAppendEpochOnReset() {
+    // given
+    final var log = mock(RaftLog.class);
+    final var reader = mock(RaftLogReader.class);
+    when(log.openUncommittedReader()).thenReturn(reader);
+    when(reader.seek(4)).thenReturn(4L);
+    member.openReplicationContext(log);
+    final long epoch = member.getAppendEpoch();
+
+    // when
+    member.reset(5);
+
+    // then
+    assertThat(member.getAppendEpoch()).isEqualTo(epoch + 1);
+  }
+
+  private static RaftMemberContext createMemberContext() {
+    final var raftMember = mock(DefaultRaftMember.class, RETURNS_SELF);
+    when(raftMember.getType()).thenReturn(Type.ACTIVE);
+    return new RaftMemberContext(
+        raftMember, mock(RaftClusterContext.class), MAX_APPENDS, MAX_IN_FLIGHT_APPEND_BYTES, 1);
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendCompressionAlgorithm;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.CompressedAppendRequest;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Serializer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+final class RaftServerCommunicatorTest {
+
+  private static final String PREFIX = "raft-partition-partition-1";
+  private static final String APPEND_SUBJECT = PREFIX + "-append-versioned";
+  private static final String COMPRESSED_APPEND_SUBJECT = PREFIX + "-append-compressed";
+  private static final String SBE_APPEND_SUBJECT = PREFIX + "-append-sbe";
+  private static final MemberId FOLLOWER = MemberId.from("1");
+
+  private final ClusterCommunicationService clusterCommunicator =
+      mock(ClusterCommunicationService.class);
+  private final AppendResponse response =
+      AppendResponse.builder()
+          .withStatus(Status.ERROR)
+          .withError(RaftError.Type.UNAVAILABLE)
+          .build();
+
+  @Test
+  void shouldSendCompressedAppendRequest() {
+    // given
+    final var communicator = newCommunicator(AppendCompressionAlgorithm.ZSTD);
+    respondOn(COMPRESSED_APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+
+    // when
+    final var result = communicator.append(FOLLOWER, appendRequest(List.of(entry())));
+
+    // then
+    assertThat(result).isCompletedWithValue(response);
+    verify(clusterCommunicator)
+        .send(
+            eq(COMPRESSED_APPEND_SUBJECT),
+            any(CompressedAppendRequest.class),
+            any(),
+            any(),
+            eq(FOLLOWER),
+            any());
+    verify(clusterCommunicator, never())
+        .send(eq(APPEND_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldNotCompressEmptyAppendRequest() {
+    // given
+    final var communicator = newCommunicator(AppendCompressionAlgorithm.ZSTD);
+    respondOn(SBE_APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+
+    // when
+    final var result = communicator.append(FOLLOWER, appendRequest(List.of()));
+
+    // then
+    assertThat(result).isCompletedWithValue(response);
+    verify(clusterCommunicator, never())
+        .send(eq(COMPRESSED_APPEND_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldNotCompressIfDisabled() {
+    // given
+    final var communicator = newCommunicator(AppendCompressionAlgorithm.NONE);
+    respondOn(SBE_APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+
+    // when
+    final var result = communicator.append(FOLLOWER, appendRequest(List.of(entry())));
+
+    // then
+    assertThat(result).isCompletedWithValue(response);
+    verify(clusterCommunicator, never())
+        .send(eq(COMPRESSED_APPEND_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldFallBackToUncompressedIfFollowerDoesNotSupportIt() {
+    // given
+    final var communicator = newCommunicator(AppendCompressionAlgorithm.SNAPPY);
+    respondOn(
+        COMPRESSED_APPEND_SUBJECT,
+        CompletableFuture.failedFuture(new NoRemoteHandler(COMPRESSED_APPEND_SUBJECT)));
+    respondOn(SBE_APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+    respondOn(APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+
+    // when
+    final var first = communicator.append(FOLLOWER, appendRequest(List.of(entry())));
+    final var second = communicator.append(FOLLOWER, appendRequest(List.of(entry())));
+
+    // then - the second request is sent uncompressed right away
+    assertThat(first).isCompletedWithValue(response);
+    assertThat(second).isCompletedWithValue(response);
+    verify(clusterCommunicator, times(1))
+        .send(eq(COMPRESSED_APPEND_SUBJECT), any(), any(), any(), any(), any());
+    verify(clusterCommunicator, times(1))
+        .send(eq(APPEND_SUBJECT), any(), any(), any(), any(), any());
+    verify(clusterCommunicator, times(1))
+        .send(eq(SBE_APPEND_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldSendSbeEncodedAppendRequest() {
+    // given
+    final var communicator = newCommunicator(AppendCompressionAlgorithm.NONE);
+    respondOn(SBE_APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+
+    // when
+    final var result = communicator.append(FOLLOWER, appendRequest(List.of(entry())));
+
+    // then
+    assertThat(result).isCompletedWithValue(response);
+    verify(clusterCommunicator)
+        .send(
+            eq(SBE_APPEND_SUBJECT),
+            any(VersionedAppendRequest.class),
+            any(),
+            any(),
+            eq(FOLLOWER),
+            any());
+    verify(clusterCommunicator, never())
+        .send(eq(APPEND_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldFallBackToKryoIfFollowerDoesNotSupportSbe() {
+    // given
+    final var communicator = newCommunicator(AppendCompressionAlgorithm.NONE);
+    respondOn(
+        SBE_APPEND_SUBJECT,
+        CompletableFuture.failedFuture(new NoRemoteHandler(SBE_APPEND_SUBJECT)));
+    respondOn(APPEND_SUBJECT, CompletableFuture.completedFuture(response));
+
+    // when
+    final var first = communicator.append(FOLLOWER, appendRequest(List.of(entry())));
+    final var second = communicator.append(FOLLOWER, appendRequest(List.of()));
+
+    // then - the second request is serialized with Kryo right away
+    assertThat(first).isCompletedWithValue(response);
+    assertThat(second).isCompletedWithValue(response);
+    verify(clusterCommunicator, times(1))
+        .send(eq(SBE_APPEND_SUBJECT), any(), any(), any(), any(), any());
+    verify(clusterCommunicator, times(2))
+        .send(eq(APPEND_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldKeepSbeEncodingIfFollowerIsNotReady() {
+    // given
+    final var communicator = newCommunicator(AppendCompressionAlgorithm.NONE);
+    respondOn(
+        SBE_APPEND_SUBJECT,
+        CompletableFuture.failedFuture(new NoRemoteHandler(SBE_APPEND_SUBJECT)));
+    respondOn(APPEND_SUBJECT, CompletableFuture.failedFuture(new NoRemoteHandler(APPEND_SUBJECT)));
+
+    // when
+    final var first = communicator.append(FOLLOWER, appendRequest(List.of()));
+    communicator.append(FOLLOWER, appendRequest(List.of()));
+
+    // then
+    assertThat(first).isCompletedExceptionally();
+    verify(clusterCommunicator, times(2))
+        .send(eq(SBE_APPEND_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldKeepCompressingIfFollowerIsNotReady() {
+    // given
+    final var communicator = newCommunicator(AppendCompressionAlgorithm.SNAPPY);
+    respondOn(
+        COMPRESSED_APPEND_SUBJECT,
+        CompletableFuture.failedFuture(new NoRemoteHandler(COMPRESSED_APPEND_SUBJECT)));
+    respondOn(APPEND_SUBJECT, CompletableFuture.failedFuture(new NoRemoteHandler(APPEND_SUBJECT)));
+
+    // when
+    final var first = communicator.append(FOLLOWER, appendRequest(List.of(entry())));
+    communicator.append(FOLLOWER, appendRequest(List.of(entry())));
+
+    // then - neither subject has a handler yet, so compression is not given up
+    assertThat(first).isCompletedExceptionally();
+    verify(clusterCommunicator, times(2))
+        .send(eq(COMPRESSED_APPEND_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  private RaftServerCommunicator newCommunicator(final AppendCompressionAlgorithm compression) {
+    return new RaftServerCommunicator(
+        PREFIX,
+        Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+        clusterCommunicator,
+        Duration.ofSeconds(5),
+        Duration.ofSeconds(5),
+        Duration.ofSeconds(5),
+        compression);
+  }
+
+  private void respondOn(final String subject, final CompletableFuture<Object> result) {
+    when(clusterCommunicator.send(eq(subject), any(), any(), any(), any(), any()))
+        .thenReturn(result);
+  }
+
+  private static VersionedAppendRequest appendRequest(
+      final List<ReplicatableJournalRecord> entries) {
+    return VersionedAppendRequest.builder()
+        .withTerm(1)
+        .withLeader(MemberId.from("0"))
+        .withPrevLogIndex(0)
+        .withPrevLogTerm(0)
+        .withCommitIndex(0)
+        .withEntries(entries)
+        .build();
+  }
+
+  private static ReplicatableJournalRecord entry() {
+    return new ReplicatableJournalRecord(1, 1, 1, new byte[] {1, 2, 3});
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.metrics.RaftRequestMetrics;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.EnumSource.Mode;
+
+final class AppendEntriesCompressorTest {
+
+  private final RaftRequestMetrics metrics = new RaftRequestMetrics("raft-partition-partition-1");
+
+  @ParameterizedTest
+  @EnumSource(value = AppendCompressionAlgorithm.class, names = "NONE", mode = Mode.EXCLUDE)
+  void shouldDecompressCompressedEntries(final AppendCompressionAlgorithm algorithm) {
+    // given
+    final var compressor = new AppendEntriesCompressor(algorithm, metrics);
+    final var request = appendRequest(entries(10, 128));
+
+    // when
+    final var compressed = compressor.compress(request);
+    final var decompressed = compressor.decompress(compressed);
+
+    // then
+    assertThat(compressed.algorithm()).isEqualTo(algorithm);
+    assertThat(compressed.entryCount()).isEqualTo(10);
+    assertThat(decompressed.term()).isEqualTo(request.term());
+    assertThat(decompressed.leader()).isEqualTo(request.leader());
+    assertThat(decompressed.prevLogIndex()).isEqualTo(request.prevLogIndex());
+    assertThat(decompressed.prevLogTerm()).isEqualTo(request.prevLogTerm());
+    assertThat(decompressed.commitIndex()).isEqualTo(request.commitIndex());
+    assertThat(decompressed.entries()).containsExactlyElementsOf(request.entries());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = AppendCompressionAlgorithm.class, names = "NONE", mode = Mode.EXCLUDE)
+  void shouldDecompressEntriesLargerThanOneBlock(final AppendCompressionAlgorithm algorithm) {
+    // given
+    final var compressor = new AppendEntriesCompressor(algorithm, metrics);
+    final var request = appendRequest(entries(100, 4 * 1024));
+
+    // when
+    final var decompressed = compressor.decompress(compressor.compress(request));
+
+    // then
+    assertThat(decompressed.entries()).containsExactlyElementsOf(request.entries());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = AppendCompressionAlgorithm.class, names = "NONE", mode = Mode.EXCLUDE)
+  void shouldCompressRepetitiveEntries(final AppendCompressionAlgorithm algorithm) {
+    // given
+    final var compressor = new AppendEntriesCompressor(algorithm, metrics);
+    final var request = appendRequest(entries(10, 1024));
+
+    // when
+    final var compressed = compressor.compress(request);
+
+    // then
+    assertThat(compressed.compressedEntries().length)
+        .isLessThan(compressed.uncompressedLength() / 2);
+  }
+
+  @Test
+  void shouldReuseBufferAcrossRequests() {
+    // given
+    final var compressor = new AppendEntriesCompressor(AppendCompressionAlgorithm.ZSTD, metrics);
+    final var large = appendRequest(entries(10, 1024));
+    final var small = appendRequest(entries(1, 16));
+
+    // when
+    compressor.compress(large);
+    final var decompressed = compressor.decompress(compressor.compress(small));
+
+    // then
+    assertThat(decompressed.entries()).containsExactlyElementsOf(small.entries());
+  }
+
+  @Test
+  void shouldNotCompressWhenDisabled() {
+    // given
+    final var compressor = new AppendEntriesCompressor(AppendCompressionAlgorithm.NONE, metrics);
+
+    // when - then
+    assertThat(compressor.isEnabled()).isFalse();
+    assertThatThrownBy(() -> compressor.compress(appendRequest(entries(1, 16))))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldDecompressWhenDisabled() {
+    // given
+    final var compressor = new AppendEntriesCompressor(AppendCompressionAlgorithm.SNAPPY, metrics);
+    final var request = appendRequest(entries(3, 64));
+    final var compressed = compressor.compress(request);
+
+    // when
+    final var decompressed =
+        new AppendEntriesCompressor(AppendCompressionAlgorithm.NONE, metrics)
+            .decompress(compressed);
+
+    // then
+    assertThat(decompressed.entries()).containsExactlyElementsOf(request.entries());
+  }
+
+  @Test
+  void shouldSerializeCompressedRequest() {
+    // given
+    final var serializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+    final var compressor = new AppendEntriesCompressor(AppendCompressionAlgorithm.ZSTD, metrics);
+    final var compressed = compressor.compress(appendRequest(entries(3, 64)));
+
+    // when
+    final CompressedAppendRequest deserialized = serializer.decode(serializer.encode(compressed));
+
+    // then
+    assertThat(deserialized).isEqualTo(compressed);
+  }
+
+  private static VersionedAppendRequest appendRequest(
+      final List<ReplicatableJournalRecord> entries) {
+    return VersionedAppendRequest.builder()
+        .withTerm(3)
+        .withLeader(MemberId.from("0"))
+        .withPrevLogIndex(9)
+        .withPrevLogTerm(2)
+        .withCommitIndex(8)
+        .withEntries(entries)
+        .build();
+  }
+
+  private static List<ReplicatableJournalRecord> entries(final int count, final int length) {
+    final var entries = new ArrayList<ReplicatableJournalRecord>(count);
+    for (int i = 0; i < count; i++) {
+      final var record = new byte[length];
+      final var pattern =
+          ("elementId-task-" + i + "-jobType-worker;").getBytes(StandardCharsets.UTF_8);
+      for (int j = 0; j < length; j++) {
+        record[j] = pattern[j % pattern.length];
+      }
+      entries.add(new ReplicatableJournalRecord(3, 10 + i, 31L * i, record));
+    }
+    return entries;
+  }
+}
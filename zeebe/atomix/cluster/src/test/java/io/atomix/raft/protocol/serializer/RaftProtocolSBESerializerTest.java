@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class RaftProtocolSBESerializerTest {
+
+  @Test
+  void shouldEncodeAndDecodeAppendRequest() {
+    // given
+    final var request =
+        appendRequest(
+            List.of(
+                new ReplicatableJournalRecord(3, 10, 123L, new byte[] {1, 2, 3}),
+                new ReplicatableJournalRecord(3, 11, 456L, new byte[1024])));
+
+    // when
+    final var decoded =
+        RaftProtocolSBESerializer.decodeAppendRequest(
+            RaftProtocolSBESerializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.entries()).containsExactlyElementsOf(request.entries());
+  }
+
+  @Test
+  void shouldEncodeAndDecodeHeartbeat() {
+    // given
+    final var request = appendRequest(List.of());
+
+    // when
+    final var decoded =
+        RaftProtocolSBESerializer.decodeAppendRequest(
+            RaftProtocolSBESerializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.entries()).isEmpty();
+  }
+
+  @Test
+  void shouldEncodeAndDecodeSuccessfulAppendResponse() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.OK)
+            .withTerm(3)
+            .withSucceeded(true)
+            .withLastLogIndex(11)
+            .withLastSnapshotIndex(5)
+            .withConfigurationIndex(2)
+            .build();
+
+    // when
+    final var decoded =
+        RaftProtocolSBESerializer.decodeAppendResponse(
+            RaftProtocolSBESerializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error()).isNull();
+  }
+
+  @Test
+  void shouldEncodeAndDecodeFailedAppendResponse() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.ERROR)
+            .withError(new RaftError(RaftError.Type.PROTOCOL_ERROR, "unexpected term"))
+            .build();
+
+    // when
+    final var decoded =
+        RaftProtocolSBESerializer.decodeAppendResponse(
+            RaftProtocolSBESerializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.ERROR);
+    assertThat(decoded.error().type()).isEqualTo(RaftError.Type.PROTOCOL_ERROR);
+    assertThat(decoded.error().message()).isEqualTo("unexpected term");
+  }
+
+  @Test
+  void shouldEncodeAndDecodeErrorWithoutMessage() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.ERROR)
+            .withError(RaftError.Type.UNAVAILABLE)
+            .build();
+
+    // when
+    final var decoded =
+        RaftProtocolSBESerializer.decodeAppendResponse(
+            RaftProtocolSBESerializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded.error().type()).isEqualTo(RaftError.Type.UNAVAILABLE);
+    assertThat(decoded.error().message()).isNull();
+  }
+
+  @Test
+  void shouldRejectOtherMessage() {
+    // given
+    final var response =
+        RaftProtocolSBESerializer.encodeAppendResponse(
+            AppendResponse.builder()
+                .withStatus(Status.ERROR)
+                .withError(RaftError.Type.UNAVAILABLE)
+                .build());
+
+    // when - then
+    assertThatThrownBy(() -> RaftProtocolSBESerializer.decodeAppendRequest(response))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static VersionedAppendRequest appendRequest(
+      final List<ReplicatableJournalRecord> entries) {
+    return VersionedAppendRequest.builder()
+        .withTerm(3)
+        .withLeader(MemberId.from("leader-0"))
+        .withPrevLogIndex(9)
+        .withPrevLogTerm(2)
+        .withCommitIndex(8)
+        .withEntries(entries)
+        .build();
+  }
+}
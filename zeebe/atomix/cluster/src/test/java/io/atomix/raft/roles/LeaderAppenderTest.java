@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.metrics.RaftReplicationMetrics;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.concurrent.SingleThreadContext;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class LeaderAppenderTest {
+
+  private final RaftContext raft = mock(RaftContext.class, RETURNS_DEEP_STUBS);
+  private final RaftMemberContext member = mock(RaftMemberContext.class, RETURNS_DEEP_STUBS);
+  private final List<CompletableFuture<AppendResponse>> sentAppends = new CopyOnWriteArrayList<>();
+  private final SingleThreadContext threadContext = new SingleThreadContext("leader");
+  private LeaderAppender appender;
+
+  @BeforeEach
+  void setup() {
+    when(raft.getName()).thenReturn("leader");
+    when(raft.getTerm()).thenReturn(1L);
+    when(raft.getElectionTimeout()).thenReturn(Duration.ofSeconds(10));
+    when(raft.getMaxQuorumResponseTimeout()).thenReturn(Duration.ZERO);
+    when(raft.getThreadContext()).thenReturn(threadContext);
+    when(raft.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
+    when(raft.getCurrentSnapshot()).thenReturn(null);
+    when(raft.getLeader().memberId()).thenReturn(MemberId.from("leader"));
+    when(raft.getCluster().getReplicationTargets()).thenReturn(Set.of(member));
+    when(raft.getProtocol().append(any(MemberId.class), any(VersionedAppendRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final var response = new CompletableFuture<AppendResponse>();
+              sentAppends.add(response);
+              return response;
+            });
+
+    when(member.isOpen()).thenReturn(true);
+    when(member.hasReplicationContext()).thenReturn(true);
+    when(member.getConfigTerm()).thenReturn(1L);
+    when(member.getMember().getType()).thenReturn(Type.ACTIVE);
+    when(member.getMember().memberId()).thenReturn(MemberId.from("follower"));
+    when(member.canAppend()).thenReturn(true);
+    when(member.canHeartbeat()).thenReturn(true);
+
+    appender = new LeaderAppender(new LeaderRole(raft));
+  }
+
+  @AfterEach
+  void tearDown() {
+    appender.close();
+    threadContext.close();
+  }
+
+  @Test
+  void shouldRewindMemberOnRejectionInCurrentEpoch() {
+    // given
+    when(member.getAppendEpoch()).thenReturn(0L);
+    appender.appendEntries();
+
+    // when
+    sentAppends.getFirst().complete(rejection(3));
+
+    // then
+    verify(member, timeout(5_000)).reset(4);
+    verify(member).appendFailed();
+  }
+
+  @Test
+  void shouldIgnoreRejectionFromBeforeLastRewind() {
+    // given - the member was rewound while the request was in flight
+    when(member.getAppendEpoch()).thenReturn(0L, 1L);
+    appender.appendEntries();
+
+    // when
+    sentAppends.getFirst().complete(rejection(3));
+
+    // then
+    verify(member, timeout(5_000)).setResponseTime(anyLong());
+    verify(member, never()).appendFailed();
+    verify(member, never()).reset(anyLong());
+  }
+
+  private static AppendResponse rejection(final long lastLogIndex) {
+    return AppendResponse.builder()
+        .withStatus(Status.OK)
+        .withTerm(1)
+        .withSucceeded(false)
+        .withLastLogIndex(lastLogIndex)
+        .withLastSnapshotIndex(0)
+        .build();
+  }
+}
@@ -19,11 +19,14 @@ import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -38,6 +41,8 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private final boolean isBatchExporter;
+  private final List<Record<?>> acceptedRecords = new ArrayList<>();
   private long position;
   private boolean exporterIsSoftPaused = false;
   private long lastUnacknowledgedPosition;
@@ -64,6 +69,16 @@ final class ExporterContainer implements Controller {
             clock);
 
     exporter = descriptor.newInstance();
+    isBatchExporter = overridesExportBatch(exporter);
+  }
+
+  private static boolean overridesExportBatch(final Exporter exporter) {
+    try {
+      return exporter.getClass().getMethod("exportBatch", List.class).getDeclaringClass()
+          != Exporter.class;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
   }
 
   void initContainer(
@@ -231,6 +246,47 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  /**
+   * @return true if the exporter implements {@link Exporter#exportBatch(List)} itself, in which
+   *     case records should be passed with {@link #exportBatch(List)} instead of one by one
+   */
+  boolean isBatchExporter() {
+    return isBatchExporter;
+  }
+
+  /**
+   * Exports all records of the batch which were not yet exported and are accepted by the filter of
+   * the exporter with a single call. If none of the records is accepted, the position of an
+   * up-to-date exporter is moved to the end of the batch, same as when skipping single records.
+   */
+  boolean exportBatch(final List<TypedRecordImpl> records) {
+    acceptedRecords.clear();
+    try {
+      for (final TypedRecordImpl record : records) {
+        if (position < record.getPosition() && acceptRecord(record.getMetadata())) {
+          acceptedRecords.add(record);
+        }
+      }
+
+      if (!acceptedRecords.isEmpty()) {
+        ThreadContextUtil.runWithClassLoader(
+            () -> exporter.exportBatch(acceptedRecords), exporter.getClass().getClassLoader());
+        lastUnacknowledgedPosition = acceptedRecords.getLast().getPosition();
+      }
+      updatePositionOnSkipIfUpToDate(records.getLast().getPosition());
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of {} records starting at position {}",
+              records.size(),
+              records.getFirst().getPosition(),
+              ex);
+      return false;
+    }
+  }
+
   void softPauseExporter() {
     exporterIsSoftPaused = true;
   }
@@ -53,7 +53,7 @@ import org.slf4j.Logger;
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
+      "Expected to export records from position {} to {} successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
@@ -93,6 +93,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
   private final InstantSource clock;
+  private final int maxBatchSize;
 
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
@@ -102,6 +103,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     partitionId = logStream.getPartitionId();
     meterRegistry = context.getMeterRegistry();
     clock = context.getClock();
+    maxBatchSize = context.getMaxBatchSize();
     containers =
         context.getDescriptors().entrySet().stream()
             .map(
@@ -617,16 +619,33 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private void readNextEvent() {
     if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
+      readNextBatch();
+      if (recordExporter.isEmpty()) {
+        skipRecord(logStreamReader.next());
       } else {
-        skipRecord(currentEvent);
+        inExportingPhase = true;
+        exportBatch();
       }
     }
   }
 
+  /**
+   * Adds consecutive events which pass the event filter to the batch, until the batch is full or an
+   * event is filtered out. Filtered events are only consumed by {@link #skipRecord(LoggedEvent)}
+   * when the batch is empty, as skipping updates the positions of up-to-date exporters, which must
+   * not happen while earlier records are not yet exported.
+   */
+  private void readNextBatch() {
+    recordExporter.clear();
+    while (recordExporter.size() < maxBatchSize && logStreamReader.hasNext()) {
+      if (eventFilter != null && !eventFilter.applies(logStreamReader.peekNext())) {
+        return;
+      }
+
+      recordExporter.add(logStreamReader.next());
+    }
+  }
+
   private boolean shouldExport() {
     return isOpened.get()
         && !idle
@@ -635,11 +654,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         && !exporterPhase.equals(ExporterPhase.PAUSED);
   }
 
-  private void exportEvent(final LoggedEvent event) {
+  private void exportBatch() {
     final ActorFuture<Boolean> wrapRetryFuture =
         recordWrapStrategy.runWithRetry(
             () -> {
-              recordExporter.wrap(event);
+              recordExporter.wrap();
               return true;
             },
             this::isClosed);
@@ -656,13 +675,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
               retryFuture,
               (bool, throwable) -> {
                 if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  LOG.error(
+                      ERROR_MESSAGE_EXPORTING_ABORTED,
+                      recordExporter.getFirstPosition(),
+                      recordExporter.getLastPosition(),
+                      throwable);
                   onFailure();
                 } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  logStream.getFlowControl().onExported(recordExporter.getLastPosition());
+                  for (int i = 0; i < recordExporter.size(); i++) {
+                    metrics.eventExported(recordExporter.getValueType(i));
+                  }
                   inExportingPhase = false;
                   actor.submit(this::readNextEvent);
                 }
@@ -36,6 +36,14 @@ public final class ExporterMetrics {
           .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_EXPORTER, LABEL_NAME_VALUE_TYPE)
           .register();
 
+  private static final Histogram EXPORTER_BATCH_EXPORTING_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE_ZEEBE)
+          .name("exporter_batch_exporting_duration")
+          .help("The time an exporter needs to export a batch of records (duration in seconds)")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_EXPORTER)
+          .register();
+
   private static final Counter EXPORTER_EVENTS =
       Counter.build()
           .namespace(NAMESPACE_ZEEBE)
@@ -123,6 +131,10 @@ public final class ExporterMetrics {
         .startTimer();
   }
 
+  public Histogram.Timer startExporterBatchExportingTimer(final String exporter) {
+    return EXPORTER_BATCH_EXPORTING_DURATION.labels(partitionIdLabel, exporter).startTimer();
+  }
+
   public void initializeExporterState(final ExporterPhase state) {
     switch (state) {
       case PAUSED:
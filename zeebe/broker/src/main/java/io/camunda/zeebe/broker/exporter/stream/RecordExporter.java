@@ -7,25 +7,41 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
-import io.camunda.zeebe.stream.impl.records.RecordValues;
+import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.camunda.zeebe.util.ReflectUtil;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-
+import java.util.Map;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Exports a batch of consecutive records to all containers. The events are copied into reusable
+ * slots when they are added, as the reader does not guarantee that the underlying buffer of an
+ * event stays valid once it moved on.
+ *
+ * <p>Containers of batch exporters receive the whole batch with one call, all other containers get
+ * the records one by one. If exporting fails, the next call to {@link #export()} continues with the
+ * container (and for per-record containers with the record) which failed.
+ */
 final class RecordExporter {
 
-  private final RecordValues recordValues = new RecordValues();
-  private final RecordMetadata rawMetadata = new RecordMetadata();
+  private final List<RecordSlot> slots = new ArrayList<>();
+  private final List<TypedRecordImpl> records = new ArrayList<>();
   private final List<ExporterContainer> containers;
-  private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
+  private final int partitionId;
 
-  private boolean shouldExport;
+  private int size;
   private int exporterIndex;
+  private int recordIndex;
   private final InstantSource clock;
 
   RecordExporter(
@@ -34,50 +50,87 @@ final class RecordExporter {
       final int partitionId,
       final InstantSource clock) {
     this.containers = containers;
-    typedEvent = new TypedRecordImpl(partitionId);
+    this.partitionId = partitionId;
     this.exporterMetrics = exporterMetrics;
     this.clock = clock;
   }
 
-  void wrap(final LoggedEvent rawEvent) {
-    rawEvent.readMetadata(rawMetadata);
+  /** Copies the given event into the next free slot of the batch. */
+  void add(final LoggedEvent rawEvent) {
+    if (size == slots.size()) {
+      slots.add(new RecordSlot(partitionId));
+    }
 
-    final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+    slots.get(size++).copy(rawEvent);
+  }
 
-    shouldExport = recordValue != null;
-    if (shouldExport) {
-      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-      exporterIndex = 0;
+  /**
+   * Reads the metadata and values of all added events. Events without a known value type are part
+   * of the batch, but are not exported.
+   */
+  void wrap() {
+    records.clear();
+    for (int i = 0; i < size; i++) {
+      final RecordSlot slot = slots.get(i);
+      if (slot.wrap()) {
+        records.add(slot.record);
+      }
     }
+
+    exporterIndex = 0;
+    recordIndex = 0;
   }
 
   boolean export() {
-    if (!shouldExport) {
+    if (records.isEmpty()) {
       return true;
     }
 
-    final ValueType valueType = typedEvent.getValueType();
     // exporting latency tracks time
     // from record written to exporting of record started
     final long currentMillis = clock.millis();
     // we track this here already, even if it is not successful as otherwise
     // we might get no metric at all when exporting is not possible
     // this allows us to observe that exporting latency is increasing
-    exporterMetrics.exportingLatency(valueType, typedEvent.getTimestamp(), currentMillis);
+    for (final TypedRecordImpl record : records) {
+      exporterMetrics.exportingLatency(record.getValueType(), record.getTimestamp(), currentMillis);
+    }
 
     final int exportersCount = containers.size();
+    final long lastPosition = records.getLast().getPosition();
 
-    // current error handling strategy is simply to repeat forever until the record can be
+    // current error handling strategy is simply to repeat forever until the batch can be
     // successfully exported.
     while (exporterIndex < exportersCount) {
       final ExporterContainer container = containers.get(exporterIndex);
 
+      if (container.isBatchExporter()) {
+        try (final var timer =
+            exporterMetrics.startExporterBatchExportingTimer(container.getId())) {
+          if (!container.exportBatch(records)) {
+            return false;
+          }
+        }
+      } else if (!exportRecords(container)) {
+        return false;
+      }
+
+      exporterMetrics.setLastExportedPosition(container.getId(), lastPosition);
+      exporterIndex++;
+      recordIndex = 0;
+    }
+
+    return true;
+  }
+
+  private boolean exportRecords(final ExporterContainer container) {
+    while (recordIndex < records.size()) {
+      final TypedRecordImpl record = records.get(recordIndex);
+
       try (final var timer =
-          exporterMetrics.startExporterExportingTimer(valueType, container.getId())) {
-        if (container.exportRecord(rawMetadata, typedEvent)) {
-          exporterIndex++;
-          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+          exporterMetrics.startExporterExportingTimer(record.getValueType(), container.getId())) {
+        if (container.exportRecord(record.getMetadata(), record)) {
+          recordIndex++;
         } else {
           return false;
         }
@@ -87,11 +140,69 @@ final class RecordExporter {
     return true;
   }
 
-  TypedRecordImpl getTypedEvent() {
-    return typedEvent;
+  /** Removes all events from the batch, the slots are kept for the next batch. */
+  void clear() {
+    size = 0;
+    records.clear();
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  ValueType getValueType(final int index) {
+    return slots.get(index).metadata.getValueType();
+  }
+
+  long getFirstPosition() {
+    return slots.getFirst().event.getPosition();
+  }
+
+  long getLastPosition() {
+    return slots.get(size - 1).event.getPosition();
   }
 
   public void resetExporterIndex() {
     exporterIndex = 0;
+    recordIndex = 0;
+  }
+
+  private static final class RecordSlot {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    // values are cached per slot, as every record of the batch needs its own instance
+    private final Map<ValueType, UnifiedRecordValue> values = new EnumMap<>(ValueType.class);
+    private final TypedRecordImpl record;
+
+    private RecordSlot(final int partitionId) {
+      record = new TypedRecordImpl(partitionId);
+    }
+
+    private void copy(final LoggedEvent rawEvent) {
+      rawEvent.write(buffer, 0);
+      event.wrap(buffer, 0);
+    }
+
+    private boolean wrap() {
+      event.readMetadata(metadata);
+
+      final ValueType valueType = metadata.getValueType();
+      final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
+      if (valueClass == null) {
+        return false;
+      }
+
+      final UnifiedRecordValue value =
+          values.computeIfAbsent(valueType, type -> ReflectUtil.newInstance(valueClass));
+      value.reset();
+      event.readValue(value);
+      record.wrap(event, metadata, value);
+      return true;
+    }
   }
 }
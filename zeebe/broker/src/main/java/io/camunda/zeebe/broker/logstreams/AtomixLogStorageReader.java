@@ -28,12 +28,10 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>Note that due to the look-ahead, calling {@link #hasNext()} may result in doing some I/O and
  * mutating the state of the reader.
  *
- * <p>The reader currently simply returns the block as is without copying it - this is safe at the
- * moment because the serialization in the underlying {@link io.atomix.raft.storage.log.RaftLog}
- * already copies the data from disk. When switching to zero-copy, however, because of the
- * look-ahead, this reader will have to copy the block. At that point, we may want to look into
- * doing more than a single-step look-ahead (either here or in the {@link
- * io.camunda.zeebe.logstreams.log.LogStreamReader}).
+ * <p>The reader returns the block as is without copying it, i.e. as a view into the mapped journal
+ * segment. This is safe despite the look-ahead, as the journal reader keeps the segment it read
+ * from last mapped until it advances past the next one, so the current block remains valid while
+ * the next one is read. Seeking releases any previously returned blocks.
  */
 public final class AtomixLogStorageReader implements LogStorageReader {
 
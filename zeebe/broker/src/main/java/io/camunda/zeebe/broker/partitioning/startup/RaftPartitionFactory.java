@@ -86,6 +86,8 @@ public final class RaftPartitionFactory {
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
+    partitionConfig.setMaxInFlightAppendBytesPerFollower(
+        brokerCfg.getExperimental().getMaxInFlightAppendSizeInBytes());
     partitionConfig.setPriorityElectionEnabled(
         brokerCfg.getCluster().getRaft().isEnablePriorityElection());
     partitionConfig.setElectionTimeout(brokerCfg.getCluster().getElectionTimeout());
@@ -103,6 +105,10 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setMaxInstallsPerFollower(
+        brokerCfg.getExperimental().getRaft().getMaxInFlightSnapshotChunks());
+    partitionConfig.setAppendCompression(
+        brokerCfg.getExperimental().getRaft().getAppendCompression());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
@@ -50,6 +50,8 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String MAX_IN_FLIGHT_APPEND_SIZE_ERROR_MSG =
+      "Expected to have an in-flight append size maximum which is non negative, but was '%s'.";
 
   private final Duration shutdownTimeout;
   private final BrokerCfg brokerCfg;
@@ -124,6 +126,12 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final var maxInFlightAppendSize = experimental.getMaxInFlightAppendSize();
+    if (maxInFlightAppendSize != null && maxInFlightAppendSize.isNegative()) {
+      throw new IllegalArgumentException(
+          String.format(MAX_IN_FLIGHT_APPEND_SIZE_ERROR_MSG, maxInFlightAppendSize));
+    }
+
     final var partitioningConfig = experimental.getPartitioning();
     if (partitioningConfig.getScheme() == Scheme.FIXED) {
       validateFixedPartitioningScheme(cluster, experimental);
@@ -21,10 +21,12 @@ public class ExperimentalCfg implements ConfigurationEntry {
 
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
+  public static final DataSize DEFAULT_MAX_IN_FLIGHT_APPEND_SIZE = DataSize.ofBytes(0);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
+  private DataSize maxInFlightAppendSize = DEFAULT_MAX_IN_FLIGHT_APPEND_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
@@ -62,6 +64,20 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return Optional.ofNullable(maxAppendBatchSize).orElse(DEFAULT_MAX_APPEND_BATCH_SIZE).toBytes();
   }
 
+  public DataSize getMaxInFlightAppendSize() {
+    return maxInFlightAppendSize;
+  }
+
+  public void setMaxInFlightAppendSize(final DataSize maxInFlightAppendSize) {
+    this.maxInFlightAppendSize = maxInFlightAppendSize;
+  }
+
+  public long getMaxInFlightAppendSizeInBytes() {
+    return Optional.ofNullable(maxInFlightAppendSize)
+        .orElse(DEFAULT_MAX_IN_FLIGHT_APPEND_SIZE)
+        .toBytes();
+  }
+
   /**
    * @deprecated Deprecated in favor of {@link RaftCfg#getFlush()}. The equivalent is a null
    *     configuration, e.g. {@link new FlushConfig(null)}. Will be removed in 8.3.0.
@@ -144,6 +160,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", maxInFlightAppendSize="
+        + maxInFlightAppendSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
         + ", rocksdb="
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static io.camunda.zeebe.broker.system.configuration.ClusterCfg.DEFAULT_ELECTION_TIMEOUT;
 
+import io.atomix.raft.protocol.AppendCompressionAlgorithm;
 import java.time.Duration;
 import org.springframework.util.unit.DataSize;
 
@@ -24,6 +25,9 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 1;
+  private static final AppendCompressionAlgorithm DEFAULT_APPEND_COMPRESSION =
+      AppendCompressionAlgorithm.NONE;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -31,6 +35,8 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
+  private int maxInFlightSnapshotChunks = DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS;
+  private AppendCompressionAlgorithm appendCompression = DEFAULT_APPEND_COMPRESSION;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
 
@@ -90,6 +96,22 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public AppendCompressionAlgorithm getAppendCompression() {
+    return appendCompression;
+  }
+
+  public void setAppendCompression(final AppendCompressionAlgorithm appendCompression) {
+    this.appendCompression = appendCompression;
+  }
+
   public boolean isPreallocateSegmentFiles() {
     return preallocateSegmentFiles;
   }
@@ -13,7 +13,13 @@ import java.util.Set;
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_REPLAY_TRANSACTION_LIMIT = 1;
+  private static final int DEFAULT_COALESCING_LIMIT = 1;
+  private static final Duration DEFAULT_COALESCING_TARGET_LATENCY = Duration.ofMillis(10);
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private Integer maxEventsInReplayTransaction = DEFAULT_REPLAY_TRANSACTION_LIMIT;
+  private Integer maxCoalescedCommands = DEFAULT_COALESCING_LIMIT;
+  private Duration coalescingTargetLatency = DEFAULT_COALESCING_TARGET_LATENCY;
   private boolean enableAsyncScheduledTasks = true;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
@@ -24,6 +30,19 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxEventsInReplayTransaction < 1) {
+      throw new IllegalArgumentException(
+          "maxEventsInReplayTransaction must be >= 1 but was %s"
+              .formatted(maxEventsInReplayTransaction));
+    }
+    if (maxCoalescedCommands < 1) {
+      throw new IllegalArgumentException(
+          "maxCoalescedCommands must be >= 1 but was %s".formatted(maxCoalescedCommands));
+    }
+    if (!coalescingTargetLatency.isPositive()) {
+      throw new IllegalArgumentException(
+          "coalescingTargetLatency must be positive but was %s".formatted(coalescingTargetLatency));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -39,6 +58,30 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxEventsInReplayTransaction() {
+    return maxEventsInReplayTransaction;
+  }
+
+  public void setMaxEventsInReplayTransaction(final int maxEventsInReplayTransaction) {
+    this.maxEventsInReplayTransaction = maxEventsInReplayTransaction;
+  }
+
+  public int getMaxCoalescedCommands() {
+    return maxCoalescedCommands;
+  }
+
+  public void setMaxCoalescedCommands(final int maxCoalescedCommands) {
+    this.maxCoalescedCommands = maxCoalescedCommands;
+  }
+
+  public Duration getCoalescingTargetLatency() {
+    return coalescingTargetLatency;
+  }
+
+  public void setCoalescingTargetLatency(final Duration coalescingTargetLatency) {
+    this.coalescingTargetLatency = coalescingTargetLatency;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -60,6 +103,12 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", maxEventsInReplayTransaction="
+        + maxEventsInReplayTransaction
+        + ", maxCoalescedCommands="
+        + maxCoalescedCommands
+        + ", coalescingTargetLatency="
+        + coalescingTargetLatency
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + ", scheduledTaskCheckInterval="
@@ -8,7 +8,10 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +31,7 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private Map<String, RocksdbColumnFamilyCfg> dedicatedColumnFamilies = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +125,15 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public Map<String, RocksdbColumnFamilyCfg> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public void setDedicatedColumnFamilies(
+      final Map<String, RocksdbColumnFamilyCfg> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -130,6 +143,13 @@ public final class RocksdbCfg implements ConfigurationEntry {
   }
 
   public RocksDbConfiguration createRocksDbConfiguration() {
+    final var dedicatedColumnFamilyConfigurations =
+        new HashMap<String, ColumnFamilyConfiguration>();
+    dedicatedColumnFamilies.forEach(
+        (name, cfg) ->
+            dedicatedColumnFamilyConfigurations.put(
+                name.toUpperCase(), cfg.createColumnFamilyConfiguration()));
+
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
         .setMaxOpenFiles(maxOpenFiles)
@@ -139,7 +159,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setDedicatedColumnFamilies(dedicatedColumnFamilyConfigurations);
   }
 
   @Override
@@ -165,6 +186,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", dedicatedColumnFamilies="
+        + dedicatedColumnFamilies
         + '}';
   }
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyConfiguration;
+import org.rocksdb.CompactionStyle;
+
+/** Configuration of a dedicated RocksDB column family, see {@link RocksdbCfg}. */
+public final class RocksdbColumnFamilyCfg {
+
+  private CompactionStyle compactionStyle = ColumnFamilyConfiguration.DEFAULT_COMPACTION_STYLE;
+  private boolean enablePrefixBloom = ColumnFamilyConfiguration.DEFAULT_PREFIX_BLOOM_ENABLED;
+  private boolean enableWholeKeyFiltering =
+      ColumnFamilyConfiguration.DEFAULT_WHOLE_KEY_FILTERING_ENABLED;
+
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  public void setCompactionStyle(final CompactionStyle compactionStyle) {
+    this.compactionStyle = compactionStyle;
+  }
+
+  public boolean isEnablePrefixBloom() {
+    return enablePrefixBloom;
+  }
+
+  public void setEnablePrefixBloom(final boolean enablePrefixBloom) {
+    this.enablePrefixBloom = enablePrefixBloom;
+  }
+
+  public boolean isEnableWholeKeyFiltering() {
+    return enableWholeKeyFiltering;
+  }
+
+  public void setEnableWholeKeyFiltering(final boolean enableWholeKeyFiltering) {
+    this.enableWholeKeyFiltering = enableWholeKeyFiltering;
+  }
+
+  public ColumnFamilyConfiguration createColumnFamilyConfiguration() {
+    return new ColumnFamilyConfiguration()
+        .setCompactionStyle(compactionStyle)
+        .setPrefixBloomEnabled(enablePrefixBloom)
+        .setWholeKeyFilteringEnabled(enableWholeKeyFiltering);
+  }
+
+  @Override
+  public String toString() {
+    return "RocksdbColumnFamilyCfg{"
+        + "compactionStyle="
+        + compactionStyle
+        + ", enablePrefixBloom="
+        + enablePrefixBloom
+        + ", enableWholeKeyFiltering="
+        + enableWholeKeyFiltering
+        + '}';
+  }
+}
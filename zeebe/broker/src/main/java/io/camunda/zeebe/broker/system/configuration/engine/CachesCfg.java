@@ -9,11 +9,15 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private boolean enableSharedModelCache = EngineConfiguration.DEFAULT_ENABLE_SHARED_MODEL_CACHE;
+  private DataSize sharedModelCacheMaxSize =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_SHARED_MODEL_CACHE_MAX_WEIGHT);
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -39,6 +43,22 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public boolean isEnableSharedModelCache() {
+    return enableSharedModelCache;
+  }
+
+  public void setEnableSharedModelCache(final boolean enableSharedModelCache) {
+    this.enableSharedModelCache = enableSharedModelCache;
+  }
+
+  public DataSize getSharedModelCacheMaxSize() {
+    return sharedModelCacheMaxSize;
+  }
+
+  public void setSharedModelCacheMaxSize(final DataSize sharedModelCacheMaxSize) {
+    this.sharedModelCacheMaxSize = sharedModelCacheMaxSize;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -48,6 +68,10 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", enableSharedModelCache="
+        + enableSharedModelCache
+        + ", sharedModelCacheMaxSize="
+        + sharedModelCacheMaxSize
         + '}';
   }
 }
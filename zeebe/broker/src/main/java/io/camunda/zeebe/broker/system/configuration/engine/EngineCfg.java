@@ -11,20 +11,26 @@ import io.camunda.zeebe.broker.system.configuration.AuthorizationsCfg;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.deployment.ExecutableModelCache;
 
 public final class EngineCfg implements ConfigurationEntry {
 
   private MessagesCfg messages = new MessagesCfg();
   private CachesCfg caches = new CachesCfg();
   private JobsCfg jobs = new JobsCfg();
+  private TimersCfg timers = new TimersCfg();
   private ValidatorsCfg validators = new ValidatorsCfg();
   private AuthorizationsCfg authorizations = new AuthorizationsCfg();
 
+  // shared by the engines of all partitions of the broker, created on first use
+  private ExecutableModelCache sharedModelCache;
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     messages.init(globalConfig, brokerBase);
     caches.init(globalConfig, brokerBase);
     jobs.init(globalConfig, brokerBase);
+    timers.init(globalConfig, brokerBase);
     validators.init(globalConfig, brokerBase);
     authorizations.init(globalConfig, brokerBase);
   }
@@ -53,6 +59,14 @@ public final class EngineCfg implements ConfigurationEntry {
     this.jobs = jobs;
   }
 
+  public TimersCfg getTimers() {
+    return timers;
+  }
+
+  public void setTimers(final TimersCfg timers) {
+    this.timers = timers;
+  }
+
   public ValidatorsCfg getValidators() {
     return validators;
   }
@@ -78,6 +92,8 @@ public final class EngineCfg implements ConfigurationEntry {
         + caches
         + ", jobs="
         + jobs
+        + ", timers="
+        + timers
         + ", validators="
         + validators
         + ", authorizations="
@@ -92,9 +108,20 @@ public final class EngineCfg implements ConfigurationEntry {
         .setDrgCacheCapacity(caches.getDrgCacheCapacity())
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setSharedModelCache(caches.isEnableSharedModelCache() ? getSharedModelCache() : null)
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
+        .setEnableActivatableJobIndex(jobs.isEnableActivatableJobIndex())
+        .setEnableTimerDueDateIndex(timers.isEnableDueDateIndex())
+        .setTimerDueDateIndexCapacity(timers.getDueDateIndexCapacity())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize())
         .setEnableAuthorization(authorizations.isEnableAuthorization());
   }
+
+  private synchronized ExecutableModelCache getSharedModelCache() {
+    if (sharedModelCache == null) {
+      sharedModelCache = new ExecutableModelCache(caches.getSharedModelCacheMaxSize().toBytes());
+    }
+    return sharedModelCache;
+  }
 }
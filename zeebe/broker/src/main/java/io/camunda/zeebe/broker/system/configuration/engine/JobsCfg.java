@@ -16,6 +16,8 @@ public class JobsCfg implements ConfigurationEntry {
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int timeoutCheckerBatchLimit =
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private boolean enableActivatableJobIndex =
+      EngineConfiguration.DEFAULT_ENABLE_ACTIVATABLE_JOB_INDEX;
 
   public Duration getTimeoutCheckerPollingInterval() {
     return timeoutCheckerPollingInterval;
@@ -33,6 +35,14 @@ public class JobsCfg implements ConfigurationEntry {
     this.timeoutCheckerBatchLimit = timeoutCheckerBatchLimit;
   }
 
+  public boolean isEnableActivatableJobIndex() {
+    return enableActivatableJobIndex;
+  }
+
+  public void setEnableActivatableJobIndex(final boolean enableActivatableJobIndex) {
+    this.enableActivatableJobIndex = enableActivatableJobIndex;
+  }
+
   @Override
   public String toString() {
     return "JobsCfg{"
@@ -40,6 +50,8 @@ public class JobsCfg implements ConfigurationEntry {
         + timeoutCheckerPollingInterval
         + ", timeoutCheckerBatchLimit="
         + timeoutCheckerBatchLimit
+        + ", enableActivatableJobIndex="
+        + enableActivatableJobIndex
         + '}';
   }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+
+public class TimersCfg implements ConfigurationEntry {
+  private boolean enableDueDateIndex = EngineConfiguration.DEFAULT_ENABLE_TIMER_DUE_DATE_INDEX;
+  private int dueDateIndexCapacity = EngineConfiguration.DEFAULT_TIMER_DUE_DATE_INDEX_CAPACITY;
+
+  public boolean isEnableDueDateIndex() {
+    return enableDueDateIndex;
+  }
+
+  public void setEnableDueDateIndex(final boolean enableDueDateIndex) {
+    this.enableDueDateIndex = enableDueDateIndex;
+  }
+
+  public int getDueDateIndexCapacity() {
+    return dueDateIndexCapacity;
+  }
+
+  public void setDueDateIndexCapacity(final int dueDateIndexCapacity) {
+    this.dueDateIndexCapacity = dueDateIndexCapacity;
+  }
+
+  @Override
+  public String toString() {
+    return "TimersCfg{"
+        + "enableDueDateIndex="
+        + enableDueDateIndex
+        + ", dueDateIndexCapacity="
+        + dueDateIndexCapacity
+        + '}';
+  }
+}
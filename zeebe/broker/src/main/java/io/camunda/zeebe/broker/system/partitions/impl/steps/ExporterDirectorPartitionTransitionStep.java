@@ -124,6 +124,10 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
+            .maxBatchSize(
+                context.getBrokerCfg() != null
+                    ? context.getBrokerCfg().getExporting().getMaxBatchSize()
+                    : ExporterDirectorContext.DEFAULT_MAX_BATCH_SIZE)
             .meterRegistry(context.getPartitionMeterRegistry());
 
     final ExporterDirector director =
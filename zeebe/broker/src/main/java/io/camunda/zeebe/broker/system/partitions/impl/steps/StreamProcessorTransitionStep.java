@@ -159,6 +159,11 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxEventsInReplayTransaction(
+            context.getBrokerCfg().getProcessing().getMaxEventsInReplayTransaction())
+        .maxCoalescedCommands(context.getBrokerCfg().getProcessing().getMaxCoalescedCommands())
+        .coalescingTargetLatency(
+            context.getBrokerCfg().getProcessing().getCoalescingTargetLatency())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .setScheduledTaskCheckInterval(
@@ -22,10 +22,13 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
@@ -99,6 +102,41 @@ final class ExporterContainerTest {
     }
   }
 
+  public static final class FakeBatchExporter extends FakeExporter {
+    private final List<Record<?>> batch = new ArrayList<>();
+    private RuntimeException failure;
+
+    public List<Record<?>> getBatch() {
+      return batch;
+    }
+
+    public void failWith(final RuntimeException failure) {
+      this.failure = failure;
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      if (failure != null) {
+        throw failure;
+      }
+      batch.clear();
+      batch.addAll(records);
+    }
+  }
+
+  private static final class FailingFilter implements Context.RecordFilter {
+
+    @Override
+    public boolean acceptType(final RecordType recordType) {
+      throw new RuntimeException("expected");
+    }
+
+    @Override
+    public boolean acceptValue(final ValueType valueType) {
+      throw new RuntimeException("expected");
+    }
+  }
+
   private static final class AlwaysRejectingFilter implements Context.RecordFilter {
 
     @Override
@@ -543,6 +581,112 @@ final class ExporterContainerTest {
     }
   }
 
+  @Nested
+  class WithBatchExporter {
+
+    private FakeBatchExporter batchExporter;
+
+    @BeforeEach
+    void beforeEach(final @TempDir Path storagePath) throws Exception {
+      runtime = new ExporterContainerRuntime(storagePath);
+
+      final var descriptor =
+          runtime.getRepository().load(EXPORTER_ID, FakeBatchExporter.class, Map.of());
+      exporterContainer = runtime.newContainer(descriptor, PARTITION_ID);
+      batchExporter = (FakeBatchExporter) exporterContainer.getExporter();
+      exporterContainer.configureExporter();
+    }
+
+    @Test
+    void shouldDetectBatchExporter() throws Exception {
+      // given
+      final var descriptor =
+          runtime.getRepository().load("recordExporter", FakeExporter.class, Map.of());
+
+      // when
+      final var recordContainer = runtime.newContainer(descriptor, PARTITION_ID);
+
+      // then
+      assertThat(exporterContainer.isBatchExporter()).isTrue();
+      assertThat(recordContainer.isBatchExporter()).isFalse();
+    }
+
+    @Test
+    void shouldExportNotYetExportedRecordsAsOneBatch() {
+      // given
+      runtime.getState().setPosition(EXPORTER_ID, 1);
+      exporterContainer.initMetadata();
+      final var records = List.of(mockRecord(1), mockRecord(2), mockRecord(3));
+
+      // when
+      final boolean exported = exporterContainer.exportBatch(records);
+
+      // then
+      assertThat(exported).isTrue();
+      assertThat(batchExporter.getBatch()).containsExactly(records.get(1), records.get(2));
+      assertThat(batchExporter.getRecord()).isNull();
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
+      assertThat(exporterContainer.getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldUpdatePositionWhenWholeBatchIsFiltered() {
+      // given
+      batchExporter.getContext().setFilter(new AlwaysRejectingFilter());
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+
+      // when
+      final boolean exported = exporterContainer.exportBatch(List.of(mockRecord(1), mockRecord(2)));
+
+      // then
+      assertThat(exported).isTrue();
+      assertThat(batchExporter.getBatch()).isEmpty();
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isZero();
+      assertThat(exporterContainer.getPosition()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotUpdatePositionsWhenExportingBatchFails() {
+      // given
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+      batchExporter.failWith(new RuntimeException("expected"));
+
+      // when
+      final boolean exported = exporterContainer.exportBatch(List.of(mockRecord(1), mockRecord(2)));
+
+      // then
+      assertThat(exported).isFalse();
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isZero();
+      assertThat(exporterContainer.getPosition()).isZero();
+    }
+
+    @Test
+    void shouldNotUpdatePositionsWhenFilteringBatchFails() {
+      // given
+      batchExporter.getContext().setFilter(new FailingFilter());
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+
+      // when
+      final boolean exported = exporterContainer.exportBatch(List.of(mockRecord(1), mockRecord(2)));
+
+      // then
+      assertThat(exported).isFalse();
+      assertThat(batchExporter.getBatch()).isEmpty();
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isZero();
+      assertThat(exporterContainer.getPosition()).isZero();
+    }
+
+    private TypedRecordImpl mockRecord(final long position) {
+      final var record = mock(TypedRecordImpl.class);
+      when(record.getPosition()).thenReturn(position);
+      when(record.getMetadata()).thenReturn(new RecordMetadata());
+      return record;
+    }
+  }
+
   @Nested
   class WithInitializationInfo {
     private static final String OTHER_EXPORTER_ID = "otherExporter";
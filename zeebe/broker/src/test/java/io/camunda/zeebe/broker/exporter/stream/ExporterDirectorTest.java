@@ -43,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -747,6 +748,66 @@ public final class ExporterDirectorTest {
     assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2)).isEqualTo(-1);
   }
 
+  @Test
+  public void shouldExportConsecutiveRecordsAsOneBatchToBatchExporters() {
+    // given
+    final BatchRecordingExporter batchExporter = new BatchRecordingExporter();
+    final ControlledTestExporter recordExporter = exporters.get(0);
+    final long firstPosition = rule.writeCommand(JobIntent.COMPLETE, new JobRecord());
+    final long secondPosition = rule.writeCommand(JobIntent.COMPLETE, new JobRecord());
+    final long thirdPosition = rule.writeCommand(JobIntent.COMPLETE, new JobRecord());
+
+    // when
+    startExporterDirector(
+        List.of(createBatchExporterDescriptor(batchExporter), exporterDescriptors.get(0)));
+
+    // then
+    Awaitility.await("all records are exported")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(batchExporter.getExportedRecords()).hasSize(3);
+              assertThat(recordExporter.getExportedRecords()).hasSize(3);
+            });
+    assertThat(batchExporter.getBatchSizes()).containsExactly(3);
+    assertThat(batchExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(firstPosition, secondPosition, thirdPosition);
+    assertThat(recordExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(firstPosition, secondPosition, thirdPosition);
+  }
+
+  @Test
+  public void shouldEndBatchOnRecordSkippedByAllExporters() {
+    // given
+    final BatchRecordingExporter batchExporter = new BatchRecordingExporter();
+    batchExporter.onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.JOB)));
+    final long firstPosition = rule.writeCommand(JobIntent.COMPLETE, new JobRecord());
+    final long secondPosition = rule.writeCommand(JobIntent.COMPLETE, new JobRecord());
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long lastPosition = rule.writeCommand(JobIntent.COMPLETE, new JobRecord());
+
+    // when
+    startExporterDirector(List.of(createBatchExporterDescriptor(batchExporter)));
+
+    // then
+    Awaitility.await("all accepted records are exported")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(batchExporter.getExportedRecords()).hasSize(3));
+    assertThat(batchExporter.getBatchSizes()).containsExactly(2, 1);
+    assertThat(batchExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(firstPosition, secondPosition, lastPosition);
+  }
+
+  private ExporterDescriptor createBatchExporterDescriptor(final BatchRecordingExporter exporter) {
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor("batch-exporter", exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    return descriptor;
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
@@ -784,4 +845,18 @@ public final class ExporterDirectorTest {
 
     return exporter;
   }
+
+  private static final class BatchRecordingExporter extends ControlledTestExporter {
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private List<Integer> getBatchSizes() {
+      return batchSizes;
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      batchSizes.add(records.size());
+      super.exportBatch(records);
+    }
+  }
 }
@@ -13,6 +13,7 @@ import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.protocol.AppendCompressionAlgorithm;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import java.time.Duration;
@@ -207,6 +208,47 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(1000);
   }
 
+  @Test
+  void shouldSetMaxInFlightAppendSize() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxInFlightAppendSize(DataSize.ofKilobytes(256));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxInFlightAppendBytesPerFollower())
+        .isEqualTo(256 * 1024);
+  }
+
+  @Test
+  void shouldSetMaxInFlightSnapshotChunks() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxInFlightSnapshotChunks(4);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxInstallsPerFollower()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetAppendCompression() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setAppendCompression(AppendCompressionAlgorithm.ZSTD);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getAppendCompression())
+        .isEqualTo(AppendCompressionAlgorithm.ZSTD);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void shouldSetSegmentFilesPreallocation(final boolean value) {
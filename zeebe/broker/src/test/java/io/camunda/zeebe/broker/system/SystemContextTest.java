@@ -69,6 +69,19 @@ final class SystemContextTest {
             "Expected to have an append batch size maximum which is non negative and smaller then '2147483647', but was '-1B'.");
   }
 
+  @Test
+  void shouldThrowExceptionIfInFlightAppendSizeIsNegative() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxInFlightAppendSize(DataSize.of(-1, DataUnit.BYTES));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected to have an in-flight append size maximum which is non negative, but was '-1B'.");
+  }
+
   @Test
   void shouldThrowExceptionIfBatchSizeIsTooLarge() {
     // given
@@ -40,6 +40,8 @@ public final class BrokerCfgTest {
       "zeebe.broker.experimental.maxAppendsPerFollower";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_APPEND_BATCH_SIZE =
       "zeebe.broker.experimental.maxAppendBatchSize";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_MAX_IN_FLIGHT_APPEND_SIZE =
+      "zeebe.broker.experimental.maxInFlightAppendSize";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_DISABLEEXPLICITRAFTFLUSH =
       "zeebe.broker.experimental.disableExplicitRaftFlush";
   private static final String ZEEBE_BROKER_CLUSTER_RAFT_ENABLEPRIORITYELECTION =
@@ -309,6 +311,19 @@ public final class BrokerCfgTest {
     assertThat(experimentalCfg.getMaxAppendBatchSizeInBytes()).isEqualTo(256 * 1024);
   }
 
+  @Test
+  public void shouldOverrideMaxInFlightAppendSizeViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_IN_FLIGHT_APPEND_SIZE, "1MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getMaxInFlightAppendSizeInBytes()).isEqualTo(1024 * 1024);
+  }
+
   @Test
   public void shouldOverrideDisableExplicitRaftFlushViaEnvironment() {
     // given
@@ -34,10 +34,15 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(1));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(configuration.isEnableActivatableJobIndex()).isFalse();
+    assertThat(configuration.isEnableTimerDueDateIndex()).isFalse();
+    assertThat(configuration.getTimerDueDateIndexCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_TIMER_DUE_DATE_INDEX_CAPACITY);
     assertThat(configuration.getFormCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY);
     assertThat(configuration.getProcessCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+    assertThat(configuration.getSharedModelCache()).isNull();
     assertThat(configuration.getValidatorsResultsOutputMaxSize())
         .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE);
   }
@@ -57,6 +62,13 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(15));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
+    assertThat(configuration.isEnableActivatableJobIndex()).isTrue();
+    assertThat(configuration.isEnableTimerDueDateIndex()).isTrue();
+    assertThat(configuration.getSharedModelCache())
+        .isNotNull()
+        .isSameAs(
+            cfg.getExperimental().getEngine().createEngineConfiguration().getSharedModelCache());
+    assertThat(configuration.getTimerDueDateIndexCapacity()).isEqualTo(5000);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getValidatorsResultsOutputMaxSize()).isEqualTo(2000);
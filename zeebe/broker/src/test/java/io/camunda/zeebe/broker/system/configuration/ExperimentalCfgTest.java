@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.atomix.raft.protocol.AppendCompressionAlgorithm;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -113,6 +114,52 @@ final class ExperimentalCfgTest {
     assertThat(raft.getPreferSnapshotReplicationThreshold()).isEqualTo(10);
   }
 
+  @Test
+  void shouldSetMaxInFlightSnapshotChunksFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxInFlightSnapshotChunks()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetMaxInFlightSnapshotChunksFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxInFlightSnapshotChunks", "8");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxInFlightSnapshotChunks()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldSetAppendCompressionFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getAppendCompression()).isEqualTo(AppendCompressionAlgorithm.SNAPPY);
+  }
+
+  @Test
+  void shouldSetAppendCompressionFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.appendCompression", "ZSTD");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getAppendCompression()).isEqualTo(AppendCompressionAlgorithm.ZSTD);
+  }
+
   @Test
   void shouldSetEnablePreconditionsFromConfig() {
     // when
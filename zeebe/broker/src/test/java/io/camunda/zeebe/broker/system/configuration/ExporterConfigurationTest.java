@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.HashMap;
 import java.util.Set;
@@ -62,4 +63,38 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
+
+  @Test
+  void shouldSetMaxBatchSizeFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxBatchSize", "25");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+
+    // then
+    assertThat(cfg.getExporting().getMaxBatchSize()).isEqualTo(25);
+  }
+
+  @Test
+  void shouldUseDefaultMaxBatchSize() {
+    // given
+    final ExportingCfg exportingCfg = new ExportingCfg();
+
+    // then
+    assertThat(exportingCfg.getMaxBatchSize()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldRejectNonPositiveMaxBatchSize() {
+    // given
+    final ExportingCfg exportingCfg = new ExportingCfg();
+    exportingCfg.setMaxBatchSize(0);
+
+    // when - then
+    assertThatThrownBy(() -> exportingCfg.init(new BrokerCfg(), "/"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxBatchSize");
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -80,6 +81,94 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldReplayEachBatchInItsOwnTransactionByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxEventsInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetMaxEventsInReplayTransactionFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxEventsInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(500);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxEventsInReplayTransaction() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxEventsInReplayTransaction", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxEventsInReplayTransaction must be >= 1");
+  }
+
+  @Test
+  void shouldNotCoalesceCommandsByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxCoalescedCommands();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+    assertThat(cfg.getCoalescingTargetLatency()).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  void shouldSetCommandCoalescingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxCoalescedCommands();
+
+    // then
+    assertThat(limit).isEqualTo(20);
+    assertThat(cfg.getCoalescingTargetLatency()).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  void shouldRejectInvalidMaxCoalescedCommands() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCoalescedCommands", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxCoalescedCommands must be >= 1");
+  }
+
+  @Test
+  void shouldRejectInvalidCoalescingTargetLatency() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.coalescingTargetLatency", "0ms");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("coalescingTargetLatency must be positive");
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.rocksdb.CompactionStyle;
 import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfgTest {
@@ -97,6 +98,37 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMaxOpenFiles()).isEqualTo(3);
   }
 
+  @Test
+  public void shouldSetDedicatedColumnFamiliesViaConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    final var jobs = rocksDbConfiguration.getDedicatedColumnFamily("JOBS");
+    assertThat(jobs).isNotNull();
+    assertThat(jobs.getCompactionStyle()).isEqualTo(CompactionStyle.UNIVERSAL);
+    assertThat(jobs.isPrefixBloomEnabled()).isFalse();
+    assertThat(jobs.isWholeKeyFilteringEnabled()).isTrue();
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamily("VARIABLES")).isNull();
+  }
+
+  @Test
+  public void shouldNotUseDedicatedColumnFamiliesPerDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.hasDedicatedColumnFamilies()).isFalse();
+  }
+
   @Test
   public void shouldSetColumnFamilyOptionsConfig() {
     // when
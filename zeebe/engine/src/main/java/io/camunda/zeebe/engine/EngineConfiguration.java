@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine;
 
+import io.camunda.zeebe.engine.state.deployment.ExecutableModelCache;
 import java.time.Duration;
 
 public final class EngineConfiguration {
@@ -23,16 +24,23 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final boolean DEFAULT_ENABLE_SHARED_MODEL_CACHE = false;
+  public static final long DEFAULT_SHARED_MODEL_CACHE_MAX_WEIGHT = 256 * 1024 * 1024;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
+  public static final boolean DEFAULT_ENABLE_ACTIVATABLE_JOB_INDEX = false;
+  public static final boolean DEFAULT_ENABLE_TIMER_DUE_DATE_INDEX = false;
+  public static final int DEFAULT_TIMER_DUE_DATE_INDEX_CAPACITY = 100_000;
+  public static final Duration DEFAULT_TIMER_DUE_DATE_INDEX_HORIZON = Duration.ofMinutes(5);
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private ExecutableModelCache sharedModelCache;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -41,6 +49,11 @@ public final class EngineConfiguration {
 
   private boolean enableAuthorization = DEFAULT_ENABLE_AUTHORIZATION_CHECKS;
 
+  private boolean enableActivatableJobIndex = DEFAULT_ENABLE_ACTIVATABLE_JOB_INDEX;
+
+  private boolean enableTimerDueDateIndex = DEFAULT_ENABLE_TIMER_DUE_DATE_INDEX;
+  private int timerDueDateIndexCapacity = DEFAULT_TIMER_DUE_DATE_INDEX_CAPACITY;
+
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
   }
@@ -88,6 +101,19 @@ public final class EngineConfiguration {
     return this;
   }
 
+  /**
+   * @return the cache of parsed models which is shared by the partitions, or {@code null} if every
+   *     partition parses the models itself
+   */
+  public ExecutableModelCache getSharedModelCache() {
+    return sharedModelCache;
+  }
+
+  public EngineConfiguration setSharedModelCache(final ExecutableModelCache sharedModelCache) {
+    this.sharedModelCache = sharedModelCache;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -125,4 +151,31 @@ public final class EngineConfiguration {
     this.enableAuthorization = enableAuthorization;
     return this;
   }
+
+  public boolean isEnableActivatableJobIndex() {
+    return enableActivatableJobIndex;
+  }
+
+  public EngineConfiguration setEnableActivatableJobIndex(final boolean enableActivatableJobIndex) {
+    this.enableActivatableJobIndex = enableActivatableJobIndex;
+    return this;
+  }
+
+  public boolean isEnableTimerDueDateIndex() {
+    return enableTimerDueDateIndex;
+  }
+
+  public EngineConfiguration setEnableTimerDueDateIndex(final boolean enableTimerDueDateIndex) {
+    this.enableTimerDueDateIndex = enableTimerDueDateIndex;
+    return this;
+  }
+
+  public int getTimerDueDateIndexCapacity() {
+    return timerDueDateIndexCapacity;
+  }
+
+  public EngineConfiguration setTimerDueDateIndexCapacity(final int timerDueDateIndexCapacity) {
+    this.timerDueDateIndexCapacity = timerDueDateIndexCapacity;
+    return this;
+  }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class ModelCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String TYPE_LABEL = "type";
+  private static final String RESULT_LABEL = "result";
+
+  private static final Counter REQUESTS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("model_cache_requests_total")
+          .help("Number of look-ups of parsed models in the shared model cache")
+          .labelNames(TYPE_LABEL, RESULT_LABEL)
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("model_cache_evictions_total")
+          .help("Number of parsed models evicted from the shared model cache")
+          .labelNames(TYPE_LABEL)
+          .register();
+
+  private static final Gauge WEIGHT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("model_cache_weight_bytes")
+          .help("Size of the resources of the parsed models in the shared model cache")
+          .labelNames(TYPE_LABEL)
+          .register();
+
+  public void hit(final String type) {
+    REQUESTS.labels(type, "hit").inc();
+  }
+
+  public void miss(final String type) {
+    REQUESTS.labels(type, "miss").inc();
+  }
+
+  public void added(final String type, final int weight) {
+    WEIGHT.labels(type).inc(weight);
+  }
+
+  public void removed(final String type, final int weight, final boolean evicted) {
+    WEIGHT.labels(type).dec(weight);
+    if (evicted) {
+      EVICTIONS.labels(type).inc();
+    }
+  }
+}
@@ -94,7 +94,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             partitionId,
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
-            clock);
+            clock,
+            processingState.getTimerDueDateIndex());
   }
 
   @Override
@@ -13,6 +13,8 @@ import io.camunda.zeebe.el.EvaluationContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor.EvaluationContextLookup;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Collection;
+import org.agrona.DirectBuffer;
 
 public record VariableStateEvaluationContextLookup(VariableState variableState)
     implements EvaluationContextLookup {
@@ -21,6 +23,20 @@ public record VariableStateEvaluationContextLookup(VariableState variableState)
   public EvaluationContext getContext(final long scopeKey) {
     ensureGreaterThan("variable scope key", scopeKey, 0);
 
-    return (name) -> variableState.getVariable(scopeKey, BufferUtil.wrapString(name));
+    return new VariableStateEvaluationContext(variableState, scopeKey);
+  }
+
+  private record VariableStateEvaluationContext(VariableState variableState, long scopeKey)
+      implements EvaluationContext {
+
+    @Override
+    public DirectBuffer getVariable(final String variableName) {
+      return variableState.getVariable(scopeKey, BufferUtil.wrapString(variableName));
+    }
+
+    @Override
+    public void prefetchVariables(final Collection<String> variableNames) {
+      variableState.prefetchVariables(scopeKey, variableNames);
+    }
   }
 }
@@ -28,6 +28,7 @@ import io.camunda.zeebe.engine.state.instance.DbIncidentState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbUserTaskState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateIndex;
 import io.camunda.zeebe.engine.state.message.DbMessageCorrelationState;
 import io.camunda.zeebe.engine.state.message.DbMessageStartEventSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
@@ -80,6 +81,7 @@ public class ProcessingDbState implements MutableProcessingState {
 
   private final MutableProcessState processState;
   private final MutableTimerInstanceState timerInstanceState;
+  private final TimerDueDateIndex timerDueDateIndex;
   private final MutableElementInstanceState elementInstanceState;
   private final MutableEventScopeInstanceState eventScopeInstanceState;
   private final MutableVariableState variableState;
@@ -122,12 +124,21 @@ public class ProcessingDbState implements MutableProcessingState {
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
     processState = new DbProcessState(zeebeDb, transactionContext, config, clock);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    if (config.isEnableTimerDueDateIndex()) {
+      timerDueDateIndex =
+          new TimerDueDateIndex(
+              config.getTimerDueDateIndexCapacity(),
+              EngineConfiguration.DEFAULT_TIMER_DUE_DATE_INDEX_HORIZON.toMillis());
+      transactionContext.addTransactionListener(timerDueDateIndex);
+    } else {
+      timerDueDateIndex = null;
+    }
+    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext, timerDueDateIndex);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
+    jobState = new DbJobState(zeebeDb, transactionContext, config);
     messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
     messageSubscriptionState =
         new DbMessageSubscriptionState(
@@ -160,6 +171,7 @@ public class ProcessingDbState implements MutableProcessingState {
     processMessageSubscriptionState.onRecovered(context);
     bannedInstanceState.onRecovered(context);
     messageState.onRecovered(context);
+    jobState.onRecovered(context);
   }
 
   @Override
@@ -177,6 +189,14 @@ public class ProcessingDbState implements MutableProcessingState {
     return jobState;
   }
 
+  /**
+   * @return the index of the near timer due dates, which is shared with the scheduled task state,
+   *     or null if it is disabled
+   */
+  public TimerDueDateIndex getTimerDueDateIndex() {
+    return timerDueDateIndex;
+  }
+
   @Override
   public MutableMessageState getMessageState() {
     return messageState;
@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.state.immutable.UserTaskState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbUserTaskState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateIndex;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
 import io.camunda.zeebe.engine.state.message.DbMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbProcessMessageSubscriptionState;
@@ -49,9 +50,27 @@ public final class ScheduledTaskDbState implements ScheduledTaskState {
       final TransientPendingSubscriptionState transientMessageSubscriptionState,
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
       final InstantSource clock) {
+    this(
+        zeebeDb,
+        transactionContext,
+        partitionId,
+        transientMessageSubscriptionState,
+        transientProcessMessageSubscriptionState,
+        clock,
+        null);
+  }
+
+  public ScheduledTaskDbState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final TransientPendingSubscriptionState transientMessageSubscriptionState,
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final InstantSource clock,
+      final TimerDueDateIndex timerDueDateIndex) {
     distributionState = new DbDistributionState(zeebeDb, transactionContext);
     messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext, timerDueDateIndex);
     jobState = new DbJobState(zeebeDb, transactionContext);
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
     pendingMessageSubscriptionState =
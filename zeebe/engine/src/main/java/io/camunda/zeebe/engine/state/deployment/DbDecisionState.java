@@ -43,6 +43,7 @@ import org.agrona.DirectBuffer;
 public final class DbDecisionState implements MutableDecisionState {
 
   private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
+  private final ExecutableModelCache sharedModelCache;
 
   private final DbString tenantIdKey;
   private final DbLong dbDecisionKey;
@@ -226,6 +227,7 @@ public final class DbDecisionState implements MutableDecisionState {
             tenantAwareDecisionIdAndVersionTag,
             fkDecision);
 
+    sharedModelCache = config.getSharedModelCache();
     drgCache =
         CacheBuilder.newBuilder()
             .maximumSize(config.getDrgCacheCapacity())
@@ -342,13 +344,23 @@ public final class DbDecisionState implements MutableDecisionState {
 
     final PersistedDecisionRequirements copiedDrg = persistedDrg.copy();
 
-    final var resourceBytes = BufferUtil.bufferAsArray(copiedDrg.getResource());
     final ParsedDecisionRequirementsGraph parsedDrg =
-        decisionEngine.parse(new ByteArrayInputStream(resourceBytes));
+        sharedModelCache != null
+            ? sharedModelCache.getDecisionRequirements(
+                decisionRequirementsKey,
+                copiedDrg.getResource(),
+                () -> parseDecisionRequirements(copiedDrg))
+            : parseDecisionRequirements(copiedDrg);
 
     return new DeployedDrg(parsedDrg, copiedDrg);
   }
 
+  private ParsedDecisionRequirementsGraph parseDecisionRequirements(
+      final PersistedDecisionRequirements drg) {
+    final var resourceBytes = BufferUtil.bufferAsArray(drg.getResource());
+    return decisionEngine.parse(new ByteArrayInputStream(resourceBytes));
+  }
+
   private Optional<DeployedDrg> findDeployedDrg(
       final long decisionRequirementsKey, final String tenantId) {
     try {
@@ -50,6 +50,7 @@ public final class DbProcessState implements MutableProcessState {
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer;
+  private final ExecutableModelCache sharedModelCache;
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
   private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
       processesByTenantAndProcessIdAndVersionCache;
@@ -115,6 +116,7 @@ public final class DbProcessState implements MutableProcessState {
       final EngineConfiguration config,
       final InstantSource clock) {
     transformer = BpmnFactory.createTransformer(clock);
+    sharedModelCache = config.getSharedModelCache();
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -338,22 +340,13 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
-
     final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
+        sharedModelCache != null
+            ? sharedModelCache.getProcess(
+                copiedProcess.getKey(),
+                copiedProcess.getResource(),
+                () -> transformProcess(copiedProcess))
+            : transformProcess(copiedProcess);
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
@@ -362,6 +355,23 @@ public final class DbProcessState implements MutableProcessState {
     return deployedProcess;
   }
 
+  private ExecutableProcess transformProcess(final PersistedProcess copiedProcess) {
+    final BpmnModelInstance modelInstance =
+        readModelInstanceFromBuffer(copiedProcess.getResource());
+    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(copiedProcess.getBpmnProcessId(), process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        copiedProcess.getKey())));
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
       return Bpmn.readModelFromStream(stream);
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.engine.metrics.ModelCacheMetrics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+import org.agrona.DirectBuffer;
+
+/**
+ * Caches the parsed models of deployed processes and decision requirements graphs, such that the
+ * partitions of a broker parse every model only once instead of once per partition.
+ *
+ * <p>The cache is bounded by the size of the model resources instead of the number of models, so
+ * that a few huge models can't exhaust the memory, and many small models don't evict each other.
+ * The models are keyed by their definition key and the checksum of their resource, because the same
+ * definition is deployed to every partition with the same key.
+ *
+ * <p>The cache is thread-safe. The cached models must not be modified after parsing.
+ */
+public final class ExecutableModelCache {
+
+  private static final String PROCESS_TYPE = "process";
+  private static final String DRG_TYPE = "drg";
+
+  private final ModelCacheMetrics metrics = new ModelCacheMetrics();
+  private final Cache<ModelKey, CachedModel> cache;
+
+  /**
+   * @param maxWeight the maximum size of the resources of all cached models, in bytes
+   */
+  public ExecutableModelCache(final long maxWeight) {
+    cache =
+        CacheBuilder.newBuilder()
+            // a single segment applies the maximum weight to the whole cache instead of to each
+            // segment; look-ups are rare enough that they don't contend
+            .concurrencyLevel(1)
+            .maximumWeight(maxWeight)
+            .<ModelKey, CachedModel>weigher((key, model) -> model.weight())
+            .removalListener(this::onRemoval)
+            .build();
+  }
+
+  /**
+   * Returns the cached process, or transforms and caches it if it is not cached yet.
+   *
+   * @param processDefinitionKey the key of the process definition
+   * @param resource the BPMN resource of the process
+   * @param transformer transforms the resource into the executable process
+   * @return the executable process
+   */
+  public ExecutableProcess getProcess(
+      final long processDefinitionKey,
+      final DirectBuffer resource,
+      final Supplier<ExecutableProcess> transformer) {
+    return get(PROCESS_TYPE, processDefinitionKey, resource, transformer);
+  }
+
+  /**
+   * Returns the cached decision requirements graph, or parses and caches it if it is not cached
+   * yet.
+   *
+   * @param decisionRequirementsKey the key of the decision requirements graph
+   * @param resource the DMN resource of the decision requirements graph
+   * @param parser parses the resource
+   * @return the parsed decision requirements graph
+   */
+  public ParsedDecisionRequirementsGraph getDecisionRequirements(
+      final long decisionRequirementsKey,
+      final DirectBuffer resource,
+      final Supplier<ParsedDecisionRequirementsGraph> parser) {
+    return get(DRG_TYPE, decisionRequirementsKey, resource, parser);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T get(
+      final String type, final long key, final DirectBuffer resource, final Supplier<T> parser) {
+    final var modelKey = new ModelKey(key, checksum(resource));
+    final var cachedModel = cache.getIfPresent(modelKey);
+    if (cachedModel != null) {
+      metrics.hit(type);
+      return (T) cachedModel.model();
+    }
+
+    metrics.miss(type);
+    try {
+      // only one partition parses the model, the others wait for it
+      return (T)
+          cache
+              .get(
+                  modelKey,
+                  () -> {
+                    final int weight = resource.capacity();
+                    metrics.added(type, weight);
+                    return new CachedModel(type, parser.get(), weight);
+                  })
+              .model();
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private void onRemoval(final RemovalNotification<ModelKey, CachedModel> notification) {
+    final var model = notification.getValue();
+    if (model != null) {
+      metrics.removed(model.type(), model.weight(), notification.wasEvicted());
+    }
+  }
+
+  private static long checksum(final DirectBuffer resource) {
+    final var checksum = new CRC32C();
+    checksum.update(BufferUtil.bufferAsArray(resource));
+    return checksum.getValue();
+  }
+
+  private record ModelKey(long key, long checksum) {}
+
+  private record CachedModel(String type, Object model, int weight) {}
+}
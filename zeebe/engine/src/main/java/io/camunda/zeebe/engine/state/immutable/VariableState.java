@@ -23,6 +23,15 @@ public interface VariableState {
 
   DirectBuffer getVariable(long scopeKey, DirectBuffer name, int nameOffset, int nameLength);
 
+  /**
+   * Resolves the variables with the given names at once, such that the following look-ups of them
+   * via {@link #getVariable(long, DirectBuffer)} are cheaper.
+   *
+   * @param scopeKey the key of the variable scope to start from
+   * @param names the names of the variables which will be looked up
+   */
+  void prefetchVariables(long scopeKey, Collection<String> names);
+
   DirectBuffer getVariablesAsDocument(long scopeKey);
 
   DirectBuffer getVariablesAsDocument(long scopeKey, Collection<DirectBuffer> names);
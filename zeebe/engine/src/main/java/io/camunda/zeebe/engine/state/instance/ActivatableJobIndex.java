@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * In-memory mirror of the {@code JOB_ACTIVATABLE} column family, which allows collecting
+ * activatable jobs without iterating over RocksDB.
+ *
+ * <p>Jobs are kept per type and tenant in ascending order of their keys, which is the same order in
+ * which they are found in the column family. Changes are applied immediately, such that they are
+ * visible to reads within the same transaction, and are reverted if the transaction is rolled back.
+ *
+ * <p>The index is only used after it was {@link #markRecovered() populated} from the state; before
+ * that, all changes are ignored.
+ */
+final class ActivatableJobIndex implements TransactionListener {
+
+  private final Map<DirectBuffer, Map<String, JobKeyQueue>> queuesByType =
+      new Object2ObjectHashMap<>();
+  private final List<Change> uncommittedChanges = new ArrayList<>();
+  private final List<JobKeyQueue> visitedQueues = new ArrayList<>();
+  private final UnsafeBuffer typeView = new UnsafeBuffer();
+
+  private boolean recovered;
+
+  boolean isRecovered() {
+    return recovered;
+  }
+
+  void markRecovered() {
+    uncommittedChanges.clear();
+    recovered = true;
+  }
+
+  void clear() {
+    queuesByType.clear();
+    uncommittedChanges.clear();
+    recovered = false;
+  }
+
+  /** Adds the job to the index, without recording the change for a later rollback. */
+  void restore(final DirectBuffer type, final String tenantId, final long jobKey) {
+    getOrCreateQueue(type, tenantId).add(jobKey);
+  }
+
+  void add(final DirectBuffer type, final String tenantId, final long jobKey) {
+    if (!recovered) {
+      return;
+    }
+
+    final var queue = getOrCreateQueue(type, tenantId);
+    if (queue.add(jobKey)) {
+      uncommittedChanges.add(new Change(true, jobKey, queue));
+    }
+  }
+
+  void remove(final DirectBuffer type, final String tenantId, final long jobKey) {
+    if (!recovered) {
+      return;
+    }
+
+    final var queue = getQueue(type, tenantId);
+    if (queue != null && queue.remove(jobKey)) {
+      uncommittedChanges.add(new Change(false, jobKey, queue));
+    }
+  }
+
+  /**
+   * Visits the keys of all activatable jobs of the given type which belong to one of the given
+   * tenants, in ascending order, until the visitor returns false.
+   */
+  void forEach(final DirectBuffer type, final List<String> tenantIds, final LongPredicate visitor) {
+    typeView.wrap(type);
+    final var queuesByTenant = queuesByType.get(typeView);
+    if (queuesByTenant == null) {
+      return;
+    }
+
+    visitedQueues.clear();
+    for (final String tenantId : tenantIds) {
+      final var queue = queuesByTenant.get(tenantId);
+      if (queue != null && !queue.isEmpty() && !visitedQueues.contains(queue)) {
+        visitedQueues.add(queue);
+      }
+    }
+
+    if (visitedQueues.size() == 1) {
+      visitedQueues.get(0).forEach(visitor);
+    } else if (!visitedQueues.isEmpty()) {
+      forEachMerged(visitor);
+    }
+    visitedQueues.clear();
+  }
+
+  @Override
+  public void onCommit() {
+    uncommittedChanges.clear();
+  }
+
+  @Override
+  public void onRollback() {
+    for (int i = uncommittedChanges.size() - 1; i >= 0; i--) {
+      final var change = uncommittedChanges.get(i);
+      if (change.added()) {
+        change.queue().remove(change.jobKey());
+      } else {
+        change.queue().add(change.jobKey());
+      }
+    }
+
+    uncommittedChanges.clear();
+  }
+
+  private JobKeyQueue getQueue(final DirectBuffer type, final String tenantId) {
+    typeView.wrap(type);
+    final var queuesByTenant = queuesByType.get(typeView);
+    return queuesByTenant == null ? null : queuesByTenant.get(tenantId);
+  }
+
+  private JobKeyQueue getOrCreateQueue(final DirectBuffer type, final String tenantId) {
+    typeView.wrap(type);
+    var queuesByTenant = queuesByType.get(typeView);
+    if (queuesByTenant == null) {
+      queuesByTenant = new HashMap<>();
+      queuesByType.put(BufferUtil.cloneBuffer(type), queuesByTenant);
+    }
+
+    // empty queues are kept, such that uncommitted changes can always be reverted on the same queue
+    return queuesByTenant.computeIfAbsent(tenantId, ignored -> new JobKeyQueue());
+  }
+
+  /** Merges the visited queues, to visit the jobs of all tenants in ascending order. */
+  private void forEachMerged(final LongPredicate visitor) {
+    final int[] positions = new int[visitedQueues.size()];
+    while (true) {
+      int next = -1;
+      long nextKey = Long.MAX_VALUE;
+      for (int i = 0; i < positions.length; i++) {
+        final var queue = visitedQueues.get(i);
+        if (positions[i] < queue.size() && queue.get(positions[i]) < nextKey) {
+          next = i;
+          nextKey = queue.get(positions[i]);
+        }
+      }
+
+      if (next < 0 || !visitor.test(nextKey)) {
+        return;
+      }
+      positions[next]++;
+    }
+  }
+
+  private record Change(boolean added, long jobKey, JobKeyQueue queue) {}
+
+  /**
+   * Ascending, duplicate-free sequence of job keys. New jobs have the highest keys and activated
+   * jobs are usually the oldest ones, so both ends of the queue can be modified without copying.
+   */
+  static final class JobKeyQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int head;
+    private int tail;
+
+    boolean add(final long key) {
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index >= 0) {
+        return false;
+      }
+
+      final int insertionPoint = ensureCapacity(-index - 1);
+      System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, tail - insertionPoint);
+      keys[insertionPoint] = key;
+      tail++;
+      return true;
+    }
+
+    boolean remove(final long key) {
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index < 0) {
+        return false;
+      }
+
+      if (index == head) {
+        head++;
+      } else {
+        System.arraycopy(keys, index + 1, keys, index, tail - index - 1);
+        tail--;
+      }
+
+      if (head == tail) {
+        head = 0;
+        tail = 0;
+      }
+      return true;
+    }
+
+    int size() {
+      return tail - head;
+    }
+
+    boolean isEmpty() {
+      return head == tail;
+    }
+
+    long get(final int index) {
+      return keys[head + index];
+    }
+
+    void forEach(final LongPredicate visitor) {
+      for (int i = head; i < tail; i++) {
+        if (!visitor.test(keys[i])) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * Ensures there is space for one more key at the tail, by compacting or growing the array.
+     *
+     * @return the given insertion point, adjusted to the possibly moved keys
+     */
+    private int ensureCapacity(final int insertionPoint) {
+      if (tail < keys.length) {
+        return insertionPoint;
+      }
+
+      final int size = size();
+      final long[] target = size < keys.length / 2 ? keys : new long[keys.length * 2];
+      System.arraycopy(keys, head, target, 0, size);
+      keys = target;
+      final int adjustedInsertionPoint = insertionPoint - head;
+      head = 0;
+      tail = size;
+      return adjustedInsertionPoint;
+    }
+  }
+}
@@ -18,11 +18,13 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.EnsureUtil;
 import java.util.List;
 import java.util.Map;
@@ -73,8 +75,18 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // in-memory mirror of the activatable column family; null if disabled
+  private final ActivatableJobIndex activatableJobIndex;
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new EngineConfiguration());
+  }
+
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config) {
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
@@ -108,6 +120,29 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    if (config.isEnableActivatableJobIndex()) {
+      activatableJobIndex = new ActivatableJobIndex();
+      transactionContext.addTransactionListener(activatableJobIndex);
+    } else {
+      activatableJobIndex = null;
+    }
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (activatableJobIndex == null) {
+      return;
+    }
+
+    activatableJobIndex.clear();
+    activatableColumnFamily.forEach(
+        (key, nil) ->
+            activatableJobIndex.restore(
+                key.wrappedKey().first().getBuffer(),
+                key.tenantKey().toString(),
+                key.wrappedKey().second().inner().getValue()));
+    activatableJobIndex.markRecovered();
   }
 
   @Override
@@ -407,6 +442,11 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (activatableJobIndex != null && activatableJobIndex.isRecovered()) {
+      activatableJobIndex.forEach(type, tenantIds, jobKey -> visitJob(jobKey, callback::apply));
+      return;
+    }
+
     jobTypeKey.wrapBuffer(type);
 
     activatableColumnFamily.whileEqualPrefix(
@@ -509,6 +549,11 @@ public final class DbJobState implements JobState, MutableJobState {
     tenantIdKey.wrapString(tenantId);
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
+    // the index is updated first, such that the change is part of the transaction in which the
+    // column family is modified, even if no transaction was opened yet
+    if (activatableJobIndex != null) {
+      activatableJobIndex.add(type, tenantId, key);
+    }
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
   }
 
@@ -518,6 +563,9 @@ public final class DbJobState implements JobState, MutableJobState {
 
     jobTypeKey.wrapBuffer(type);
     tenantIdKey.wrapString(tenantId);
+    if (activatableJobIndex != null) {
+      activatableJobIndex.remove(type, tenantId, jobKey.getValue());
+    }
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
   }
 
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,9 +16,12 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateIndex.DueTimer;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateIndex.DueTimerConsumer;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.function.Consumer;
+import org.agrona.collections.MutableLong;
 
 public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
@@ -37,8 +41,24 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   private long nextDueDate;
 
+  // in-memory index of the near due dates, shared with the state of the due date checker; null if
+  // disabled
+  private final TimerDueDateIndex dueDateIndex;
+
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, null);
+  }
+
+  /**
+   * @param dueDateIndex the index of due dates which is updated when timers are stored or removed,
+   *     and used to find the due timers; may be null. The index must be registered as listener of
+   *     the transaction context of the state which modifies the timers.
+   */
+  public DbTimerInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TimerDueDateIndex dueDateIndex) {
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -60,6 +80,8 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             transactionContext,
             dueDateCompositeKey,
             DbNil.INSTANCE);
+
+    this.dueDateIndex = dueDateIndex;
   }
 
   @Override
@@ -71,6 +93,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+
+    if (dueDateIndex != null) {
+      dueDateIndex.add(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
+    }
   }
 
   @Override
@@ -81,6 +107,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+
+    if (dueDateIndex != null) {
+      dueDateIndex.remove(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
+    }
   }
 
   @Override
@@ -92,6 +122,14 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (dueDateIndex != null) {
+      dueDateIndex.refillIfNecessary(timestamp, this::loadDueTimers);
+      final long coveredUntil = dueDateIndex.coveredUntil();
+      if (timestamp < coveredUntil) {
+        return processTimersWithDueDateBefore(timestamp, coveredUntil, consumer);
+      }
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -122,6 +160,80 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  private long processTimersWithDueDateBefore(
+      final long timestamp, final long coveredUntil, final TimerVisitor consumer) {
+    for (final var dueTimer : dueDateIndex.dueTimers()) {
+      if (dueTimer.dueDate() > timestamp) {
+        return Math.min(dueTimer.dueDate(), coveredUntil);
+      }
+
+      final var timer = get(dueTimer.elementInstanceKey(), dueTimer.timerKey());
+      // the timer may have been removed by the processing since the index was read, in which case
+      // there is nothing to trigger anymore
+      if (timer != null && !consumer.visit(timer)) {
+        return dueTimer.dueDate();
+      }
+    }
+
+    // timers due later are not in the index yet, so look up the next one in the state
+    return findNextDueDate(coveredUntil);
+  }
+
+  /**
+   * @return the due date of the first timer which is due at or after {@code from}, or -1 if there
+   *     is none
+   */
+  private long findNextDueDate(final long from) {
+    nextDueDate = -1L;
+
+    dueDate.wrapLong(from);
+    elementInstanceKey.inner().wrapLong(0);
+    timerKey.wrapLong(0);
+    dueDateColumnFamily.whileTrue(
+        dueDateCompositeKey,
+        (key, nil) -> {
+          nextDueDate = key.first().getValue();
+          return false;
+        });
+
+    return nextDueDate;
+  }
+
+  private long loadDueTimers(final long from, final long until, final DueTimerConsumer consumer) {
+    final var loadedUntil = new MutableLong(until);
+    final KeyValuePairVisitor<
+            DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>, DbNil>
+        visitor =
+            (key, nil) -> {
+              final var timerDueDate = key.first().getValue();
+              if (timerDueDate >= until) {
+                return false;
+              }
+
+              final var timer =
+                  new DueTimer(
+                      timerDueDate,
+                      key.second().first().inner().getValue(),
+                      key.second().second().getValue());
+              if (!consumer.accept(timer)) {
+                loadedUntil.set(timerDueDate);
+                return false;
+              }
+              return true;
+            };
+
+    if (from == Long.MIN_VALUE) {
+      dueDateColumnFamily.whileTrue(visitor);
+    } else {
+      dueDate.wrapLong(from);
+      elementInstanceKey.inner().wrapLong(0);
+      timerKey.wrapLong(0);
+      dueDateColumnFamily.whileTrue(dueDateCompositeKey, visitor);
+    }
+
+    return loadedUntil.get();
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
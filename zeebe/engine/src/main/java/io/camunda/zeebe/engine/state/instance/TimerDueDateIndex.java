@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory index of the due dates of timers, which allows the due date checker to find the due
+ * timers without iterating over the {@code TIMER_DUE_DATES} column family, which may contain many
+ * deleted entries at its start.
+ *
+ * <p>To bound its memory footprint, the index only covers the near future: it contains all timers
+ * which are due before {@link #coveredUntil()}, and may contain some which are due later. Timers
+ * due later are only kept in the state, and are loaded into the index by {@link
+ * #refillIfNecessary(long, DueTimerLoader)} once they come close to their due date. If the index
+ * holds more timers than its capacity, the timers with the latest due dates are dropped again and
+ * the covered range shrinks accordingly.
+ *
+ * <p>The index is modified by the processing state, and read by the due date checker, which may run
+ * on a different thread and reads only committed state. Therefore, changes are only applied to the
+ * index once their transaction is committed, and discarded if it is rolled back.
+ */
+public final class TimerDueDateIndex implements TransactionListener {
+
+  private final NavigableSet<DueTimer> dueTimers = new ConcurrentSkipListSet<>();
+  private final List<Change> uncommittedChanges = new ArrayList<>();
+  private final int capacity;
+  private final long horizonMillis;
+
+  // only modified while holding the lock, to avoid counting the concurrent set
+  private int size;
+  private volatile long coveredUntil = Long.MIN_VALUE;
+  private boolean capacityReached;
+
+  /**
+   * @param capacity the maximum number of timers kept in memory
+   * @param horizonMillis how far into the future the index covers the timers, if the capacity
+   *     allows it
+   */
+  public TimerDueDateIndex(final int capacity, final long horizonMillis) {
+    this.capacity = capacity;
+    this.horizonMillis = horizonMillis;
+  }
+
+  /** All timers with a due date before the returned timestamp (exclusive) are in the index. */
+  long coveredUntil() {
+    return coveredUntil;
+  }
+
+  /**
+   * Returns the timers of the index in ascending order of their due dates. The view is weakly
+   * consistent, i.e. it may or may not reflect changes which are applied while iterating.
+   */
+  Iterable<DueTimer> dueTimers() {
+    return dueTimers;
+  }
+
+  void add(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    uncommittedChanges.add(new Change(true, new DueTimer(dueDate, elementInstanceKey, timerKey)));
+  }
+
+  void remove(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    uncommittedChanges.add(new Change(false, new DueTimer(dueDate, elementInstanceKey, timerKey)));
+  }
+
+  /**
+   * Loads the timers which are due before {@code now} plus the horizon from the state, if the index
+   * does not cover them yet and it did not reach its capacity before.
+   */
+  synchronized void refillIfNecessary(final long now, final DueTimerLoader loader) {
+    final boolean exhausted = now >= coveredUntil;
+    if (!exhausted && (capacityReached || coveredUntil - now > horizonMillis / 2)) {
+      return;
+    }
+
+    final long until = now + horizonMillis;
+    final long loadedUntil =
+        loader.load(
+            coveredUntil,
+            until,
+            dueTimer -> {
+              if (size >= capacity) {
+                return false;
+              }
+              addDueTimer(dueTimer);
+              return true;
+            });
+    coveredUntil = loadedUntil;
+    capacityReached = loadedUntil < until;
+  }
+
+  @Override
+  public synchronized void onCommit() {
+    for (final var change : uncommittedChanges) {
+      final var dueTimer = change.dueTimer();
+      if (!change.added()) {
+        if (dueTimers.remove(dueTimer)) {
+          size--;
+        }
+      } else if (dueTimer.dueDate() < coveredUntil) {
+        addDueTimer(dueTimer);
+      }
+    }
+    uncommittedChanges.clear();
+    shrinkToCapacity();
+  }
+
+  @Override
+  public void onRollback() {
+    uncommittedChanges.clear();
+  }
+
+  private void addDueTimer(final DueTimer dueTimer) {
+    if (dueTimers.add(dueTimer)) {
+      size++;
+    }
+  }
+
+  private void shrinkToCapacity() {
+    while (size > capacity) {
+      // the covered range is reduced before the timer is dropped, such that readers which observe
+      // the previous range still find all timers in it
+      coveredUntil = Math.min(coveredUntil, dueTimers.last().dueDate());
+      capacityReached = true;
+      dueTimers.pollLast();
+      size--;
+    }
+  }
+
+  @FunctionalInterface
+  interface DueTimerLoader {
+
+    /**
+     * Visits the timers of the state which are due at or after {@code from} and before {@code
+     * until}, in ascending order of their due dates, until the consumer returns false.
+     *
+     * @return {@code until} if all timers were visited, or else the due date of the first timer
+     *     which was not visited
+     */
+    long load(long from, long until, DueTimerConsumer consumer);
+  }
+
+  @FunctionalInterface
+  interface DueTimerConsumer {
+    boolean accept(DueTimer dueTimer);
+  }
+
+  record DueTimer(long dueDate, long elementInstanceKey, long timerKey)
+      implements Comparable<DueTimer> {
+
+    @Override
+    public int compareTo(final DueTimer other) {
+      int result = Long.compare(dueDate, other.dueDate);
+      if (result == 0) {
+        result = Long.compare(elementInstanceKey, other.elementInstanceKey);
+      }
+      return result == 0 ? Long.compare(timerKey, other.timerKey) : result;
+    }
+  }
+
+  private record Change(boolean added, DueTimer dueTimer) {}
+}
@@ -56,6 +56,9 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // resolved variables, invalidated on every modification
+  private final VariableLookupCache lookupCache = new VariableLookupCache();
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -75,6 +78,8 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    transactionContext.addTransactionListener(lookupCache);
   }
 
   @Override
@@ -109,6 +114,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    lookupCache.invalidate();
   }
 
   @Override
@@ -117,6 +123,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    lookupCache.invalidate();
   }
 
   @Override
@@ -128,6 +135,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    lookupCache.invalidate();
   }
 
   @Override
@@ -137,6 +145,7 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    lookupCache.invalidate();
   }
 
   @Override
@@ -176,20 +185,74 @@ public class DbVariableState implements MutableVariableState {
   @Override
   public DirectBuffer getVariable(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final long resolvedScopeKey =
+        lookupCache.getResolvedScope(scopeKey, name, nameOffset, nameLength);
+    if (resolvedScopeKey == VariableLookupCache.NOT_FOUND) {
+      return null;
+    } else if (resolvedScopeKey != VariableLookupCache.UNKNOWN) {
+      final var cachedValue = lookupCache.getValue(resolvedScopeKey, name, nameOffset, nameLength);
+      if (cachedValue != null) {
+        return cachedValue;
+      }
 
+      final VariableInstance variable =
+          getVariableLocal(resolvedScopeKey, name, nameOffset, nameLength);
+      return variable != null ? variable.getValue() : null;
+    }
+
+    DirectBuffer value = null;
     long currentScopeKey = scopeKey;
     do {
       final VariableInstance variable =
           getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
       if (variable != null) {
-        return variable.getValue();
+        value = variable.getValue();
+        break;
       }
 
       currentScopeKey = getParentScopeKey(currentScopeKey);
     } while (currentScopeKey >= 0);
 
-    return null;
+    final long foundScopeKey = value != null ? currentScopeKey : VariableLookupCache.NOT_FOUND;
+    lookupCache.put(scopeKey, foundScopeKey, name, nameOffset, nameLength, value);
+    return value;
+  }
+
+  /**
+   * Resolves the variables with the given names by walking up the scope hierarchy once, instead of
+   * once per variable. The values are cached for the following look-ups of {@link
+   * #getVariable(long, DirectBuffer)}, until the state is modified or the transaction completes.
+   */
+  @Override
+  public void prefetchVariables(final long scopeKey, final Collection<String> names) {
+    final List<DirectBuffer> unresolvedNames = new ArrayList<>(names.size());
+    for (final var name : names) {
+      final var nameBuffer = BufferUtil.wrapString(name);
+      if (lookupCache.getResolvedScope(scopeKey, nameBuffer, 0, nameBuffer.capacity())
+          == VariableLookupCache.UNKNOWN) {
+        unresolvedNames.add(nameBuffer);
+      }
+    }
+
+    long currentScopeKey = scopeKey;
+    while (!unresolvedNames.isEmpty() && currentScopeKey >= 0) {
+      final var iterator = unresolvedNames.iterator();
+      while (iterator.hasNext()) {
+        final var name = iterator.next();
+        final var variable = getVariableLocal(currentScopeKey, name, 0, name.capacity());
+        if (variable != null) {
+          lookupCache.put(scopeKey, currentScopeKey, name, 0, name.capacity(), variable.getValue());
+          iterator.remove();
+        }
+      }
+
+      currentScopeKey = getParentScopeKey(currentScopeKey);
+    }
+
+    for (final var name : unresolvedNames) {
+      lookupCache.put(scopeKey, VariableLookupCache.NOT_FOUND, name, 0, name.capacity(), null);
+    }
   }
 
   @Override
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2LongHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the scopes in which variables are found by walking up the scope hierarchy, such that
+ * repeated look-ups of the same variable, for example by the expressions of a gateway or of the
+ * input and output mappings of an element, don't walk up the hierarchy for every scope again.
+ *
+ * <p>The cache is only valid as long as the variables and scopes are not modified, so it is
+ * invalidated on every modification of the variable state, and at the end of every transaction.
+ *
+ * <p>Small values are cached as well, keyed by the scope in which they were found, so that a
+ * variable which is read from several child scopes is only copied once. Larger values are read
+ * again from the scope they were found in. The cache is bounded by the number of resolved variables
+ * and by the bytes of the copied names and values.
+ */
+final class VariableLookupCache implements TransactionListener {
+
+  /** Marks a variable which is not present in the scope hierarchy. */
+  static final long NOT_FOUND = -1;
+
+  /** Marks a variable which was not resolved yet. */
+  static final long UNKNOWN = -2;
+
+  private static final int MAX_ENTRIES = 10_000;
+  private static final int MAX_CACHED_VALUE_LENGTH = 4 * 1024;
+  private static final long MAX_CACHED_BYTES = 4 * 1024 * 1024;
+
+  private final Long2ObjectHashMap<Object2LongHashMap<DirectBuffer>> resolvedScopes =
+      new Long2ObjectHashMap<>();
+  private final Long2ObjectHashMap<Map<DirectBuffer, DirectBuffer>> valuesByScope =
+      new Long2ObjectHashMap<>();
+  private final UnsafeBuffer nameView = new UnsafeBuffer(0, 0);
+  private int entries;
+  private long cachedBytes;
+
+  /**
+   * @return the key of the scope in which the variable was found when starting from the given
+   *     scope, {@link #NOT_FOUND} if the variable is known to be not present, or {@link #UNKNOWN}
+   *     if the variable was not resolved yet
+   */
+  long getResolvedScope(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var scopes = resolvedScopes.get(scopeKey);
+    if (scopes == null) {
+      return UNKNOWN;
+    }
+
+    nameView.wrap(name, nameOffset, nameLength);
+    return scopes.getValue(nameView);
+  }
+
+  /**
+   * @return the cached value of the variable in the scope it was found in, or {@code null} if the
+   *     value is not cached
+   */
+  DirectBuffer getValue(
+      final long foundScopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength) {
+    final var values = valuesByScope.get(foundScopeKey);
+    if (values == null) {
+      return null;
+    }
+
+    nameView.wrap(name, nameOffset, nameLength);
+    return values.get(nameView);
+  }
+
+  /**
+   * Caches the scope in which the variable was found, and its value if it is small enough.
+   *
+   * @param scopeKey the key of the scope the look-up started from
+   * @param foundScopeKey the key of the scope in which the variable was found, or {@link
+   *     #NOT_FOUND}
+   * @param value the value of the variable, or {@code null} if it is not present
+   */
+  void put(
+      final long scopeKey,
+      final long foundScopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer value) {
+    if (entries >= MAX_ENTRIES || cachedBytes + nameLength > MAX_CACHED_BYTES) {
+      invalidate();
+    }
+
+    final var cachedName = copyName(name, nameOffset, nameLength);
+    final var previousScope =
+        resolvedScopes
+            .computeIfAbsent(scopeKey, key -> new Object2LongHashMap<>(UNKNOWN))
+            .put(cachedName, foundScopeKey);
+    if (previousScope == UNKNOWN) {
+      entries++;
+      cachedBytes += nameLength;
+    }
+
+    if (value != null
+        && value.capacity() <= MAX_CACHED_VALUE_LENGTH
+        && cachedBytes + nameLength + value.capacity() <= MAX_CACHED_BYTES) {
+      final var values = valuesByScope.computeIfAbsent(foundScopeKey, key -> new HashMap<>());
+      if (!values.containsKey(cachedName)) {
+        values.put(cachedName, BufferUtil.cloneBuffer(value));
+        cachedBytes += nameLength + value.capacity();
+      }
+    }
+  }
+
+  void invalidate() {
+    if (entries > 0) {
+      resolvedScopes.clear();
+      valuesByScope.clear();
+      entries = 0;
+      cachedBytes = 0;
+    }
+  }
+
+  // the key must be an UnsafeBuffer, like the view used for the look-ups, to be equal to it
+  private static DirectBuffer copyName(
+      final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var bytes = new byte[nameLength];
+    name.getBytes(nameOffset, bytes);
+    return new UnsafeBuffer(bytes);
+  }
+
+  @Override
+  public void onCommit() {
+    invalidate();
+  }
+
+  @Override
+  public void onRollback() {
+    invalidate();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class ExecutableModelCacheTest {
+
+  private final AtomicInteger transformations = new AtomicInteger();
+
+  @Test
+  void shouldTransformProcessOnlyOnce() {
+    // given
+    final var cache = new ExecutableModelCache(1024);
+    final var resource = wrapString("<process/>");
+
+    // when
+    final var process = cache.getProcess(1L, resource, () -> transform("process"));
+    final var cachedProcess = cache.getProcess(1L, resource, () -> transform("process"));
+
+    // then
+    assertThat(cachedProcess).isSameAs(process);
+    assertThat(transformations).hasValue(1);
+  }
+
+  @Test
+  void shouldTransformProcessWithDifferentResource() {
+    // given
+    final var cache = new ExecutableModelCache(1024);
+    final var process = cache.getProcess(1L, wrapString("<process/>"), () -> transform("a"));
+
+    // when
+    final var otherProcess = cache.getProcess(1L, wrapString("<process />"), () -> transform("b"));
+
+    // then
+    assertThat(otherProcess).isNotSameAs(process);
+    assertThat(transformations).hasValue(2);
+  }
+
+  @Test
+  void shouldEvictProcessesExceedingTheMaxWeight() {
+    // given
+    final var cache = new ExecutableModelCache(16);
+    final var resource = wrapString("<process/>");
+    cache.getProcess(1L, resource, () -> transform("a"));
+
+    // when
+    cache.getProcess(2L, resource, () -> transform("b"));
+    cache.getProcess(1L, resource, () -> transform("a"));
+
+    // then
+    assertThat(transformations).hasValue(3);
+  }
+
+  @Test
+  void shouldNotCacheFailedTransformation() {
+    // given
+    final var cache = new ExecutableModelCache(1024);
+    final var resource = wrapString("<process/>");
+
+    // when
+    assertThatThrownBy(
+            () ->
+                cache.getProcess(
+                    1L,
+                    resource,
+                    () -> {
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("expected");
+    cache.getProcess(1L, resource, () -> transform("process"));
+
+    // then
+    assertThat(transformations).hasValue(1);
+  }
+
+  private ExecutableProcess transform(final String id) {
+    transformations.incrementAndGet();
+    return new ExecutableProcess(id);
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.instance.ActivatableJobIndex.JobKeyQueue;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ActivatableJobIndexTest {
+
+  private static final String TYPE = "test";
+
+  private @TempDir File tempDir;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbJobState jobState;
+
+  @BeforeEach
+  void setUp() {
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(tempDir);
+    transactionContext = zeebeDb.createContext();
+    jobState = createJobState();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldVisitActivatableJobsInKeyOrderAcrossTenants() {
+    // given
+    jobState.create(3, newJobRecord("tenant-a"));
+    jobState.create(1, newJobRecord("tenant-b"));
+    jobState.create(2, newJobRecord("tenant-a"));
+    jobState.create(4, newJobRecord("tenant-c"));
+
+    // when
+    final var keys = getActivatableKeys("tenant-a", "tenant-b");
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldNotVisitActivatedJobs() {
+    // given
+    final var jobRecord = newJobRecord(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    jobState.create(1, jobRecord);
+    jobState.create(2, jobRecord);
+
+    // when
+    jobState.activate(1, jobRecord.setDeadline(256L));
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(2L);
+  }
+
+  @Test
+  void shouldRevertChangesOnRollback() throws Exception {
+    // given
+    final var jobRecord = newJobRecord(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    jobState.create(1, jobRecord);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          jobState.create(2, jobRecord);
+          jobState.activate(1, jobRecord.setDeadline(256L));
+        });
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(2L);
+    transaction.rollback();
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(1L);
+  }
+
+  @Test
+  void shouldRebuildIndexOnRecovery() {
+    // given
+    final var stateWithoutIndex = new DbJobState(zeebeDb, transactionContext);
+    stateWithoutIndex.create(1, newJobRecord(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+    stateWithoutIndex.create(2, newJobRecord(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+
+    // when
+    jobState = createJobState();
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldKeepQueueOrderedWhenGrowing() {
+    // given
+    final var queue = new JobKeyQueue();
+    for (long key = 100; key > 0; key--) {
+      queue.add(key);
+    }
+
+    // when
+    for (long key = 1; key <= 50; key++) {
+      queue.remove(key);
+    }
+    queue.add(25);
+
+    // then
+    final var keys = new ArrayList<Long>();
+    queue.forEach(keys::add);
+    assertThat(keys).hasSize(51).startsWith(25L, 51L).endsWith(100L).isSorted();
+  }
+
+  private DbJobState createJobState() {
+    final var state =
+        new DbJobState(
+            zeebeDb,
+            transactionContext,
+            new EngineConfiguration().setEnableActivatableJobIndex(true));
+    state.onRecovered(mock(ReadonlyStreamProcessorContext.class));
+    return state;
+  }
+
+  private JobRecord newJobRecord(final String tenantId) {
+    return new JobRecord().setRetries(2).setType(TYPE).setTenantId(tenantId);
+  }
+
+  private List<Long> getActivatableKeys(final String... tenantIds) {
+    final List<Long> keys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        wrapString(TYPE), List.of(tenantIds), (key, jobRecord) -> keys.add(key));
+    return keys;
+  }
+}
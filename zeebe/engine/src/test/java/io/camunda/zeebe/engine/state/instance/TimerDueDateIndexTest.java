@@ -0,0 +1,200 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionOperation;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class TimerDueDateIndexTest {
+
+  private static final long HORIZON = 10_000L;
+
+  private @TempDir File tempDir;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbTimerInstanceState timerState;
+  private DbTimerInstanceState checkerTimerState;
+
+  @BeforeEach
+  void setUp() {
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(tempDir);
+    transactionContext = zeebeDb.createContext();
+    createTimerStates(100);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldVisitDueTimersInDueDateOrder() {
+    // given
+    createTimer(3, 2_000L);
+    createTimer(1, 1_000L);
+    createTimer(2, 3_000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate = processTimersWithDueDateBefore(2_000L, keys);
+
+    // then
+    assertThat(keys).containsExactly(1L, 3L);
+    assertThat(nextDueDate).isEqualTo(3_000L);
+  }
+
+  @Test
+  void shouldNotVisitRemovedTimers() {
+    // given
+    createTimer(1, 1_000L);
+    final var timer = createTimer(2, 1_000L);
+    processTimersWithDueDateBefore(0L, new ArrayList<>());
+
+    // when
+    commit(() -> timerState.remove(timer));
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    processTimersWithDueDateBefore(1_000L, keys);
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  void shouldNotVisitRolledBackTimers() throws Exception {
+    // given
+    createTimer(1, 1_000L);
+    processTimersWithDueDateBefore(0L, new ArrayList<>());
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> timerState.store(newTimer(2, 1_000L)));
+    transaction.rollback();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    processTimersWithDueDateBefore(1_000L, keys);
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  void shouldLoadTimersOnceTheyComeClose() {
+    // given
+    createTimer(1, 50_000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextCheck = processTimersWithDueDateBefore(0L, keys);
+    final long nextDueDate = processTimersWithDueDateBefore(45_000L, keys);
+    processTimersWithDueDateBefore(50_000L, keys);
+
+    // then
+    assertThat(nextCheck).isEqualTo(50_000L);
+    assertThat(nextDueDate).isEqualTo(50_000L);
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  void shouldReturnNoDueDateIfThereAreNoTimers() {
+    // given
+    final var timer = createTimer(1, 1_000L);
+    processTimersWithDueDateBefore(0L, new ArrayList<>());
+    commit(() -> timerState.remove(timer));
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate = processTimersWithDueDateBefore(1_000L, keys);
+
+    // then
+    assertThat(keys).isEmpty();
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  void shouldFallBackToStateIfCapacityIsExceeded() {
+    // given
+    createTimerStates(2);
+    createTimer(1, 1_000L);
+    createTimer(2, 2_000L);
+    createTimer(3, 3_000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    processTimersWithDueDateBefore(3_000L, keys);
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldDropLatestTimersIfCapacityIsExceeded() {
+    // given
+    createTimerStates(2);
+    createTimer(1, 1_000L);
+    processTimersWithDueDateBefore(0L, new ArrayList<>());
+
+    // when
+    createTimer(2, 3_000L);
+    createTimer(3, 2_000L);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate = processTimersWithDueDateBefore(2_000L, keys);
+    assertThat(keys).containsExactly(1L, 3L);
+    assertThat(nextDueDate).isEqualTo(3_000L);
+  }
+
+  private void createTimerStates(final int capacity) {
+    final var index = new TimerDueDateIndex(capacity, HORIZON);
+    transactionContext.addTransactionListener(index);
+    timerState = new DbTimerInstanceState(zeebeDb, transactionContext, index);
+    checkerTimerState = new DbTimerInstanceState(zeebeDb, zeebeDb.createContext(), index);
+  }
+
+  private TimerInstance createTimer(final long timerKey, final long dueDate) {
+    final var timer = newTimer(timerKey, dueDate);
+    commit(() -> timerState.store(timer));
+    return timer;
+  }
+
+  private TimerInstance newTimer(final long timerKey, final long dueDate) {
+    final var timer = new TimerInstance();
+    // timers without element instance, to not violate the foreign key
+    timer.setElementInstanceKey(-1L);
+    timer.setKey(timerKey);
+    timer.setDueDate(dueDate);
+    return timer;
+  }
+
+  // the index is only updated on commit, as it is when processing a command
+  private void commit(final TransactionOperation operation) {
+    try {
+      final var transaction = transactionContext.getCurrentTransaction();
+      transaction.run(operation);
+      transaction.commit();
+    } catch (final Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private long processTimersWithDueDateBefore(final long timestamp, final List<Long> keys) {
+    return checkerTimerState.processTimersWithDueDateBefore(
+        timestamp, timer -> keys.add(timer.getKey()));
+  }
+}
@@ -437,6 +437,82 @@ public final class VariableStateTest {
             tuple(keyVariableC, parent, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldGetPrefetchedVariables() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+
+    // when
+    variableState.prefetchVariables(child, List.of("a", "b", "c"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "1");
+    assertEquality(variableState.getVariable(child, wrapString("b")), "2");
+    assertThat(variableState.getVariable(child, wrapString("c"))).isNull();
+  }
+
+  @Test
+  public void shouldGetVariableUpdatedAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.prefetchVariables(child, List.of("a", "b"));
+    assertEquality(variableState.getVariable(child, wrapString("a")), "1");
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("3"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+    assertEquality(variableState.getVariable(child, wrapString("b")), "3");
+  }
+
+  @Test
+  public void shouldGetParentVariableFromSiblingScopes() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertEquality(variableState.getVariable(child, wrapString("a")), "1");
+    assertEquality(variableState.getVariable(child2, wrapString("a")), "1");
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+    assertEquality(variableState.getVariable(child2, wrapString("a")), "2");
+  }
+
+  @Test
+  public void shouldGetLargeVariableRepeatedly() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    final String largeValue = "\"" + "x".repeat(64 * 1024) + "\"";
+    setVariableLocal(parent, wrapString("a"), asMsgPack(largeValue));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("1"));
+
+    // when
+    final DirectBuffer first = cloneBuffer(variableState.getVariable(child, wrapString("a")));
+    variableState.getVariable(child, wrapString("b"));
+    final DirectBuffer second = variableState.getVariable(child, wrapString("a"));
+
+    // then
+    assertEquality(first, largeValue);
+    assertEquality(second, largeValue);
+  }
+
   @Test
   public void shouldGetVariablesLocalAtLocalScopeOnly() {
     // given
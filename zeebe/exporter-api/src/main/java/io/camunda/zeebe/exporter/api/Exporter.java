@@ -18,6 +18,7 @@ package io.camunda.zeebe.exporter.api;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
 
 /**
  * Minimal interface to be implemented by concrete exporters.
@@ -73,4 +74,26 @@ public interface Exporter {
    * @param record the record to export
    */
   void export(Record<?> record);
+
+  /**
+   * Called with a batch of consecutive records which passed this exporter's record filter, in log
+   * order. The default implementation simply calls {@link #export(Record)} for every record of the
+   * batch; exporters which can do their work per batch (e.g. append all records to one bulk
+   * request) may override it to avoid the per-record overhead.
+   *
+   * <p>If the method throws an unexpected {@link RuntimeException}, the whole batch is handed over
+   * again until the call terminates without any exception. Records of a batch may therefore be
+   * received more than once, just like with {@link #export(Record)}.
+   *
+   * <p>The given list and its records are only valid for the duration of the call, as they are
+   * reused for the next batch. If the implementation needs to keep records around, it has to call
+   * {@link Record#toJson()} or {@link Record#clone()}, same as for {@link #export(Record)}.
+   *
+   * @param records the records to export, never empty
+   */
+  default void exportBatch(final List<Record<?>> records) {
+    for (final Record<?> record : records) {
+      export(record);
+    }
+  }
 }
@@ -9,19 +9,26 @@ package io.camunda.zeebe.exporter;
 
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
  * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
  * avoid having to serialize it again on retry.
+ *
+ * <p>Operations are serialized directly into a single, reusable buffer, already in the nd-json
+ * format of the bulk API, such that writing the request is a single copy. The buffer keeps its
+ * capacity when the request is cleared, so after warming up, indexing a record does not allocate
+ * any intermediate byte arrays.
  */
 final class BulkIndexRequest implements ContentProducer {
 
@@ -29,11 +36,13 @@ final class BulkIndexRequest implements ContentProducer {
       new ObjectMapper()
           .addMixIn(Record.class, RecordSequenceMixin.class)
           .enable(Feature.ALLOW_SINGLE_QUOTES);
+  private static final ObjectWriter WRITER = MAPPER.writer();
 
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private final List<IndexedOperation> operations = new ArrayList<>();
+  private final OperationsBuffer buffer = new OperationsBuffer();
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -56,31 +65,37 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.size();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      WRITER.writeValue(buffer, action);
+      buffer.write('\n');
+      sourceOffset = buffer.size();
+      serializeRecord(record, recordSequence);
+      buffer.write('\n');
     } catch (final IOException e) {
+      // drop whatever was partially written, the buffer must only contain complete operations
+      buffer.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    // the trailing line ending is not part of the source
+    final int sourceLength = buffer.size() - sourceOffset - 1;
+    memoryUsageBytes += sourceLength;
     lastIndexedMetadata = action;
-    operations.add(command);
+    operations.add(new IndexedOperation(action, sourceOffset, sourceLength));
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  private void serializeRecord(final Record<?> record, final RecordSequence recordSequence)
       throws IOException {
-    return MAPPER
-        .writer()
+    WRITER
         // Enhance the serialized record by its sequence number. The sequence number is not a part
         // of the record itself but a special property for Elasticsearch. It can be used to limit
         // the number of records when reading from the index, for example, by using a range query.
         // Read https://github.com/camunda/camunda/issues/10568 for details.
         .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+        .writeValue(buffer, record);
   }
 
   /** Returns the number of operations indexed so far. */
@@ -98,9 +113,10 @@ final class BulkIndexRequest implements ContentProducer {
     return operations.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /** Clears the buffer entirely. The underlying memory is kept to be reused. */
   void clear() {
     operations.clear();
+    buffer.reset();
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -110,9 +126,14 @@ final class BulkIndexRequest implements ContentProducer {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /** Returns a copy of the currently indexed operations. */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    return operations.stream()
+        .map(
+            operation ->
+                new BulkOperation(
+                    operation.metadata(), buffer.copyOf(operation.offset(), operation.length())))
+        .toList();
   }
 
   /**
@@ -121,16 +142,29 @@ final class BulkIndexRequest implements ContentProducer {
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
 
+  private record IndexedOperation(BulkIndexAction metadata, int offset, int length) {}
+
   @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
   private static final class RecordSequenceMixin {}
+
+  /** A byte array output stream which exposes what is needed to work on its content in place. */
+  private static final class OperationsBuffer extends ByteArrayOutputStream {
+
+    private OperationsBuffer() {
+      super(4 * 1024);
+    }
+
+    private void truncate(final int size) {
+      count = size;
+    }
+
+    private byte[] copyOf(final int offset, final int length) {
+      return Arrays.copyOfRange(buf, offset, offset + length);
+    }
+  }
 }
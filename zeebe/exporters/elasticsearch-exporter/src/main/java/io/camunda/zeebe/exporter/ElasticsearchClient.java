@@ -29,11 +29,16 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer.Sample;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -43,7 +48,9 @@ class ElasticsearchClient implements AutoCloseable {
   private final ElasticsearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private final Queue<BulkIndexRequest> releasedBulkRequests = new ArrayDeque<>();
+  private BulkIndexRequest bulkIndexRequest;
+  private int detachedBulkRequests;
 
   private final ElasticsearchMetrics metrics;
 
@@ -174,19 +181,94 @@ class ElasticsearchClient implements AutoCloseable {
     return putComponentTemplate(template);
   }
 
+  /**
+   * Detaches the current bulk request, so that it can be sent with {@link #sendBulkAsync} while new
+   * records are indexed into a fresh bulk request. The detached request must be handed back via
+   * {@link #releaseBulk(BulkIndexRequest)} once it is not needed anymore, so that its memory can be
+   * reused.
+   *
+   * @return the detached bulk request, or null if it is empty
+   */
+  BulkIndexRequest detachBulk() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+    metrics.stopFlushLatencyMeasurement(flushLatencyMeasurement);
+
+    final var detachedBulk = bulkIndexRequest;
+    final var releasedBulk = releasedBulkRequests.poll();
+    bulkIndexRequest = releasedBulk != null ? releasedBulk : new BulkIndexRequest();
+    metrics.recordInFlightBulks(++detachedBulkRequests);
+    return detachedBulk;
+  }
+
+  /** Clears the given, previously detached bulk request and keeps it for reuse. */
+  void releaseBulk(final BulkIndexRequest bulk) {
+    bulk.clear();
+    releasedBulkRequests.add(bulk);
+    metrics.recordInFlightBulks(--detachedBulkRequests);
+  }
+
+  /**
+   * Sends the given bulk request to Elastic without waiting for the response. The bulk request must
+   * not be modified until the returned future is completed.
+   *
+   * @return a future which is completed once all items of the bulk were flushed, or exceptionally
+   *     with an {@link ElasticsearchExporterException} if any of them was not
+   */
+  CompletableFuture<Void> sendBulkAsync(final BulkIndexRequest bulk) {
+    final var result = new CompletableFuture<Void>();
+    final var flushDuration = metrics.startFlushDurationMeasurement();
+    client.performRequestAsync(
+        createBulkRequest(bulk),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              checkBulkResponse(readResponse(response, BulkIndexResponse.class));
+              metrics.stopFlushDurationMeasurement(flushDuration);
+              result.complete(null);
+            } catch (final IOException e) {
+              onFailure(e);
+            } catch (final ElasticsearchExporterException e) {
+              metrics.recordFailedFlush();
+              result.completeExceptionally(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            metrics.recordFailedFlush();
+            result.completeExceptionally(
+                new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+    return result;
+  }
+
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
 
+    checkBulkResponse(response);
+  }
+
+  private Request createBulkRequest(final BulkIndexRequest bulk) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
+  private void checkBulkResponse(final BulkIndexResponse response) {
     if (response.errors()) {
       throwCollectedBulkError(response);
     }
@@ -268,7 +350,11 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
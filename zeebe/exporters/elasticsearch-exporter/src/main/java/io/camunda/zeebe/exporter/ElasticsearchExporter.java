@@ -53,6 +53,7 @@ public class ElasticsearchExporter implements Exporter {
   private Controller controller;
   private ElasticsearchExporterConfiguration configuration;
   private ElasticsearchClient client;
+  private BulkFlushPipeline bulkFlushPipeline;
   private ElasticsearchRecordCounters recordCounters;
   private MeterRegistry registry;
 
@@ -78,6 +79,10 @@ public class ElasticsearchExporter implements Exporter {
   public void open(final Controller controller) {
     this.controller = controller;
     client = createClient();
+    if (configuration.bulk.maxInFlightRequests > 1) {
+      bulkFlushPipeline =
+          new BulkFlushPipeline(client, controller, log, configuration.bulk.maxInFlightRequests);
+    }
 
     recordCounters =
         controller
@@ -95,8 +100,13 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      if (bulkFlushPipeline != null) {
+        bulkFlushPipeline.dispatch(lastPosition, serializeExporterMetadata());
+        bulkFlushPipeline.drain();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -124,21 +134,31 @@ public class ElasticsearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    if (bulkFlushPipeline != null) {
+      bulkFlushPipeline.acknowledge();
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (!client.shouldFlush()) {
+      // If the exporter doesn't flush synchronously then it can update the record counters
+      // immediately. If the asynchronous flush fails then it will retry only the flush operation
+      // with the records in the pending bulk request.
+      recordCounters.updateRecordCounters(record, recordSequence);
+    } else if (bulkFlushPipeline != null) {
+      // Update the record counters only once there is a free slot for the bulk. If the oldest
+      // in-flight bulk failed, then the exporter will be invoked with the same record again.
+      bulkFlushPipeline.awaitCapacity();
+      recordCounters.updateRecordCounters(record, recordSequence);
+      bulkFlushPipeline.dispatch(lastPosition, serializeExporterMetadata());
+    } else {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
       recordCounters.updateRecordCounters(record, recordSequence);
       updateLastExportedPosition();
-    } else {
-      // If the exporter doesn't flush synchronously then it can update the record counters
-      // immediately. If the asynchronous flush fails then it will retry only the flush operation
-      // with the records in the pending bulk request.
-      recordCounters.updateRecordCounters(record, recordSequence);
     }
   }
 
@@ -150,6 +170,13 @@ public class ElasticsearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -200,8 +227,13 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (bulkFlushPipeline != null) {
+        bulkFlushPipeline.awaitCapacity();
+        bulkFlushPipeline.dispatch(lastPosition, serializeExporterMetadata());
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -218,9 +250,12 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void updateLastExportedPosition() {
+    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata());
+  }
+
+  private byte[] serializeExporterMetadata() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
-    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    return serializeExporterMetadata(exporterMetadata);
   }
 
   private byte[] serializeExporterMetadata(final ElasticsearchExporterMetadata metadata) {
@@ -338,6 +338,9 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // maximum number of bulk requests sent concurrently; with 1 (the default), every bulk request
+    // is flushed synchronously, otherwise the exporter only blocks once all are in flight
+    public int maxInFlightRequests = 1;
 
     @Override
     public String toString() {
@@ -348,6 +351,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -20,6 +20,7 @@ public class ElasticsearchMetrics {
 
   private final MeterRegistry meterRegistry;
   private final AtomicInteger bulkMemorySize = new AtomicInteger(0);
+  private final AtomicInteger inFlightBulks = new AtomicInteger(0);
   private final Timer flushDuration;
   private final DistributionSummary bulkSize;
   private final Counter failedFlush;
@@ -32,6 +33,10 @@ public class ElasticsearchMetrics {
         .description("Exporter bulk memory size")
         .register(meterRegistry);
 
+    Gauge.builder(meterName("bulk.inflight"), inFlightBulks, AtomicInteger::get)
+        .description("Number of bulk requests sent but not yet acknowledged")
+        .register(meterRegistry);
+
     flushDuration =
         Timer.builder(meterName("flush.duration.seconds"))
             .description("Flush duration of bulk exporters in seconds")
@@ -62,6 +67,14 @@ public class ElasticsearchMetrics {
     flushDuration.record(flushFunction);
   }
 
+  public Timer.Sample startFlushDurationMeasurement() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void stopFlushDurationMeasurement(final Timer.Sample flushDurationSample) {
+    flushDurationSample.stop(flushDuration);
+  }
+
   public void recordBulkSize(final int bulkSize) {
     this.bulkSize.record(bulkSize);
   }
@@ -70,6 +83,10 @@ public class ElasticsearchMetrics {
     this.bulkMemorySize.set(bulkMemorySize);
   }
 
+  public void recordInFlightBulks(final int inFlightBulks) {
+    this.inFlightBulks.set(inFlightBulks);
+  }
+
   public void recordFailedFlush() {
     failedFlush.increment();
   }
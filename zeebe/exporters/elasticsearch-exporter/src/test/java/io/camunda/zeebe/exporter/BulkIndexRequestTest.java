@@ -223,6 +223,58 @@ final class BulkIndexRequestTest {
           .containsExactly(recordSequences.get(0).sequence(), recordSequences.get(1).sequence());
     }
 
+    @Test
+    void shouldWriteEachOperationAsMetadataAndSourceLines() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      final var actions =
+          List.of(
+              new BulkIndexAction("index", "id", "routing"),
+              new BulkIndexAction("index2", "id2", "routing2"));
+      request.index(actions.get(0), records.get(0), new RecordSequence(PARTITION_ID, 1));
+      request.index(actions.get(1), records.get(1), new RecordSequence(PARTITION_ID, 2));
+
+      // when
+      final var output = new ByteArrayOutputStream();
+      request.writeTo(output);
+
+      // then
+      final var expected = new ByteArrayOutputStream();
+      for (final var operation : request.bulkOperations()) {
+        expected.write(new ObjectMapper().writeValueAsBytes(operation.metadata()));
+        expected.write('\n');
+        expected.write(operation.source());
+        expected.write('\n');
+      }
+      assertThat(output.toByteArray()).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    void shouldOnlyWriteOperationsIndexedAfterClear() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      final var action = new BulkIndexAction("index", "id", "routing");
+      request.index(
+          new BulkIndexAction("index", "old", "routing"),
+          records.get(0),
+          new RecordSequence(PARTITION_ID, 1));
+      request.clear();
+
+      // when
+      request.index(action, records.get(1), new RecordSequence(PARTITION_ID, 2));
+
+      // then
+      final var output = new ByteArrayOutputStream();
+      request.writeTo(output);
+      try (final var input =
+          new BufferedReader(
+              new InputStreamReader(new ByteArrayInputStream(output.toByteArray())))) {
+        assertThat(deserializeOperation(input.readLine().getBytes(), input.readLine().getBytes()))
+            .isEqualTo(Tuple.tuple(action, records.get(1)));
+        assertThat(input.readLine()).isNull();
+      }
+    }
+
     private Record<?> deserializeSource(final BulkOperation operation) {
       try {
         return MAPPER.readValue(operation.source(), new TypeReference<>() {});
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.exporter.ElasticsearchClient.buildPutIndexLifecyc
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -28,11 +29,14 @@ import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.entity.BasicHttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -129,9 +133,16 @@ final class ElasticsearchClientTest {
   }
 
   private <T> ArgumentCaptor<Request> mockClientResponse(final T content) throws IOException {
+    final var requestCaptor = ArgumentCaptor.forClass(Request.class);
+    final var response = mockResponse(content);
+    when(restClient.performRequest(requestCaptor.capture())).thenReturn(response);
+
+    return requestCaptor;
+  }
+
+  private <T> Response mockResponse(final T content) throws IOException {
     final var httpEntity = new BasicHttpEntity();
     final var serializedContent = MAPPER.writeValueAsBytes(content);
-    final var requestCaptor = ArgumentCaptor.forClass(Request.class);
     final var response = mock(Response.class);
 
     httpEntity.setContent(new ByteArrayInputStream(serializedContent));
@@ -139,9 +150,7 @@ final class ElasticsearchClientTest {
     httpEntity.setContentType("application/json");
 
     when(response.getEntity()).thenReturn(httpEntity);
-    when(restClient.performRequest(requestCaptor.capture())).thenReturn(response);
-
-    return requestCaptor;
+    return response;
   }
 
   @Nested
@@ -247,5 +256,127 @@ final class ElasticsearchClientTest {
       // then
       assertThat(bulkRequest.size()).isEqualTo(1);
     }
+
+    @Test
+    void shouldNotDetachEmptyBulk() {
+      // when
+      final var detachedBulk = client.detachBulk();
+
+      // then
+      assertThat(detachedBulk).isNull();
+    }
+
+    @Test
+    void shouldIndexIntoNewBulkAfterDetaching() {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var detachedBulk = client.detachBulk();
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+
+      // then
+      assertThat(detachedBulk).isSameAs(bulkRequest);
+      assertThat(detachedBulk.size()).isOne();
+      final var nextBulk = client.detachBulk();
+      assertThat(nextBulk).isNotSameAs(detachedBulk);
+      assertThat(nextBulk.size()).isOne();
+    }
+
+    @Test
+    void shouldReuseReleasedBulk() {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      final var detachedBulk = client.detachBulk();
+
+      // when - the released bulk replaces the next detached one
+      client.releaseBulk(detachedBulk);
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+      client.detachBulk();
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 3));
+
+      // then
+      assertThat(detachedBulk.isEmpty()).isFalse();
+      assertThat(client.detachBulk()).isSameAs(detachedBulk);
+    }
+
+    @Test
+    void shouldSendBulkAsync() {
+      // given
+      final ArgumentCaptor<Request> requestCaptor =
+          mockAsyncClientResponse(new BulkIndexResponse(false, List.of()));
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var response = client.sendBulkAsync(client.detachBulk());
+
+      // then
+      assertThat(response).isCompletedWithValue(null);
+      assertThat(requestCaptor.getValue().getEndpoint()).isEqualTo("/_bulk");
+    }
+
+    @Test
+    void shouldFailAsyncBulkOnItemErrors() {
+      // given
+      mockAsyncClientResponse(
+          new BulkIndexResponse(
+              true,
+              List.of(
+                  new BulkIndexResponse.Item(
+                      new BulkIndexResponse.Index(
+                          400, new BulkIndexResponse.Error("type", "reason"))))));
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var response = client.sendBulkAsync(client.detachBulk());
+
+      // then
+      assertThat(response)
+          .failsWithin(Duration.ZERO)
+          .withThrowableOfType(ExecutionException.class)
+          .havingCause()
+          .isInstanceOf(ElasticsearchExporterException.class)
+          .withMessageContaining("reason");
+    }
+
+    @Test
+    void shouldFailAsyncBulkOnRequestFailure() {
+      // given
+      final var failure = new IOException("Injected failure");
+      doAnswer(
+              invocation -> {
+                invocation.<ResponseListener>getArgument(1).onFailure(failure);
+                return null;
+              })
+          .when(restClient)
+          .performRequestAsync(any(), any());
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var response = client.sendBulkAsync(client.detachBulk());
+
+      // then
+      assertThat(response)
+          .failsWithin(Duration.ZERO)
+          .withThrowableOfType(ExecutionException.class)
+          .havingCause()
+          .isInstanceOf(ElasticsearchExporterException.class)
+          .havingCause()
+          .isSameAs(failure);
+    }
+
+    private <T> ArgumentCaptor<Request> mockAsyncClientResponse(final T content) {
+      final var requestCaptor = ArgumentCaptor.forClass(Request.class);
+      doAnswer(
+              invocation -> {
+                final var response = mockResponse(content);
+                invocation.<ResponseListener>getArgument(1).onSuccess(response);
+                return null;
+              })
+          .when(restClient)
+          .performRequestAsync(requestCaptor.capture(), any());
+
+      return requestCaptor;
+    }
   }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.opensearch;
+
+import io.camunda.zeebe.exporter.api.context.Controller;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+
+/**
+ * Sends bulk requests asynchronously, allowing up to {@code maxInFlightRequests} of them to be in
+ * flight at the same time, while acknowledging them strictly in the order they were dispatched. The
+ * last exported position is only updated once a bulk request and all the ones dispatched before it
+ * were flushed successfully; failed bulk requests are kept and sent again.
+ *
+ * <p>As every in-flight bulk request is bounded by the bulk memory limit, the memory held by the
+ * pipeline is bounded by {@code maxInFlightRequests * memoryLimit}. Once all slots are taken, the
+ * exporter is blocked until the oldest bulk request is completed.
+ *
+ * <p>Not thread-safe: all methods must be called from the exporter's actor. The responses only
+ * complete the futures of the in-flight bulk requests, they are acknowledged on the next call.
+ */
+final class BulkFlushPipeline {
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  private final OpensearchClient client;
+  private final Controller controller;
+  private final Logger log;
+  private final int maxInFlightRequests;
+
+  BulkFlushPipeline(
+      final OpensearchClient client,
+      final Controller controller,
+      final Logger log,
+      final int maxInFlightRequests) {
+    this.client = client;
+    this.controller = controller;
+    this.log = log;
+    this.maxInFlightRequests = maxInFlightRequests;
+  }
+
+  /**
+   * Acknowledges all bulk requests which were flushed successfully, up to the first one which is
+   * still in flight or failed, by updating the last exported position to the one of the youngest
+   * acknowledged request.
+   */
+  void acknowledge() {
+    InFlightBulk acknowledged = null;
+    while (!inFlightBulks.isEmpty() && inFlightBulks.peekFirst().isFlushed()) {
+      acknowledged = inFlightBulks.pollFirst();
+      client.releaseBulk(acknowledged.bulk);
+    }
+
+    if (acknowledged != null) {
+      controller.updateLastExportedRecordPosition(acknowledged.position, acknowledged.metadata);
+    }
+  }
+
+  /**
+   * Sends all failed bulk requests again, then waits until a bulk request can be dispatched.
+   *
+   * @throws OpensearchExporterException if the oldest bulk request failed while waiting
+   */
+  void awaitCapacity() {
+    retryFailed();
+    acknowledge();
+
+    while (inFlightBulks.size() >= maxInFlightRequests) {
+      try {
+        inFlightBulks.peekFirst().response.join();
+      } catch (final CompletionException e) {
+        throw new OpensearchExporterException(
+            "Failed to flush bulk request, will retry later", e.getCause());
+      }
+      acknowledge();
+    }
+  }
+
+  /**
+   * Sends the client's current bulk request asynchronously. If it is empty and no other bulk
+   * request is in flight, the given position is acknowledged right away. Callers must ensure there
+   * is capacity for another request by calling {@link #awaitCapacity()} first.
+   *
+   * @param position the position of the last record indexed in the current bulk request
+   * @param metadata the exporter metadata to store along with the position once acknowledged
+   */
+  void dispatch(final long position, final byte[] metadata) {
+    final var bulk = client.detachBulk();
+    if (bulk == null) {
+      if (inFlightBulks.isEmpty()) {
+        controller.updateLastExportedRecordPosition(position, metadata);
+      }
+      return;
+    }
+
+    inFlightBulks.addLast(new InFlightBulk(bulk, position, metadata, client.sendBulkAsync(bulk)));
+  }
+
+  /**
+   * Waits for all in-flight bulk requests to complete and acknowledges the ones which were flushed
+   * successfully, without retrying the failed ones.
+   */
+  void drain() {
+    for (final var inFlightBulk : inFlightBulks) {
+      try {
+        inFlightBulk.response.join();
+      } catch (final CompletionException e) {
+        log.warn("Failed to flush bulk request before closing exporter", e.getCause());
+      }
+    }
+    acknowledge();
+  }
+
+  private void retryFailed() {
+    for (final var inFlightBulk : inFlightBulks) {
+      if (inFlightBulk.response.isCompletedExceptionally()) {
+        log.debug(
+            "Retrying to flush bulk request with {} record(s) up to position {}",
+            inFlightBulk.bulk.size(),
+            inFlightBulk.position);
+        inFlightBulk.response = client.sendBulkAsync(inFlightBulk.bulk);
+      }
+    }
+  }
+
+  private static final class InFlightBulk {
+    private final BulkIndexRequest bulk;
+    private final long position;
+    private final byte[] metadata;
+    private CompletableFuture<Void> response;
+
+    private InFlightBulk(
+        final BulkIndexRequest bulk,
+        final long position,
+        final byte[] metadata,
+        final CompletableFuture<Void> response) {
+      this.bulk = bulk;
+      this.position = position;
+      this.metadata = metadata;
+      this.response = response;
+    }
+
+    private boolean isFlushed() {
+      return response.isDone() && !response.isCompletedExceptionally();
+    }
+  }
+}
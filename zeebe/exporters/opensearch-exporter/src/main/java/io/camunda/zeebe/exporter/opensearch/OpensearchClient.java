@@ -30,14 +30,19 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseListener;
 import org.opensearch.client.RestClient;
 
 public class OpensearchClient implements AutoCloseable {
@@ -48,7 +53,9 @@ public class OpensearchClient implements AutoCloseable {
   private final OpensearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private final Queue<BulkIndexRequest> releasedBulkRequests = new ArrayDeque<>();
+  private BulkIndexRequest bulkIndexRequest;
+  private int detachedBulkRequests;
 
   private final OpensearchMetrics metrics;
 
@@ -164,18 +171,101 @@ public class OpensearchClient implements AutoCloseable {
     return putComponentTemplate(template);
   }
 
+  /**
+   * Detaches the current bulk request, so that it can be sent with {@link #sendBulkAsync} while new
+   * records are indexed into a fresh bulk request. The detached request must be handed back via
+   * {@link #releaseBulk(BulkIndexRequest)} once it is not needed anymore, so that its memory can be
+   * reused.
+   *
+   * @return the detached bulk request, or null if it is empty
+   */
+  BulkIndexRequest detachBulk() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    final var detachedBulk = bulkIndexRequest;
+    final var releasedBulk = releasedBulkRequests.poll();
+    bulkIndexRequest = releasedBulk != null ? releasedBulk : new BulkIndexRequest();
+    metrics.recordInFlightBulks(++detachedBulkRequests);
+    return detachedBulk;
+  }
+
+  /** Clears the given, previously detached bulk request and keeps it for reuse. */
+  void releaseBulk(final BulkIndexRequest bulk) {
+    bulk.clear();
+    releasedBulkRequests.add(bulk);
+    metrics.recordInFlightBulks(--detachedBulkRequests);
+  }
+
+  /**
+   * Sends the given bulk request to Opensearch without waiting for the response. The bulk request
+   * must not be modified until the returned future is completed.
+   *
+   * @return a future which is completed once all items of the bulk were flushed, or exceptionally
+   *     with an {@link OpensearchExporterException} if any of them was not
+   */
+  CompletableFuture<Void> sendBulkAsync(final BulkIndexRequest bulk) {
+    final var result = new CompletableFuture<Void>();
+    final Request request;
+    try {
+      request = createBulkRequest(bulk);
+    } catch (final IOException e) {
+      metrics.recordFailedFlush();
+      return CompletableFuture.failedFuture(
+          new OpensearchExporterException("Failed to flush bulk", e));
+    }
+
+    final var flushDuration = metrics.startFlushDurationMeasurement();
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              checkBulkResponse(readResponse(response, BulkIndexResponse.class));
+              metrics.stopFlushDurationMeasurement(flushDuration);
+              result.complete(null);
+            } catch (final IOException e) {
+              onFailure(e);
+            } catch (final OpensearchExporterException e) {
+              metrics.recordFailedFlush();
+              result.completeExceptionally(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            metrics.recordFailedFlush();
+            result.completeExceptionally(
+                new OpensearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+    return result;
+  }
+
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      request.setJsonEntity(new String(body.getContent().readAllBytes()));
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new OpensearchExporterException("Failed to flush bulk", e);
     }
 
+    checkBulkResponse(response);
+  }
+
+  private Request createBulkRequest(final BulkIndexRequest bulk) throws IOException {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulk);
+    request.setJsonEntity(new String(body.getContent().readAllBytes()));
+    return request;
+  }
+
+  private void checkBulkResponse(final BulkIndexResponse response) {
     if (response.errors()) {
       throwCollectedBulkError(response);
     }
@@ -316,7 +406,11 @@ public class OpensearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
@@ -38,6 +38,7 @@ public class OpensearchExporter implements Exporter {
   private Controller controller;
   private OpensearchExporterConfiguration configuration;
   private OpensearchClient client;
+  private BulkFlushPipeline bulkFlushPipeline;
   private OpensearchRecordCounters recordCounters;
   private MeterRegistry meterRegistry;
 
@@ -62,6 +63,10 @@ public class OpensearchExporter implements Exporter {
   public void open(final Controller controller) {
     this.controller = controller;
     client = createClient();
+    if (configuration.bulk.maxInFlightRequests > 1) {
+      bulkFlushPipeline =
+          new BulkFlushPipeline(client, controller, log, configuration.bulk.maxInFlightRequests);
+    }
 
     recordCounters =
         controller
@@ -79,8 +84,13 @@ public class OpensearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      if (bulkFlushPipeline != null) {
+        bulkFlushPipeline.dispatch(lastPosition, serializeExporterMetadata());
+        bulkFlushPipeline.drain();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -108,21 +118,31 @@ public class OpensearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    if (bulkFlushPipeline != null) {
+      bulkFlushPipeline.acknowledge();
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (!client.shouldFlush()) {
+      // If the exporter doesn't flush synchronously then it can update the record counters
+      // immediately. If the asynchronous flush fails then it will retry only the flush operation
+      // with the records in the pending bulk request.
+      recordCounters.updateRecordCounters(record, recordSequence);
+    } else if (bulkFlushPipeline != null) {
+      // Update the record counters only once there is a free slot for the bulk. If the oldest
+      // in-flight bulk failed, then the exporter will be invoked with the same record again.
+      bulkFlushPipeline.awaitCapacity();
+      recordCounters.updateRecordCounters(record, recordSequence);
+      bulkFlushPipeline.dispatch(lastPosition, serializeExporterMetadata());
+    } else {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
       recordCounters.updateRecordCounters(record, recordSequence);
       updateLastExportedPosition();
-    } else {
-      // If the exporter doesn't flush synchronously then it can update the record counters
-      // immediately. If the asynchronous flush fails then it will retry only the flush operation
-      // with the records in the pending bulk request.
-      recordCounters.updateRecordCounters(record, recordSequence);
     }
   }
 
@@ -134,6 +154,13 @@ public class OpensearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Opensearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -165,8 +192,13 @@ public class OpensearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (bulkFlushPipeline != null) {
+        bulkFlushPipeline.awaitCapacity();
+        bulkFlushPipeline.dispatch(lastPosition, serializeExporterMetadata());
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -183,9 +215,12 @@ public class OpensearchExporter implements Exporter {
   }
 
   private void updateLastExportedPosition() {
+    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata());
+  }
+
+  private byte[] serializeExporterMetadata() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
-    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    return serializeExporterMetadata(exporterMetadata);
   }
 
   private byte[] serializeExporterMetadata(final OpensearchExporterMetadata metadata) {
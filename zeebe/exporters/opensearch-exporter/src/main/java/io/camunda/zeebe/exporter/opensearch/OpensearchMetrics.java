@@ -21,6 +21,7 @@ public class OpensearchMetrics {
 
   private final MeterRegistry meterRegistry;
   private final AtomicInteger bulkMemorySize = new AtomicInteger(0);
+  private final AtomicInteger inFlightBulks = new AtomicInteger(0);
 
   public OpensearchMetrics(final MeterRegistry meterRegistry) {
     this.meterRegistry = meterRegistry;
@@ -33,6 +34,19 @@ public class OpensearchMetrics {
         .minimumExpectedValue(Duration.ofMillis(10));
   }
 
+  public Timer.Sample startFlushDurationMeasurement() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void stopFlushDurationMeasurement(final Timer.Sample flushDurationSample) {
+    flushDurationSample.stop(
+        Timer.builder(meterName("flush.duration.seconds"))
+            .description("Flush duration of bulk exporters in seconds")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(10))
+            .register(meterRegistry));
+  }
+
   public void recordBulkSize(final int bulkSize) {
     DistributionSummary.builder(meterName("bulk.size"))
         .description("Exporter bulk size")
@@ -49,6 +63,14 @@ public class OpensearchMetrics {
     this.bulkMemorySize.set(bulkMemorySize);
   }
 
+  public void recordInFlightBulks(final int inFlightBulks) {
+    Gauge.builder(meterName("bulk.inflight"), this.inFlightBulks, AtomicInteger::get)
+        .description("Number of bulk requests sent but not yet acknowledged")
+        .register(meterRegistry);
+
+    this.inFlightBulks.set(inFlightBulks);
+  }
+
   public void recordFailedFlush() {
     Counter.builder(meterName("failed.flush"))
         .description("Number of failed flush operations")
@@ -0,0 +1,192 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter.opensearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.slf4j.LoggerFactory;
+
+@Execution(ExecutionMode.CONCURRENT)
+final class BulkFlushPipelineTest {
+
+  private final OpensearchClient client = mock(OpensearchClient.class);
+  private final ExporterTestController controller = new ExporterTestController();
+  private final BulkFlushPipeline pipeline =
+      new BulkFlushPipeline(client, controller, LoggerFactory.getLogger(getClass()), 2);
+
+  @Test
+  void shouldAcknowledgeBulksInDispatchOrder() {
+    // given
+    final var firstResponse = dispatchBulk(10);
+    final var secondResponse = dispatchBulk(20);
+
+    // when
+    secondResponse.complete(null);
+    pipeline.acknowledge();
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(-1);
+
+    // when
+    firstResponse.complete(null);
+    pipeline.acknowledge();
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(20);
+    assertThat(controller.readMetadata())
+        .hasValueSatisfying(metadata -> assertThat(metadata).isEqualTo(metadata(20)));
+  }
+
+  @Test
+  void shouldReleaseAcknowledgedBulks() {
+    // given
+    final var bulk = new BulkIndexRequest();
+    final var response = new CompletableFuture<Void>();
+    when(client.detachBulk()).thenReturn(bulk);
+    when(client.sendBulkAsync(bulk)).thenReturn(response);
+    pipeline.dispatch(10, metadata(10));
+
+    // when
+    response.complete(null);
+    pipeline.acknowledge();
+
+    // then
+    verify(client).releaseBulk(bulk);
+  }
+
+  @Test
+  void shouldNotAcknowledgeFailedBulk() {
+    // given
+    final var firstResponse = dispatchBulk(10);
+    final var secondResponse = dispatchBulk(20);
+
+    // when
+    firstResponse.completeExceptionally(new OpensearchExporterException("failure"));
+    secondResponse.complete(null);
+    pipeline.acknowledge();
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(-1);
+    verify(client, never()).releaseBulk(any());
+  }
+
+  @Test
+  void shouldRetryFailedBulk() {
+    // given
+    final var bulk = new BulkIndexRequest();
+    final var failedResponse = new CompletableFuture<Void>();
+    when(client.detachBulk()).thenReturn(bulk);
+    when(client.sendBulkAsync(bulk))
+        .thenReturn(failedResponse)
+        .thenReturn(CompletableFuture.completedFuture(null));
+    pipeline.dispatch(10, metadata(10));
+    failedResponse.completeExceptionally(new OpensearchExporterException("failure"));
+
+    // when
+    pipeline.awaitCapacity();
+
+    // then
+    verify(client, times(2)).sendBulkAsync(bulk);
+    assertThat(controller.getPosition()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldAwaitOldestBulkIfAllSlotsAreTaken() {
+    // given
+    final var firstResponse = dispatchBulk(10);
+    dispatchBulk(20);
+
+    // when
+    firstResponse.complete(null);
+    pipeline.awaitCapacity();
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldThrowIfOldestBulkFailsWhileAwaitingCapacity() {
+    // given
+    final var failure = new OpensearchExporterException("failure");
+    final var bulk = new BulkIndexRequest();
+    when(client.detachBulk()).thenReturn(bulk);
+    when(client.sendBulkAsync(bulk)).thenReturn(CompletableFuture.failedFuture(failure));
+    pipeline.dispatch(10, metadata(10));
+    pipeline.dispatch(20, metadata(20));
+
+    // when - then
+    assertThatThrownBy(pipeline::awaitCapacity)
+        .isInstanceOf(OpensearchExporterException.class)
+        .hasCause(failure);
+  }
+
+  @Test
+  void shouldAcknowledgePositionIfNothingIsInFlight() {
+    // given
+    when(client.detachBulk()).thenReturn(null);
+
+    // when
+    pipeline.dispatch(20, metadata(20));
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(20);
+    verify(client, never()).sendBulkAsync(any());
+  }
+
+  @Test
+  void shouldNotAcknowledgePositionIfBulksAreInFlight() {
+    // given
+    dispatchBulk(10);
+    when(client.detachBulk()).thenReturn(null);
+
+    // when
+    pipeline.dispatch(20, metadata(20));
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldAcknowledgeCompletedBulksOnDrain() {
+    // given
+    dispatchBulk(10).complete(null);
+    dispatchBulk(20).completeExceptionally(new OpensearchExporterException("failure"));
+
+    // when
+    pipeline.drain();
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(10);
+  }
+
+  private CompletableFuture<Void> dispatchBulk(final long position) {
+    final var bulk = new BulkIndexRequest();
+    final var response = new CompletableFuture<Void>();
+    when(client.detachBulk()).thenReturn(bulk);
+    when(client.sendBulkAsync(bulk)).thenReturn(response);
+    pipeline.dispatch(position, metadata(position));
+    return response;
+  }
+
+  private byte[] metadata(final long position) {
+    return String.valueOf(position).getBytes(StandardCharsets.UTF_8);
+  }
+}
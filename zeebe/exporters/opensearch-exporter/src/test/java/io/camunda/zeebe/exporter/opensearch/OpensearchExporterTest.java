@@ -34,6 +34,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -369,6 +370,94 @@ final class OpensearchExporterTest {
       assertThatCode(() -> exporter.export(record)).isInstanceOf(OpensearchExporterException.class);
       assertThat(controller.getPosition()).isEqualTo(-1L);
     }
+
+    @Test
+    void shouldUpdatePositionOnceInFlightBulkIsFlushed() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      final var response = new CompletableFuture<Void>();
+      final var bulk = new BulkIndexRequest();
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true, false);
+      when(client.detachBulk()).thenReturn(bulk);
+      when(client.sendBulkAsync(bulk)).thenReturn(response);
+
+      // when
+      exporter.export(recordAtPosition(10L));
+
+      // then
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      response.complete(null);
+      exporter.export(recordAtPosition(11L));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(10L);
+      verify(client).releaseBulk(bulk);
+    }
+
+    @Test
+    void shouldNotUpdatePositionIfOlderBulkIsStillInFlight() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      final var firstResponse = new CompletableFuture<Void>();
+      final var secondResponse = new CompletableFuture<Void>();
+      final var firstBulk = new BulkIndexRequest();
+      final var secondBulk = new BulkIndexRequest();
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true, true, false);
+      when(client.detachBulk()).thenReturn(firstBulk, secondBulk);
+      when(client.sendBulkAsync(firstBulk)).thenReturn(firstResponse);
+      when(client.sendBulkAsync(secondBulk)).thenReturn(secondResponse);
+      exporter.export(recordAtPosition(10L));
+      exporter.export(recordAtPosition(11L));
+
+      // when
+      secondResponse.complete(null);
+      exporter.export(recordAtPosition(12L));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      firstResponse.complete(null);
+      exporter.export(recordAtPosition(13L));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(11L);
+    }
+
+    @Test
+    void shouldFailExportIfAllInFlightBulksAreTakenAndOldestFails() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      final var bulk = new BulkIndexRequest();
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      when(client.detachBulk()).thenReturn(bulk);
+      when(client.sendBulkAsync(bulk))
+          .thenReturn(
+              CompletableFuture.failedFuture(new OpensearchExporterException("failed to flush")));
+      exporter.export(recordAtPosition(10L));
+      exporter.export(recordAtPosition(11L));
+
+      // when - then
+      assertThatCode(() -> exporter.export(recordAtPosition(12L)))
+          .isInstanceOf(OpensearchExporterException.class);
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    private Record<?> recordAtPosition(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
   }
 
   @Nested
@@ -392,6 +481,16 @@ final class OpensearchExporterTest {
       assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
     }
 
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(ints = {-1, 0})
+    void shouldForbidNonPositiveMaxInFlightRequests(final int invalidMaxInFlightRequests) {
+      // given
+      config.bulk.maxInFlightRequests = invalidMaxInFlightRequests;
+
+      // when - then
+      assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
+    }
+
     @Test
     void shouldForbidNegativeNumberOfReplicas() {
       // given
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.el;
 
+import java.util.Collection;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 
@@ -21,6 +22,14 @@ public interface EvaluationContext {
    */
   DirectBuffer getVariable(String variableName);
 
+  /**
+   * Hints that the variables with the given names will be looked up next, which allows the context
+   * to resolve them at once instead of one by one. The default implementation does nothing.
+   *
+   * @param variableNames the names of the variables which will be looked up
+   */
+  default void prefetchVariables(final Collection<String> variableNames) {}
+
   /**
    * Combines two evaluation contexts. The combined evaluation context will first search for the
    * variable in {@code this} evaluation context. If the variable is not found, it will attempt the
@@ -31,8 +40,19 @@ public interface EvaluationContext {
    * @return combined evaluation context
    */
   default EvaluationContext combine(final EvaluationContext secondaryEvaluationContext) {
-    return variable ->
-        Optional.ofNullable(getVariable(variable))
+    final EvaluationContext primaryEvaluationContext = this;
+    return new EvaluationContext() {
+      @Override
+      public DirectBuffer getVariable(final String variable) {
+        return Optional.ofNullable(primaryEvaluationContext.getVariable(variable))
             .orElseGet(() -> secondaryEvaluationContext.getVariable(variable));
+      }
+
+      @Override
+      public void prefetchVariables(final Collection<String> variableNames) {
+        primaryEvaluationContext.prefetchVariables(variableNames);
+        secondaryEvaluationContext.prefetchVariables(variableNames);
+      }
+    };
   }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.el;
 
 import java.util.Optional;
+import java.util.Set;
 
 /** A parsed expression. */
 public interface Expression {
@@ -23,6 +24,18 @@ public interface Expression {
    */
   Optional<String> getVariableName();
 
+  /**
+   * Returns the names of the variables which the expression may look up in the evaluation context.
+   * The names may include names which are not resolved from the context, for example, the iteration
+   * variables of a {@code for} expression.
+   *
+   * @return the names of the variables referenced by the expression, or an empty set if it does not
+   *     reference any variables
+   */
+  default Set<String> getVariableNames() {
+    return getVariableName().map(Set::of).orElse(Set.of());
+  }
+
   /**
    * @return {@code true} if it is a static expression that does not require additional context
    *     variables
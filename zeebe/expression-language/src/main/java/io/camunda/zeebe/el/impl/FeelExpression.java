@@ -8,18 +8,27 @@
 package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
 import org.camunda.feel.syntaxtree.Ref;
+import scala.Product;
+import scala.collection.Iterable;
 
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Set<String> variableNames;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+
+    final var names = new HashSet<String>();
+    collectVariableNames(expression.expression(), names);
+    variableNames = Set.copyOf(names);
   }
 
   @Override
@@ -32,6 +41,11 @@ public final class FeelExpression implements Expression {
     return extractVariableName(expression.expression());
   }
 
+  @Override
+  public Set<String> getVariableNames() {
+    return variableNames;
+  }
+
   @Override
   public boolean isStatic() {
     return false;
@@ -59,6 +73,25 @@ public final class FeelExpression implements Expression {
     return Optional.empty();
   }
 
+  /**
+   * Collects the first name of all references in the syntax tree. The tree consists of case
+   * classes, which are visited generically as products to not depend on every type of node.
+   */
+  private static void collectVariableNames(final Object node, final Set<String> names) {
+    if (node instanceof final Ref ref) {
+      names.add(ref.names().head());
+    } else if (node instanceof final Iterable<?> iterable) {
+      iterable.foreach(element -> collectChildVariableNames(element, names));
+    } else if (node instanceof final Product product) {
+      product.productIterator().foreach(element -> collectChildVariableNames(element, names));
+    }
+  }
+
+  private static Object collectChildVariableNames(final Object node, final Set<String> names) {
+    collectVariableNames(node, names);
+    return null;
+  }
+
   public ParsedExpression getParsedExpression() {
     return expression;
   }
@@ -108,6 +108,10 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final FeelExpression feelExpression) {
 
     final var parsedExpression = feelExpression.getParsedExpression();
+    final var variableNames = feelExpression.getVariableNames();
+    if (!variableNames.isEmpty()) {
+      context.prefetchVariables(variableNames);
+    }
     final var feelContext = new FeelVariableContext(context);
 
     final var evaluationResult = feelEngine.evaluate(parsedExpression, feelContext);
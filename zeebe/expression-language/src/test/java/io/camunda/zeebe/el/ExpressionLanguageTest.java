@@ -13,7 +13,11 @@ import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.el.impl.StaticExpression;
 import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import org.agrona.DirectBuffer;
 import org.junit.Test;
 
 public class ExpressionLanguageTest {
@@ -73,6 +77,49 @@ public class ExpressionLanguageTest {
     assertThat(expression.getFailureMessage()).isNull();
   }
 
+  @Test
+  public void shouldCollectReferencedVariableNames() {
+    final var expression =
+        expressionLanguage.parseExpression(
+            "=if x.y > 5 then sum(for i in items return i.price) else {total: z}.total");
+
+    assertThat(expression.getVariableNames()).containsExactlyInAnyOrder("x", "items", "i", "z");
+  }
+
+  @Test
+  public void shouldNotCollectVariableNamesOfStaticExpression() {
+    final var expression = expressionLanguage.parseExpression("x");
+
+    assertThat(expression.getVariableNames()).isEmpty();
+  }
+
+  @Test
+  public void shouldPrefetchReferencedVariables() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=a + b");
+    final List<String> prefetchedVariables = new ArrayList<>();
+    final var context =
+        new EvaluationContext() {
+          @Override
+          public DirectBuffer getVariable(final String variableName) {
+            return asMsgPack("1");
+          }
+
+          @Override
+          public void prefetchVariables(final Collection<String> variableNames) {
+            prefetchedVariables.addAll(variableNames);
+          }
+        };
+
+    // when
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(expression, context.combine(EMPTY_CONTEXT));
+
+    // then
+    assertThat(evaluationResult.getNumber()).isEqualTo(2L);
+    assertThat(prefetchedVariables).containsExactlyInAnyOrder("a", "b");
+  }
+
   @Test
   public void shouldParseMultilineExpression() {
     final var expression = expressionLanguage.parseExpression("={\nx:1\n}");
@@ -313,6 +313,41 @@ public final class LongPollingActivateJobsTest {
     verify(activateJobsStub, timeout(1000).times(totalRequests * partitionsCount)).handle(any());
   }
 
+  @Test
+  public void shouldSkipEmptyPartitionsUntilJobsAvailable() throws Exception {
+    // given
+    handler =
+        LongPollingActivateJobsHandler.<ActivateJobsResponse>newBuilder()
+            .setBrokerClient(brokerClient)
+            .setMaxMessageSize(MAX_MESSAGE_SIZE)
+            .setLongPollingTimeout(LONG_POLLING_TIMEOUT)
+            .setProbeTimeoutMillis(PROBE_TIMEOUT)
+            .setMinEmptyResponses(FAILED_RESPONSE_THRESHOLD)
+            .setSkipEmptyPartitions(true)
+            .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+            .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
+            .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
+            .build();
+    submitActorToActivateJobs(handler);
+    activateJobsAndWaitUntilBlocked(1);
+
+    // when
+    final InflightActivateJobsRequest<ActivateJobsResponse> request =
+        getLongPollingActivateJobsRequest();
+    handler.internalActivateJobsRetry(request);
+    waitUntil(request::hasScheduledTimer);
+
+    // then
+    verify(activateJobsStub, times(partitionsCount)).handle(any());
+
+    // when
+    activateJobsStub.addAvailableJobs(TYPE, 2 * MAX_JOBS_TO_ACTIVATE);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    Awaitility.await().until(request::isCompleted);
+  }
+
   @Test
   public void shouldUseRequestSpecificTimeout() {
     final int requestTimeout = 1000;
@@ -23,6 +23,7 @@ public final class ConfigurationDefaults {
   public static final boolean DEFAULT_LONG_POLLING_ENABLED = true;
   public static final long DEFAULT_LONG_POLLING_TIMEOUT = 10_000;
   public static final int DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD = 3;
+  public static final boolean DEFAULT_LONG_POLLING_SKIP_EMPTY_PARTITIONS = false;
   public static final boolean DEFAULT_TLS_ENABLED = false;
   public static final long DEFAULT_PROBE_TIMEOUT = 10_000; // 10 seconds
 
@@ -16,6 +16,8 @@ public final class LongPollingCfg {
   private long probeTimeout = ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+  private boolean skipEmptyPartitions =
+      ConfigurationDefaults.DEFAULT_LONG_POLLING_SKIP_EMPTY_PARTITIONS;
 
   public long getTimeout() {
     return timeout;
@@ -41,6 +43,14 @@ public final class LongPollingCfg {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  public boolean isSkipEmptyPartitions() {
+    return skipEmptyPartitions;
+  }
+
+  public void setSkipEmptyPartitions(final boolean skipEmptyPartitions) {
+    this.skipEmptyPartitions = skipEmptyPartitions;
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -52,7 +62,7 @@ public final class LongPollingCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses);
+    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses, skipEmptyPartitions);
   }
 
   @Override
@@ -67,7 +77,8 @@ public final class LongPollingCfg {
     return enabled == that.enabled
         && timeout == that.timeout
         && probeTimeout == that.probeTimeout
-        && minEmptyResponses == that.minEmptyResponses;
+        && minEmptyResponses == that.minEmptyResponses
+        && skipEmptyPartitions == that.skipEmptyPartitions;
   }
 
   @Override
@@ -81,6 +92,8 @@ public final class LongPollingCfg {
         + probeTimeout
         + ", minEmptyResponses="
         + minEmptyResponses
+        + ", skipEmptyPartitions="
+        + skipEmptyPartitions
         + '}';
   }
 }
@@ -7,17 +7,18 @@
  */
 package io.camunda.zeebe.gateway.impl.job;
 
-import io.camunda.zeebe.broker.client.impl.PartitionIdIterator;
+import java.util.Iterator;
 
 public class InflightActivateJobsRequestState {
 
-  private final PartitionIdIterator iterator;
+  private final Iterator<Integer> iterator;
+  private int currentPartition;
   private int remainingAmount;
   private boolean pollPrevPartition;
   private boolean resourceExhaustedWasPresent;
 
   public InflightActivateJobsRequestState(
-      final PartitionIdIterator iterator, final int remainingAmount) {
+      final Iterator<Integer> iterator, final int remainingAmount) {
     this.iterator = iterator;
     this.remainingAmount = remainingAmount;
   }
@@ -27,11 +28,14 @@ public class InflightActivateJobsRequestState {
   }
 
   public int getCurrentPartition() {
-    return iterator.getCurrentPartitionId();
+    return currentPartition;
   }
 
   public int getNextPartition() {
-    return pollPrevPartition ? iterator.getCurrentPartitionId() : iterator.next();
+    if (!pollPrevPartition) {
+      currentPartition = iterator.next();
+    }
+    return currentPartition;
   }
 
   public int getRemainingAmount() {
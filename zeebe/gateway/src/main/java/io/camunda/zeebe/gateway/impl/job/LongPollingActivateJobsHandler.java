@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.impl.job;
 
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_SKIP_EMPTY_PARTITIONS;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_TIMEOUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
 import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
@@ -60,13 +61,19 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final long longPollingTimeout,
       final long probeTimeoutMillis,
       final int failedAttemptThreshold,
+      final boolean skipEmptyPartitions,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> noJobsReceivedExceptionProvider,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
     this.brokerClient = brokerClient;
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+            brokerClient,
+            maxMessageSize,
+            activationResultMapper,
+            requestCanceledExceptionProvider,
+            skipEmptyPartitions,
+            probeTimeoutMillis);
     this.noJobsReceivedExceptionProvider = noJobsReceivedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
@@ -288,6 +295,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
 
   private void onJobAvailableNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
+    activateJobsHandler.onJobsAvailable(jobType);
 
     // instead of calling #getJobTypeState(), do only a
     // get to avoid the creation of a state instance.
@@ -380,6 +388,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     // Minimum number of responses with jobCount 0 to infer that no jobs are available
     private int minEmptyResponses = DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+    // Whether to skip partitions which returned no jobs until jobs become available again
+    private boolean skipEmptyPartitions = DEFAULT_LONG_POLLING_SKIP_EMPTY_PARTITIONS;
     private Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
     private Function<String, Exception> noJobsReceivedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
@@ -409,6 +419,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setSkipEmptyPartitions(final boolean skipEmptyPartitions) {
+      this.skipEmptyPartitions = skipEmptyPartitions;
+      return this;
+    }
+
     public Builder<T> setActivationResultMapper(
         final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper) {
       this.activationResultMapper = activationResultMapper;
@@ -435,6 +450,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           longPollingTimeout,
           probeTimeoutMillis,
           minEmptyResponses,
+          skipEmptyPartitions,
           activationResultMapper,
           noJobsReceivedExceptionProvider,
           requestCanceledExceptionProvider);
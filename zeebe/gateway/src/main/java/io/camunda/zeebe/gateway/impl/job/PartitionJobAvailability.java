@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track, per job type and tenants, of the partitions which are known to have jobs available
+ * to activate and of the partitions which are known to have none, based on the responses of
+ * previous job activations. It is used to order the partitions of a job activation, such that
+ * partitions known to have jobs are asked first, and partitions known to be empty are skipped.
+ *
+ * <p>A partition without jobs for some tenants may still have jobs for others, so the availability
+ * is only shared between activations for the same job type and the same tenants.
+ *
+ * <p>As job available notifications do not contain the partition or the tenant, a notification for
+ * a job type forgets everything known about that type. Since notifications are not guaranteed to
+ * arrive, a partition is also only considered empty for a limited time after its last empty
+ * response.
+ *
+ * <p>Except for {@link #onJobsAvailable(String)}, which may be called from any thread, all methods
+ * are expected to be called from the actor of the activate jobs handler.
+ */
+final class PartitionJobAvailability {
+
+  private final Map<String, Map<Set<String>, JobTypeAvailability>> jobTypeAvailability =
+      new ConcurrentHashMap<>();
+  private final long emptyPartitionTimeoutMillis;
+  private final JobActivationMetrics metrics;
+
+  PartitionJobAvailability(
+      final long emptyPartitionTimeoutMillis, final JobActivationMetrics metrics) {
+    this.emptyPartitionTimeoutMillis = emptyPartitionTimeoutMillis;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the partitions to activate jobs of the given type and tenants on, in the order of the
+   * given iterator, except that partitions known to have jobs come first, and partitions known to
+   * have no jobs are left out. A left out partition is only counted as skipped once the returned
+   * iterator passes the place where it would have been asked.
+   */
+  Iterator<Integer> orderPartitions(
+      final String jobType,
+      final List<String> tenantIds,
+      final Iterator<Integer> partitions,
+      final long now) {
+    final var availability = getAvailability(jobType, tenantIds);
+    if (availability == null) {
+      return partitions;
+    }
+
+    final List<Integer> orderedPartitions = new ArrayList<>();
+    final List<Integer> otherPartitions = new ArrayList<>();
+    partitions.forEachRemaining(
+        partitionId ->
+            (availability.hasJobs(partitionId) ? orderedPartitions : otherPartitions)
+                .add(partitionId));
+
+    // empty partitions keep their place in the order, so that they are counted as skipped when
+    // they would have been asked
+    final long emptySinceAtLeast = now - emptyPartitionTimeoutMillis;
+    final BitSet emptyPartitions = new BitSet();
+    for (final int partitionId : otherPartitions) {
+      if (availability.isEmpty(partitionId, emptySinceAtLeast)) {
+        emptyPartitions.set(orderedPartitions.size());
+      }
+      orderedPartitions.add(partitionId);
+    }
+    return new SkippingPartitionIterator(orderedPartitions, emptyPartitions, metrics);
+  }
+
+  void onJobsActivated(final String jobType, final List<String> tenantIds, final int partitionId) {
+    getOrCreateAvailability(jobType, tenantIds).markHasJobs(partitionId);
+  }
+
+  void onNoJobsActivated(
+      final String jobType, final List<String> tenantIds, final int partitionId, final long now) {
+    getOrCreateAvailability(jobType, tenantIds).markEmpty(partitionId, now);
+  }
+
+  void onJobsAvailable(final String jobType) {
+    jobTypeAvailability.remove(jobType);
+  }
+
+  private JobTypeAvailability getAvailability(final String jobType, final List<String> tenantIds) {
+    final var tenantAvailability = jobTypeAvailability.get(jobType);
+    return tenantAvailability != null ? tenantAvailability.get(Set.copyOf(tenantIds)) : null;
+  }
+
+  private JobTypeAvailability getOrCreateAvailability(
+      final String jobType, final List<String> tenantIds) {
+    return jobTypeAvailability
+        .computeIfAbsent(jobType, type -> new HashMap<>())
+        .computeIfAbsent(Set.copyOf(tenantIds), tenants -> new JobTypeAvailability());
+  }
+
+  private static final class JobTypeAvailability {
+    private final Set<Integer> partitionsWithJobs = new HashSet<>();
+    private final Map<Integer, Long> emptyPartitions = new HashMap<>();
+
+    private boolean hasJobs(final int partitionId) {
+      return partitionsWithJobs.contains(partitionId);
+    }
+
+    private boolean isEmpty(final int partitionId, final long emptySinceAtLeast) {
+      final var emptySince = emptyPartitions.get(partitionId);
+      return emptySince != null && emptySince >= emptySinceAtLeast;
+    }
+
+    private void markHasJobs(final int partitionId) {
+      emptyPartitions.remove(partitionId);
+      partitionsWithJobs.add(partitionId);
+    }
+
+    private void markEmpty(final int partitionId, final long now) {
+      partitionsWithJobs.remove(partitionId);
+      emptyPartitions.put(partitionId, now);
+    }
+  }
+
+  /**
+   * Iterates over the partitions to ask, and counts the partitions known to be empty as skipped
+   * when it passes them.
+   */
+  private static final class SkippingPartitionIterator implements Iterator<Integer> {
+    private final List<Integer> partitions;
+    private final BitSet emptyPartitions;
+    private final JobActivationMetrics metrics;
+    private int index;
+
+    private SkippingPartitionIterator(
+        final List<Integer> partitions,
+        final BitSet emptyPartitions,
+        final JobActivationMetrics metrics) {
+      this.partitions = partitions;
+      this.emptyPartitions = emptyPartitions;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (index < partitions.size() && emptyPartitions.get(index)) {
+        metrics.skippedPartition();
+        index++;
+      }
+      return index < partitions.size();
+    }
+
+    @Override
+    public Integer next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return partitions.get(index++);
+    }
+  }
+}
@@ -18,10 +18,13 @@ import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,6 +35,9 @@ import java.util.function.Function;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>Optionally, partitions which are known to have jobs of the requested type are asked first, and
+ * partitions known to have none are skipped, see {@link PartitionJobAvailability}.
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -47,6 +53,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
   private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final JobActivationMetrics metrics = new JobActivationMetrics();
+  private final PartitionJobAvailability partitionJobAvailability;
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
@@ -56,11 +64,38 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(
+        brokerClient,
+        maxMessageSize,
+        activationResultMapper,
+        requestCanceledExceptionProvider,
+        false,
+        0);
+  }
+
+  /**
+   * @param skipEmptyPartitions if true, partitions known to have jobs are asked first and
+   *     partitions known to have no jobs are skipped; only sensible if {@link
+   *     #onJobsAvailable(String)} is called on job available notifications
+   * @param emptyPartitionTimeoutMillis how long a partition is considered empty after it returned
+   *     no jobs, if no notification arrives in between
+   */
+  RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final boolean skipEmptyPartitions,
+      final long emptyPartitionTimeoutMillis) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
     this.requestCanceledExceptionProvider = requestCanceledExceptionProvider;
+    partitionJobAvailability =
+        skipEmptyPartitions
+            ? new PartitionJobAvailability(emptyPartitionTimeoutMillis, metrics)
+            : null;
   }
 
   @Override
@@ -95,9 +130,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final InflightActivateJobsRequest<T> request,
       final Consumer<Throwable> onError,
       final BiConsumer<Integer, Boolean> onCompleted) {
-    final var jobType = request.getType();
     final var maxJobsToActivate = request.getMaxJobsToActivate();
-    final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
+    final var partitionIterator = partitionIteratorForRequest(request, partitionsCount);
 
     final var requestState =
         new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
@@ -173,6 +207,12 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
             reactivateJobs(jobsToDefer, reason);
           }
 
+          updateJobAvailability(
+              request,
+              brokerResponse.getPartitionId(),
+              !response.getJobKeys().isEmpty(),
+              response.getTruncated());
+
           final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
           final var jobsCount = jobActivationResult.getJobsCount();
           final var jobsActivated = jobsCount > 0;
@@ -202,6 +242,36 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         });
   }
 
+  /** Forgets which partitions are known to have no jobs of the given type. */
+  void onJobsAvailable(final String jobType) {
+    if (partitionJobAvailability != null) {
+      partitionJobAvailability.onJobsAvailable(jobType);
+    }
+  }
+
+  private void updateJobAvailability(
+      final InflightActivateJobsRequest<T> request,
+      final int partitionId,
+      final boolean jobsActivated,
+      final boolean truncated) {
+    if (jobsActivated) {
+      if (partitionJobAvailability != null) {
+        partitionJobAvailability.onJobsActivated(
+            request.getType(), getTenantIds(request), partitionId);
+      }
+    } else if (!truncated) {
+      metrics.emptyResponse();
+      if (partitionJobAvailability != null) {
+        partitionJobAvailability.onNoJobsActivated(
+            request.getType(), getTenantIds(request), partitionId, ActorClock.currentTimeMillis());
+      }
+    }
+  }
+
+  private List<String> getTenantIds(final InflightActivateJobsRequest<T> request) {
+    return request.getRequest().getRequestWriter().getTenantIds();
+  }
+
   private String createReasonMessage(final Either<Exception, Boolean> resultValue) {
     final String errorMessage;
     if (resultValue.isLeft()) {
@@ -289,14 +359,22 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         reason);
   }
 
-  private PartitionIdIterator partitionIdIteratorForType(
-      final String jobType, final int partitionsCount) {
+  private Iterator<Integer> partitionIteratorForRequest(
+      final InflightActivateJobsRequest<T> request, final int partitionsCount) {
+    final var jobType = request.getType();
     final var nextPartitionSupplier =
         jobTypeToNextPartitionId.computeIfAbsent(jobType, t -> new RoundRobinDispatchStrategy());
-    return new PartitionIdIterator(
-        nextPartitionSupplier.determinePartition(topologyManager),
-        partitionsCount,
-        topologyManager);
+    final var partitionIterator =
+        new PartitionIdIterator(
+            nextPartitionSupplier.determinePartition(topologyManager),
+            partitionsCount,
+            topologyManager);
+
+    if (partitionJobAvailability == null) {
+      return partitionIterator;
+    }
+    return partitionJobAvailability.orderPartitions(
+        jobType, getTenantIds(request), partitionIterator, ActorClock.currentTimeMillis());
   }
 
   private record ResponseObserverDelegate(
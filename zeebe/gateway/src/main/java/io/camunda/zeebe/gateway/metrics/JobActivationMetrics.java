@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class JobActivationMetrics {
+  private static final Counter EMPTY_RESPONSES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_job_activation_empty_responses")
+          .help("Number of job activation requests to a partition which had no jobs to activate")
+          .register();
+
+  private static final Counter SKIPPED_PARTITIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_job_activation_skipped_partitions")
+          .help("Number of partitions skipped during job activation as they were known to be empty")
+          .register();
+
+  public void emptyResponse() {
+    EMPTY_RESPONSES.inc();
+  }
+
+  public void skippedPartition() {
+    SKIPPED_PARTITIONS.inc();
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.metrics.JobActivationMetrics;
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class PartitionJobAvailabilityTest {
+
+  private static final String TYPE = "type";
+  private static final long EMPTY_PARTITION_TIMEOUT = 1000;
+  private static final List<String> TENANTS = List.of("tenant-a", "tenant-b");
+  private static final List<Integer> PARTITIONS = List.of(3, 4, 1, 2);
+
+  private final PartitionJobAvailability availability =
+      new PartitionJobAvailability(EMPTY_PARTITION_TIMEOUT, new JobActivationMetrics());
+
+  @Test
+  void shouldKeepOrderIfNothingIsKnown() {
+    // when
+    final var partitions = availability.orderPartitions(TYPE, TENANTS, PARTITIONS.iterator(), 0);
+
+    // then
+    assertThat(toList(partitions)).containsExactlyElementsOf(PARTITIONS);
+  }
+
+  @Test
+  void shouldOrderPartitionsWithJobsFirst() {
+    // given
+    availability.onJobsActivated(TYPE, TENANTS, 1);
+    availability.onJobsActivated(TYPE, TENANTS, 2);
+
+    // when
+    final var partitions = availability.orderPartitions(TYPE, TENANTS, PARTITIONS.iterator(), 0);
+
+    // then
+    assertThat(toList(partitions)).containsExactly(1, 2, 3, 4);
+  }
+
+  @Test
+  void shouldSkipEmptyPartitions() {
+    // given
+    availability.onNoJobsActivated(TYPE, TENANTS, 3, 0);
+    availability.onNoJobsActivated(TYPE, TENANTS, 1, 0);
+
+    // when
+    final var partitions =
+        availability.orderPartitions(TYPE, TENANTS, PARTITIONS.iterator(), EMPTY_PARTITION_TIMEOUT);
+
+    // then
+    assertThat(toList(partitions)).containsExactly(4, 2);
+  }
+
+  @Test
+  void shouldNotSkipEmptyPartitionsAfterTimeout() {
+    // given
+    availability.onNoJobsActivated(TYPE, TENANTS, 3, 0);
+
+    // when
+    final var partitions =
+        availability.orderPartitions(
+            TYPE, TENANTS, PARTITIONS.iterator(), EMPTY_PARTITION_TIMEOUT + 1);
+
+    // then
+    assertThat(toList(partitions)).containsExactlyElementsOf(PARTITIONS);
+  }
+
+  @Test
+  void shouldNotSkipPartitionWhichHasJobsAgain() {
+    // given
+    availability.onNoJobsActivated(TYPE, TENANTS, 3, 0);
+    availability.onJobsActivated(TYPE, TENANTS, 3);
+
+    // when
+    final var partitions = availability.orderPartitions(TYPE, TENANTS, PARTITIONS.iterator(), 0);
+
+    // then
+    assertThat(toList(partitions)).containsExactlyElementsOf(PARTITIONS);
+  }
+
+  @Test
+  void shouldForgetEmptyPartitionsWhenJobsAvailable() {
+    // given
+    availability.onNoJobsActivated(TYPE, TENANTS, 3, 0);
+    availability.onNoJobsActivated(TYPE, TENANTS, 4, 0);
+
+    // when
+    availability.onJobsAvailable(TYPE);
+
+    // then
+    final var partitions = availability.orderPartitions(TYPE, TENANTS, PARTITIONS.iterator(), 0);
+    assertThat(toList(partitions)).containsExactlyElementsOf(PARTITIONS);
+  }
+
+  @Test
+  void shouldTrackJobTypesSeparately() {
+    // given
+    availability.onNoJobsActivated(TYPE, TENANTS, 3, 0);
+
+    // when
+    final var partitions = availability.orderPartitions("other", TENANTS, PARTITIONS.iterator(), 0);
+
+    // then
+    assertThat(toList(partitions)).containsExactlyElementsOf(PARTITIONS);
+  }
+
+  @Test
+  void shouldTrackTenantsSeparately() {
+    // given
+    availability.onNoJobsActivated(TYPE, List.of("tenant-a"), 3, 0);
+
+    // when
+    final var partitions =
+        availability.orderPartitions(TYPE, List.of("tenant-b"), PARTITIONS.iterator(), 0);
+
+    // then
+    assertThat(toList(partitions)).containsExactlyElementsOf(PARTITIONS);
+  }
+
+  @Test
+  void shouldShareAvailabilityRegardlessOfTenantOrder() {
+    // given
+    availability.onNoJobsActivated(TYPE, List.of("tenant-a", "tenant-b"), 3, 0);
+
+    // when
+    final var partitions =
+        availability.orderPartitions(
+            TYPE, List.of("tenant-b", "tenant-a"), PARTITIONS.iterator(), 0);
+
+    // then
+    assertThat(toList(partitions)).containsExactly(4, 1, 2);
+  }
+
+  @Test
+  void shouldOnlyCountSkippedPartitionsWhichWereReached() {
+    // given
+    availability.onNoJobsActivated(TYPE, TENANTS, 4, 0);
+    availability.onNoJobsActivated(TYPE, TENANTS, 2, 0);
+    final var partitions = availability.orderPartitions(TYPE, TENANTS, PARTITIONS.iterator(), 0);
+    final double skippedBefore = skippedPartitions();
+
+    // when
+    partitions.next();
+    partitions.next();
+
+    // then
+    assertThat(skippedPartitions() - skippedBefore).isEqualTo(1);
+    assertThat(partitions.hasNext()).isFalse();
+    assertThat(skippedPartitions() - skippedBefore).isEqualTo(2);
+  }
+
+  private double skippedPartitions() {
+    final var value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_gateway_job_activation_skipped_partitions_total");
+    return value == null ? 0 : value;
+  }
+
+  private List<Integer> toList(final Iterator<Integer> iterator) {
+    final var list = new ArrayList<Integer>();
+    iterator.forEachRemaining(list::add);
+    return list;
+  }
+}
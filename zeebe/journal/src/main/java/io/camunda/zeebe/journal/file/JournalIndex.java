@@ -89,4 +89,29 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Adds an entry which was indexed before, e.g. from a persisted segment index. Unlike {@link
+   * #index(JournalRecord, int)}, the entry is added regardless of the index density.
+   *
+   * @param index the index of the record
+   * @param position the position of the record within its segment
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   */
+  void restore(long index, int position, long asqn);
+
+  /**
+   * Visits all indexed entries with an index between the given bounds (inclusive), in ascending
+   * order.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param consumer the consumer of the entries
+   */
+  void forEach(long fromIndex, long toIndex, IndexEntryConsumer consumer);
+
+  @FunctionalInterface
+  interface IndexEntryConsumer {
+    void accept(long index, int position, long asqn);
+  }
 }
@@ -56,6 +56,15 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram JOURNAL_FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_batch_size")
+          .help("Distribution of the number of entries made durable by a single journal flush")
+          .labelNames(PARTITION_LABEL)
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000)
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -71,6 +80,23 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Gauge SEGMENT_INDEX_LOAD_DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("segment_index_load_time")
+          .help("Time taken to restore the persisted indexes of sealed segments on journal open")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter SEGMENT_INDEX_REBUILD_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_index_rebuild_count")
+          .help(
+              "Number of sealed segments without a valid persisted index on journal open, whose index is rebuilt on demand")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Histogram SEGMENT_ALLOCATION_TIME =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -116,8 +142,11 @@ final class JournalMetrics {
   private final Histogram.Child segmentTruncateTime;
   private final Histogram.Child segmentFlushTime;
   private final Histogram.Child journalFlushTime;
+  private final Histogram.Child journalFlushBatchSize;
   private final Gauge.Child segmentCount;
   private final Gauge.Child journalOpenTime;
+  private final Gauge.Child segmentIndexLoadTime;
+  private final Counter.Child segmentIndexRebuildCount;
   private final Histogram.Child segmentAllocationTime;
   private final Histogram.Child appendLatency;
   private final Counter.Child appendRate;
@@ -129,8 +158,11 @@ final class JournalMetrics {
     segmentTruncateTime = SEGMENT_TRUNCATE_TIME.labels(partitionId);
     segmentFlushTime = SEGMENT_FLUSH_TIME.labels(partitionId);
     journalFlushTime = JOURNAL_FLUSH_TIME.labels(partitionId);
+    journalFlushBatchSize = JOURNAL_FLUSH_BATCH_SIZE.labels(partitionId);
     segmentCount = SEGMENT_COUNT.labels(partitionId);
     journalOpenTime = JOURNAL_OPEN_DURATION.labels(partitionId);
+    segmentIndexLoadTime = SEGMENT_INDEX_LOAD_DURATION.labels(partitionId);
+    segmentIndexRebuildCount = SEGMENT_INDEX_REBUILD_COUNT.labels(partitionId);
     segmentAllocationTime = SEGMENT_ALLOCATION_TIME.labels(partitionId);
     appendLatency = APPEND_LATENCY.labels(partitionId);
     appendRate = APPEND_RATE.labels(partitionId);
@@ -150,6 +182,10 @@ final class JournalMetrics {
     return journalFlushTime.startTimer();
   }
 
+  void observeFlushBatchSize(final long flushedEntries) {
+    journalFlushBatchSize.observe(flushedEntries);
+  }
+
   void observeSegmentTruncation(final Runnable segmentTruncation) {
     segmentTruncateTime.time(segmentTruncation);
   }
@@ -158,6 +194,14 @@ final class JournalMetrics {
     return journalOpenTime.startTimer();
   }
 
+  Timer startSegmentIndexLoadTimer() {
+    return segmentIndexLoadTime.startTimer();
+  }
+
+  void incSegmentIndexRebuildCount() {
+    segmentIndexRebuildCount.inc();
+  }
+
   void incSegmentCount() {
     segmentCount.inc();
   }
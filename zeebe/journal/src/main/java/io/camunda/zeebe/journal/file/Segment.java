@@ -22,6 +22,7 @@ import static com.google.common.base.Preconditions.checkState;
 import com.google.common.collect.Sets;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.VisibleForTesting;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
@@ -29,6 +30,7 @@ import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +57,10 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  // Only the range written since the last flush is flushed, unless bytes before it were modified,
+  // e.g. the descriptor or truncated entries. Flushing may be asynchronous, hence the atomics.
+  private final AtomicBoolean fullFlushRequired = new AtomicBoolean(true);
+  private volatile int flushedPosition;
 
   Segment(
       final SegmentFile file,
@@ -120,10 +126,26 @@ final class Segment implements AutoCloseable, FlushableSegment {
   @Override
   public boolean flush() {
     final long lastIndex = lastIndex();
+    final boolean fullFlush = fullFlushRequired.getAndSet(false);
+    final int writtenPosition = writer.getWrittenPosition();
+    final int fromPosition = flushedPosition;
+    if (!fullFlush && writtenPosition <= fromPosition) {
+      // nothing was written since the last flush, so there is nothing to sync
+      return true;
+    }
 
     try (final var ignored = metrics.observeSegmentFlush()) {
-      buffer.force();
+      if (fullFlush) {
+        buffer.force();
+      } else {
+        buffer.force(fromPosition, writtenPosition - fromPosition);
+      }
+      flushedPosition = writtenPosition;
     } catch (final UncheckedIOException e) {
+      if (fullFlush) {
+        fullFlushRequired.set(true);
+      }
+
       if (isOpen()) {
         throw e;
       }
@@ -234,6 +256,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    // the persisted index is deleted first, such that it never outlives the segment
+    SegmentIndexFile.delete(file.indexFile());
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -282,9 +306,47 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptor.setLastIndex(writer.getLastIndex());
     descriptor.setLastPosition(writer.getLastEntryPosition());
     descriptor.updateIfCurrentVersion(buffer);
+    requireFullFlush();
+  }
+
+  /**
+   * Marks the segment such that the next flush syncs the whole segment, instead of only the range
+   * written since the last flush. Must be called after modifying bytes before the written position.
+   */
+  void requireFullFlush() {
+    fullFlushRequired.set(true);
+  }
+
+  @VisibleForTesting("The synced range can't be observed on the mapped buffer itself")
+  boolean isFullFlushRequired() {
+    return fullFlushRequired.get();
+  }
+
+  @VisibleForTesting("The synced range can't be observed on the mapped buffer itself")
+  int getFlushedPosition() {
+    return flushedPosition;
+  }
+
+  /**
+   * Persists the index entries of this segment, such that they can be restored instead of being
+   * rebuilt when the journal is opened again. Must only be called once the segment is sealed.
+   */
+  void persistIndex() {
+    SegmentIndexFile.write(file.indexFile(), descriptor, lastIndex(), index);
+  }
+
+  /**
+   * Restores the index entries of this segment from its persisted index, if there is a valid one.
+   *
+   * @return true if the index entries were restored, false otherwise
+   */
+  boolean loadIndex() {
+    return SegmentIndexFile.load(file.indexFile(), descriptor, lastIndex(), index);
   }
 
   void resetLastEntryInDescriptor() {
+    // the segment is written to again, so its persisted index would become stale
+    SegmentIndexFile.delete(file.indexFile());
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
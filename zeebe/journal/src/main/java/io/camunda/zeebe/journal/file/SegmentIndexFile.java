@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the {@link JournalIndex} entries of a sealed segment next to the segment file, such that
+ * they can be restored when the journal is opened again, instead of being rebuilt by scanning the
+ * segment.
+ *
+ * <p>The file is not flushed when written. It is only trusted if its checksum matches and it
+ * describes the same range of entries as the segment, so a partially written or stale file is
+ * simply ignored.
+ *
+ * <p>Layout (little endian): version (int), segment id (long), first index (long), last index
+ * (long), entry count (int), entries of (index (long), position (int), asqn (long)), and the CRC32C
+ * checksum (long) of everything before it.
+ */
+final class SegmentIndexFile {
+
+  static final int VERSION = 1;
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int HEADER_LENGTH =
+      Integer.BYTES + Long.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+  private SegmentIndexFile() {}
+
+  /**
+   * Writes the index entries of the given segment range to the given file, replacing any previous
+   * content. Failures are only logged, as the index can always be rebuilt from the segment.
+   */
+  static void write(
+      final Path path,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final JournalIndex index) {
+    final var entries = new EntryCollector();
+    index.forEach(descriptor.index(), lastIndex, entries);
+
+    final int checksumOffset = HEADER_LENGTH + entries.count * ENTRY_LENGTH;
+    final var buffer = ByteBuffer.allocate(checksumOffset + Long.BYTES).order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(descriptor.id())
+        .putLong(descriptor.index())
+        .putLong(lastIndex)
+        .putInt(entries.count);
+    for (int i = 0; i < entries.count; i++) {
+      buffer.putLong(entries.indexes[i]).putInt(entries.positions[i]).putLong(entries.asqns[i]);
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, checksumOffset));
+
+    try {
+      Files.write(
+          path,
+          buffer.array(),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.WRITE);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to persist index of segment {}, it will be rebuilt on restart",
+          descriptor.id(),
+          e);
+    }
+  }
+
+  /**
+   * Restores the index entries from the given file, if it exists and matches the given segment
+   * range. Invalid files are deleted.
+   *
+   * @return true if the entries were restored, false otherwise
+   */
+  static boolean load(
+      final Path path,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final JournalIndex index) {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.debug("Failed to read index of segment {}, ignoring it", descriptor.id(), e);
+      return false;
+    }
+
+    try {
+      final int version = buffer.getInt();
+      final long id = buffer.getLong();
+      final long firstIndex = buffer.getLong();
+      final long persistedLastIndex = buffer.getLong();
+      final int count = buffer.getInt();
+      final int checksumOffset = HEADER_LENGTH + count * ENTRY_LENGTH;
+
+      if (version != VERSION
+          || id != descriptor.id()
+          || firstIndex != descriptor.index()
+          || persistedLastIndex != lastIndex
+          || count < 0
+          || buffer.capacity() != checksumOffset + Long.BYTES
+          || buffer.getLong(checksumOffset)
+              != new ChecksumGenerator().compute(buffer, 0, checksumOffset)) {
+        LOG.debug("Index of segment {} does not match the segment, ignoring it", descriptor.id());
+        delete(path);
+        return false;
+      }
+
+      for (int i = 0; i < count; i++) {
+        index.restore(buffer.getLong(), buffer.getInt(), buffer.getLong());
+      }
+      return true;
+    } catch (final BufferUnderflowException | IndexOutOfBoundsException e) {
+      LOG.debug("Index of segment {} is truncated, ignoring it", descriptor.id());
+      delete(path);
+      return false;
+    }
+  }
+
+  static void delete(final Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete segment index file {}", path, e);
+    }
+  }
+
+  private static final class EntryCollector implements JournalIndex.IndexEntryConsumer {
+    private long[] indexes = new long[64];
+    private int[] positions = new int[64];
+    private long[] asqns = new long[64];
+    private int count;
+
+    @Override
+    public void accept(final long index, final int position, final long asqn) {
+      if (count == indexes.length) {
+        indexes = Arrays.copyOf(indexes, count * 2);
+        positions = Arrays.copyOf(positions, count * 2);
+        asqns = Arrays.copyOf(asqns, count * 2);
+      }
+
+      indexes[count] = index;
+      positions[count] = position;
+      asqns[count] = asqn;
+      count++;
+    }
+  }
+}
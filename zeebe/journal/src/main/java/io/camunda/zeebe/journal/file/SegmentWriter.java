@@ -59,6 +59,8 @@ final class SegmentWriter {
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
+  // end of the bytes modified by this writer, read by the flushing thread
+  private volatile int writtenPosition;
 
   SegmentWriter(
       final MappedByteBuffer buffer,
@@ -90,6 +92,7 @@ final class SegmentWriter {
       // iterate over all entries
       reset(0, false);
     }
+    updateWrittenPosition();
   }
 
   long getLastIndex() {
@@ -100,6 +103,14 @@ final class SegmentWriter {
     return lastEntryPosition;
   }
 
+  /**
+   * Returns the position up to which the segment may have been modified by appends, including the
+   * marker which invalidates the next entry. Can be called concurrently with appends.
+   */
+  int getWrittenPosition() {
+    return writtenPosition;
+  }
+
   long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
@@ -246,9 +257,14 @@ final class SegmentWriter {
 
     final int appendedBytes = frameLength + metadataLength + recordLength;
     buffer.position(startPosition + appendedBytes);
+    updateWrittenPosition();
     metrics.observeAppend(appendedBytes);
   }
 
+  private void updateWrittenPosition() {
+    writtenPosition = Math.min(buffer.capacity(), buffer.position() + FrameUtil.getLength());
+  }
+
   private void updateLastWrittenEntry(
       final int startPosition,
       final int frameLength,
@@ -406,5 +422,10 @@ final class SegmentWriter {
       reset(index, true);
       invalidateNextEntry(buffer.position());
     }
+
+    // entries before the current position were modified, so the next flush must not be limited to
+    // the range after the previously flushed position
+    segment.requireFullFlush();
+    updateWrittenPosition();
   }
 }
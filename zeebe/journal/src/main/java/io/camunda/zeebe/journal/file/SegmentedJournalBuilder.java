@@ -176,7 +176,7 @@ public class SegmentedJournalBuilder {
             segmentLoader,
             journalMetrics,
             journalMetaStore);
-    final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
+    final var segmentsFlusher = new SegmentsFlusher(journalMetaStore, journalMetrics);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
   }
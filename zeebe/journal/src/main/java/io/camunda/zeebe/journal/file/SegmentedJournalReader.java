@@ -27,6 +27,10 @@ class SegmentedJournalReader implements JournalReader {
   private final SegmentedJournal journal;
   private Segment currentSegment;
   private SegmentReader currentReader;
+  // Records are views into the mapped segment, and consumers may still hold on to the records of
+  // the previous segment after advancing to the next one (e.g. when reading ahead). The reader of
+  // the previous segment is kept open, such that the segment is not unmapped while in use.
+  private SegmentReader previousReader;
   private final JournalMetrics metrics;
 
   SegmentedJournalReader(final SegmentedJournal journal, final JournalMetrics journalMetrics) {
@@ -164,6 +168,7 @@ class SegmentedJournalReader implements JournalReader {
 
   @Override
   public void close() {
+    releasePreviousReader();
     currentReader.close();
     journal.closeReader(this);
   }
@@ -232,7 +237,7 @@ class SegmentedJournalReader implements JournalReader {
 
       final Segment nextSegment = journal.getNextSegment(currentSegment.index());
       if (nextSegment != null && nextSegment.index() == getNextIndex()) {
-        replaceCurrentSegment(nextSegment);
+        advanceToSegment(nextSegment);
         return currentReader.hasNext();
       }
       return false;
@@ -241,6 +246,9 @@ class SegmentedJournalReader implements JournalReader {
   }
 
   private void replaceCurrentSegment(final Segment nextSegment) {
+    // after seeking, previously returned records are not expected to be in use anymore
+    releasePreviousReader();
+
     if (currentSegment.equals(nextSegment)) {
       currentReader.reset();
       return;
@@ -250,4 +258,18 @@ class SegmentedJournalReader implements JournalReader {
     currentSegment = nextSegment;
     currentReader = currentSegment.createReader();
   }
+
+  private void advanceToSegment(final Segment nextSegment) {
+    releasePreviousReader();
+    previousReader = currentReader;
+    currentSegment = nextSegment;
+    currentReader = currentSegment.createReader();
+  }
+
+  private void releasePreviousReader() {
+    if (previousReader != null) {
+      previousReader.close();
+      previousReader = null;
+    }
+  }
 }
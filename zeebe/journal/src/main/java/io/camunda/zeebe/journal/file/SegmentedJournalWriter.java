@@ -127,6 +127,7 @@ final class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    currentSegment.persistIndex();
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
@@ -17,12 +17,14 @@ final class SegmentsFlusher {
   private static final Logger LOGGER = LoggerFactory.getLogger(SegmentsFlusher.class);
 
   private final JournalMetaStore metaStore;
+  private final JournalMetrics metrics;
 
   // no need to make this volatile if callers always acquire the write-lock beforehand
   private long lastFlushedIndex;
 
-  SegmentsFlusher(final JournalMetaStore metaStore) {
+  SegmentsFlusher(final JournalMetaStore metaStore, final JournalMetrics metrics) {
     this.metaStore = Objects.requireNonNull(metaStore, "must specify a meta store");
+    this.metrics = Objects.requireNonNull(metrics, "must specify journal metrics");
     lastFlushedIndex = metaStore.loadLastFlushedIndex();
   }
 
@@ -62,6 +64,7 @@ final class SegmentsFlusher {
     } finally {
       // store whatever we managed to flush to avoid doing it again
       if (flushedIndex > lastFlushedIndex) {
+        metrics.observeFlushBatchSize(flushedIndex - lastFlushedIndex);
         setLastFlushedIndex(flushedIndex);
 
         LOGGER.trace(
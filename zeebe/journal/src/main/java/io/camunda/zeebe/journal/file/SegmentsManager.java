@@ -286,10 +286,12 @@ final class SegmentsManager implements AutoCloseable {
   void open() {
     final var openDurationTimer = journalMetrics.startJournalOpenDurationTimer();
     // Load existing log segments from disk.
-    for (final Segment segment : loadSegments()) {
+    final var loadedSegments = loadSegments();
+    for (final Segment segment : loadedSegments) {
       segments.put(segment.descriptor().index(), segment);
       journalMetrics.incSegmentCount();
     }
+    restoreSealedSegmentIndexes(loadedSegments);
 
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
@@ -316,6 +318,22 @@ final class SegmentsManager implements AutoCloseable {
     deleteDeferredFiles();
   }
 
+  /**
+   * Restores the persisted index of all sealed segments, i.e. all but the last one. If a segment
+   * has no valid persisted index, its entries are indexed lazily by the readers as before.
+   */
+  private void restoreSealedSegmentIndexes(final List<Segment> loadedSegments) {
+    try (final var ignored = journalMetrics.startSegmentIndexLoadTimer()) {
+      for (int i = 0; i < loadedSegments.size() - 1; i++) {
+        final var segment = loadedSegments.get(i);
+        if (!segment.loadIndex()) {
+          LOG.debug("No valid persisted index found for segment {}", segment);
+          journalMetrics.incSegmentIndexRebuildCount();
+        }
+      }
+    }
+  }
+
   private void prepareNextSegment() {
     final var descriptor =
         SegmentDescriptor.builder()
@@ -351,7 +369,7 @@ final class SegmentsManager implements AutoCloseable {
    *
    * @return A collection of segments for the log.
    */
-  private Collection<Segment> loadSegments() {
+  private List<Segment> loadSegments() {
     final var lastFlushedIndex = metaStore.loadLastFlushedIndex();
 
     // Ensure log directories are created.
@@ -443,6 +461,7 @@ final class SegmentsManager implements AutoCloseable {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        SegmentIndexFile.delete(new SegmentFile(file).indexFile());
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
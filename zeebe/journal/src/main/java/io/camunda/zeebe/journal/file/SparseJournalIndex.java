@@ -16,19 +16,34 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
 
+/**
+ * Sparse index which keeps every {@code density}-th record's index, position and asqn in sorted
+ * primitive arrays. Entries are almost always appended at the end, so indexing amounts to writing
+ * into the arrays, and lookups are binary searches which do not box or allocate intermediate
+ * objects.
+ *
+ * <p>The index is written to by the journal writer, but also by readers which index older entries
+ * during a seek, so all accesses are guarded by a read-write lock.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  private final StampedLock lock = new StampedLock();
+
+  // index => position, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // index => asqn, sorted by index; since asqns grow with the index, it's also sorted by asqn
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +53,28 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      final long stamp = lock.writeLock();
+      try {
+        putPosition(index, position);
+        final long asqn = indexedEntry.asqn();
+        if (asqn != SegmentedJournal.ASQN_IGNORE) {
+          putAsqn(index, asqn);
+        }
+      } finally {
+        lock.unlockWrite(stamp);
       }
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floor(indexes, size, index);
+      return slot >= 0 ? new IndexInfo(indexes[slot], positions[slot]) : null;
+    } finally {
+      lock.unlockRead(stamp);
+    }
   }
 
   @Override
@@ -60,55 +84,157 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floor(asqns, asqnSize, asqn);
+      if (slot < 0) {
+        return null;
       }
+
+      if (asqnIndexes[slot] <= indexUpperBound) {
+        return asqnIndexes[slot];
+      }
+
+      final int boundedSlot = floor(asqnIndexes, asqnSize, indexUpperBound);
+      return boundedSlot < 0 ? null : asqnIndexes[boundedSlot];
+    } finally {
+      lock.unlockRead(stamp);
     }
-    return null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    final long stamp = lock.writeLock();
+    try {
+      size = floor(indexes, size, index) + 1;
+      asqnSize = floor(asqnIndexes, asqnSize, index) + 1;
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    final long stamp = lock.writeLock();
+    try {
+      final int firstKept = ceiling(indexes, size, index);
+      System.arraycopy(indexes, firstKept, indexes, 0, size - firstKept);
+      System.arraycopy(positions, firstKept, positions, 0, size - firstKept);
+      size -= firstKept;
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+      // the asqn of the last entry before the given index is kept, as the record with the given
+      // index may still be found by seeking from there
+      final int firstKeptAsqn = Math.max(0, floor(asqnIndexes, asqnSize, index));
+      System.arraycopy(asqnIndexes, firstKeptAsqn, asqnIndexes, 0, asqnSize - firstKeptAsqn);
+      System.arraycopy(asqns, firstKeptAsqn, asqns, 0, asqnSize - firstKeptAsqn);
+      asqnSize -= firstKeptAsqn;
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    final long stamp = lock.writeLock();
+    try {
+      size = 0;
+      asqnSize = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
   }
 
   @Override
   public boolean hasIndexed(final long index) {
-    final var indexInfo = lookup(index);
-    if (indexInfo == null) {
-      return false;
-    } else {
-      return indexInfo.index() > index - density;
+    final long stamp = lock.readLock();
+    try {
+      final int slot = floor(indexes, size, index);
+      return slot >= 0 && indexes[slot] > index - density;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public void restore(final long index, final int position, final long asqn) {
+    final long stamp = lock.writeLock();
+    try {
+      putPosition(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        putAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
     }
   }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexEntryConsumer consumer) {
+    final long stamp = lock.readLock();
+    try {
+      int asqnSlot = ceiling(asqnIndexes, asqnSize, fromIndex);
+      for (int slot = ceiling(indexes, size, fromIndex);
+          slot < size && indexes[slot] <= toIndex;
+          slot++) {
+        final long index = indexes[slot];
+        while (asqnSlot < asqnSize && asqnIndexes[asqnSlot] < index) {
+          asqnSlot++;
+        }
+
+        final boolean hasAsqn = asqnSlot < asqnSize && asqnIndexes[asqnSlot] == index;
+        consumer.accept(
+            index, positions[slot], hasAsqn ? asqns[asqnSlot] : SegmentedJournal.ASQN_IGNORE);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private void putPosition(final long index, final int position) {
+    int slot = Arrays.binarySearch(indexes, 0, size, index);
+    if (slot < 0) {
+      slot = -slot - 1;
+      if (size == indexes.length) {
+        indexes = Arrays.copyOf(indexes, size * 2);
+        positions = Arrays.copyOf(positions, size * 2);
+      }
+
+      System.arraycopy(indexes, slot, indexes, slot + 1, size - slot);
+      System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+      indexes[slot] = index;
+      size++;
+    }
+
+    positions[slot] = position;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    int slot = Arrays.binarySearch(asqnIndexes, 0, asqnSize, index);
+    if (slot < 0) {
+      slot = -slot - 1;
+      if (asqnSize == asqnIndexes.length) {
+        asqnIndexes = Arrays.copyOf(asqnIndexes, asqnSize * 2);
+        asqns = Arrays.copyOf(asqns, asqnSize * 2);
+      }
+
+      System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnSize - slot);
+      System.arraycopy(asqns, slot, asqns, slot + 1, asqnSize - slot);
+      asqnIndexes[slot] = index;
+      asqnSize++;
+    }
+
+    asqns[slot] = asqn;
+  }
+
+  /** Returns the slot of the greatest value less than or equal to the given key, or -1. */
+  private static int floor(final long[] values, final int length, final long key) {
+    final int slot = Arrays.binarySearch(values, 0, length, key);
+    return slot >= 0 ? slot : -slot - 2;
+  }
+
+  /** Returns the slot of the least value greater than or equal to the given key, or length. */
+  private static int ceiling(final long[] values, final int length, final long key) {
+    final int slot = Arrays.binarySearch(values, 0, length, key);
+    return slot >= 0 ? slot : -slot - 1;
+  }
 }
@@ -19,6 +19,8 @@ public final class JournalRecordReaderUtil {
 
   private final JournalRecordSerializer serializer;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  // reused view over the record being read; the returned record keeps its own views
+  private final UnsafeBuffer directBuffer = new UnsafeBuffer();
 
   public JournalRecordReaderUtil(final JournalRecordSerializer serializer) {
     this.serializer = serializer;
@@ -40,7 +42,7 @@ public final class JournalRecordReaderUtil {
 
     final int startPosition = buffer.position();
 
-    final UnsafeBuffer directBuffer = new UnsafeBuffer(buffer.slice());
+    directBuffer.wrap(buffer, startPosition, buffer.limit() - startPosition);
 
     final RecordMetadata metadata = serializer.readMetadata(directBuffer, 0);
 
@@ -29,8 +29,10 @@ import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import io.camunda.zeebe.journal.util.PosixPathAssert;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.prometheus.client.CollectorRegistry;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -284,6 +286,77 @@ class SegmentedJournalTest {
     assertThat(journal.getLastIndex()).isEqualTo(truncateIndex + 1);
   }
 
+  @Test
+  void shouldNotFlushSegmentAgainWithoutNewWrites() {
+    // given
+    journal = openJournal(10);
+    journal.append(1, journalFactory.entry());
+    final var segment = journal.getLastSegment();
+    segment.flush();
+    final int flushedPosition = segment.getFlushedPosition();
+    final double flushCount = segmentFlushCount();
+
+    // when
+    final boolean flushed = segment.flush();
+
+    // then
+    assertThat(flushed).isTrue();
+    assertThat(segmentFlushCount()).isEqualTo(flushCount);
+    assertThat(segment.getFlushedPosition()).isEqualTo(flushedPosition);
+  }
+
+  @Test
+  void shouldOnlyFlushRangeWrittenSinceLastFlush() {
+    // given
+    journal = openJournal(10);
+    journal.append(1, journalFactory.entry());
+    final var segment = journal.getLastSegment();
+    segment.flush();
+    final int flushedPosition = segment.getFlushedPosition();
+
+    // when
+    journal.append(2, journalFactory.entry());
+    assertThat(segment.isFullFlushRequired()).isFalse();
+    final double flushCount = segmentFlushCount();
+    segment.flush();
+
+    // then
+    assertThat(segmentFlushCount()).isEqualTo(flushCount + 1);
+    assertThat(segment.getFlushedPosition())
+        .isEqualTo(flushedPosition + journalFactory.serializedEntrySize());
+  }
+
+  @Test
+  void shouldFlushWholeSegmentAfterTruncatingBelowFlushedPosition() {
+    // given
+    journal = openJournal(10);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    final var segment = journal.getLastSegment();
+    segment.flush();
+    final int flushedPosition = segment.getFlushedPosition();
+
+    // when
+    journal.deleteAfter(1);
+    assertThat(segment.isFullFlushRequired()).isTrue();
+    final var otherData = BufferUtil.wrapString("tset");
+    journal.append(2, new DirectBufferWriter().wrap(otherData));
+    segment.flush();
+
+    // then
+    assertThat(segment.isFullFlushRequired()).isFalse();
+    assertThat(segment.getFlushedPosition()).isLessThan(flushedPosition);
+
+    journal.close();
+    journal = openJournal(10);
+    assertThat(journal.getLastIndex()).isEqualTo(2);
+    final var reader = journal.openReader();
+    assertThat(reader.next().data()).isEqualTo(journalFactory.entryData());
+    assertThat(reader.next().data()).isEqualTo(otherData);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
   @Test
   void shouldCompactUpToStartOfSegment() {
     final int entryPerSegment = 2;
@@ -410,7 +483,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() throws Exception {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -421,6 +494,7 @@ class SegmentedJournalTest {
 
     // when
     journal.close();
+    Files.delete(getSegmentIndexFile(1));
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -431,6 +505,70 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldRestoreIndexMappingsOfSealedSegmentsAfterRestart() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final JournalIndex indexBeforeRestart = journal.getJournalIndex();
+    final var firstLookup = indexBeforeRestart.lookup(firstIndex);
+    final var secondLookup = indexBeforeRestart.lookup(secondIndex);
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(firstIndex)).isEqualTo(firstLookup);
+    assertThat(indexAfterRestart.lookup(secondIndex)).isEqualTo(secondLookup);
+    assertThat(indexAfterRestart.lookupAsqn(2)).isEqualTo(secondIndex);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedSegmentIndexAfterRestart() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.close();
+
+    final var indexFile = getSegmentIndexFile(1);
+    final var content = Files.readAllBytes(indexFile);
+    content[content.length - 1] ^= 1;
+    Files.write(indexFile, content);
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+    assertThat(indexFile).doesNotExist();
+    final var reader = journal.openReader();
+    assertThat(reader.seekToAsqn(1)).isEqualTo(firstIndex);
+  }
+
+  @Test
+  void shouldDeleteSegmentIndexWhenTruncatingSealedSegment() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.deleteAfter(secondIndex - 1);
+
+    // then
+    assertThat(getSegmentIndexFile(1)).doesNotExist();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -532,6 +670,36 @@ class SegmentedJournalTest {
         .isDirectoryContaining(file -> SegmentFile.isSegmentFile(JOURNAL_NAME, file.getName()));
   }
 
+  @Test
+  void shouldKeepPreviousSegmentMappedUntilReaderMovesFurther() {
+    // given
+    journal = openJournal(1);
+    journal.append(1, journalFactory.entry());
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var reader = journal.openReader();
+    final var firstRecord = reader.next();
+    reader.next();
+
+    // when
+    journal.deleteUntil(secondIndex);
+
+    // then
+    final File logDirectory = directory.resolve("data").toFile();
+    assertThat(firstRecord.asqn()).isEqualTo(1);
+    assertThat(logDirectory)
+        .isDirectoryContaining(
+            file -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getName()));
+
+    // when
+    reader.next();
+
+    // then
+    assertThat(logDirectory)
+        .isDirectoryNotContaining(
+            file -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getName()));
+  }
+
   @Test
   void shouldNotFailOnResetAndOpeningReaderConcurrently() throws InterruptedException {
     // given
@@ -915,6 +1083,17 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  private Path getSegmentIndexFile(final long segmentId) {
+    return directory.resolve("data").resolve(JOURNAL_NAME + "-" + segmentId + ".log.idx");
+  }
+
+  private double segmentFlushCount() {
+    final Double count =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "atomix_segment_flush_time_count", new String[] {"partition"}, new String[] {"test"});
+    return count == null ? 0 : count;
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
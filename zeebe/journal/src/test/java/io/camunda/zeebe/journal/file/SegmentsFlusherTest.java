@@ -18,7 +18,7 @@ import org.junit.jupiter.api.Test;
 
 final class SegmentsFlusherTest {
   private final MockJournalMetastore metaStore = new MockJournalMetastore();
-  private final SegmentsFlusher flusher = new SegmentsFlusher(metaStore);
+  private final SegmentsFlusher flusher = new SegmentsFlusher(metaStore, new JournalMetrics("1"));
 
   @Test
   void shouldFlushAllSegments() {
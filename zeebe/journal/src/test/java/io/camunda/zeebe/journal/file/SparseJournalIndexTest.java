@@ -265,4 +265,41 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldIndexEntriesOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when - a reader indexes older entries during a seek
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // then
+    assertEquals(5, index.lookup(9).index());
+    assertEquals(10, index.lookup(9).position());
+    assertEquals(10, index.lookup(14).index());
+    assertEquals(15, index.lookup(100).index());
+    assertEquals(5, index.lookupAsqn(99));
+    assertEquals(10, index.lookupAsqn(100));
+  }
+
+  @Test
+  void shouldIndexManyEntries() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+
+    // when
+    for (long i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10), (int) i * 2);
+    }
+
+    // then
+    assertEquals(500, index.lookup(501).index());
+    assertEquals(1_000, index.lookup(501).position());
+    assertEquals(1_000, index.lookup(Long.MAX_VALUE).index());
+    assertEquals(500, index.lookupAsqn(5_019));
+    assertEquals(498, index.lookupAsqn(5_019, 499));
+  }
 }
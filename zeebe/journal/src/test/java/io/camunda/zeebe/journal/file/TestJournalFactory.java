@@ -114,7 +114,7 @@ final class TestJournalFactory {
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
-    final var segmentsFlusher = new SegmentsFlusher(metaStore);
+    final var segmentsFlusher = new SegmentsFlusher(metaStore, metrics);
     return new SegmentedJournal(index, segments, metrics, segmentsFlusher);
   }
 
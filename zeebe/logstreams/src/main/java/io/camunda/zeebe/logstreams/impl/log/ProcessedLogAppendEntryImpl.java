@@ -23,6 +23,11 @@ public record ProcessedLogAppendEntryImpl(LogAppendEntry entry) implements LogAp
     return entry.sourceIndex();
   }
 
+  @Override
+  public long sourcePosition() {
+    return entry.sourcePosition();
+  }
+
   @Override
   public RecordMetadata recordMetadata() {
     return entry.recordMetadata();
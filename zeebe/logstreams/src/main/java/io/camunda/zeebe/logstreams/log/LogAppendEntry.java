@@ -10,6 +10,7 @@ package io.camunda.zeebe.logstreams.log;
 import io.camunda.zeebe.logstreams.impl.log.LogAppendEntryImpl;
 import io.camunda.zeebe.logstreams.impl.log.LogEntryDescriptor;
 import io.camunda.zeebe.logstreams.impl.log.ProcessedLogAppendEntryImpl;
+import io.camunda.zeebe.logstreams.impl.log.SourcedLogAppendEntryImpl;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import java.util.Objects;
@@ -27,6 +28,15 @@ public interface LogAppendEntry {
    */
   int sourceIndex();
 
+  /**
+   * @return points to a record which is already on the log, which caused that entry; a negative
+   *     value if the source position given when writing the batch applies. Ignored if {@link
+   *     #sourceIndex()} points to an entry of the same batch.
+   */
+  default long sourcePosition() {
+    return -1;
+  }
+
   /**
    * @return metadata of the record, like ValueType, Intent, RecordType etc.
    */
@@ -104,4 +114,17 @@ public interface LogAppendEntry {
   static LogAppendEntry ofProcessed(final LogAppendEntry entry) {
     return new ProcessedLogAppendEntryImpl(entry);
   }
+
+  /**
+   * Creates a new {@link LogAppendEntry} which wraps the given {@link LogAppendEntry} and points to
+   * the given source position, instead of the source position of the batch it is written with. This
+   * allows writing the results of several records in one batch.
+   *
+   * @param entry the entry which should be written to the log
+   * @param sourcePosition the position of the record which caused the entry
+   * @return a simple value class implementation of a {@link LogAppendEntry} with the parameters
+   */
+  static LogAppendEntry withSourcePosition(final LogAppendEntry entry, final long sourcePosition) {
+    return new SourcedLogAppendEntryImpl(entry, sourcePosition);
+  }
 }
@@ -22,6 +22,8 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
@@ -246,6 +248,124 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void appendsAllWritesOfConcurrentWriters() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var batchesPerWriter = 10_000;
+    final var logStorage = new VerifyingLogStorage();
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)));
+    final var entries = List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] =
+          newWriterThread(sequencer, 1, batchesPerWriter, entries, false, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- no write was left behind in the sequencer
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position)
+        .isEqualTo((long) numberOfWriters * batchesPerWriter * entries.size());
+  }
+
+  @Test
+  void rethrowsFailedAppendToWriterWithoutSkippingPositions() {
+    // given
+    final var logStorage = new VerifyingLogStorage();
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)));
+    logStorage.failNextAppend = true;
+
+    // when
+    Assertions.assertThatThrownBy(
+            () -> sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults()))
+        .isInstanceOf(IllegalStateException.class);
+    final var result = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then -- the failed batch did not take up any position
+    EitherAssert.assertThat(result).isRight().right().isEqualTo(1L);
+  }
+
+  @Test
+  void rethrowsFailedAppendsToTheirWritersUnderContention() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var batchesPerWriter = 5_000;
+    final var logStorage = new VerifyingLogStorage();
+    logStorage.failEveryNthAppend = 7;
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)));
+    final var entries = List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+    final var failedWrites = new AtomicLong();
+    final var writtenPositions = new ConcurrentLinkedQueue<Long>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] =
+          new Thread(
+              () -> {
+                for (int batch = 0; batch < batchesPerWriter; batch++) {
+                  try {
+                    final var result = sequencer.tryWrite(WriteContext.internal(), entries);
+                    if (result.isRight()) {
+                      writtenPositions.add(result.get());
+                    } else {
+                      LockSupport.parkNanos(1_000_000);
+                    }
+                  } catch (final IllegalStateException e) {
+                    failedWrites.incrementAndGet();
+                  }
+                }
+              });
+      writers[i].setUncaughtExceptionHandler((t, e) -> testFailures.add(e));
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- every failure was reported to the writer of the batch, and no position was skipped
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(failedWrites.get()).isEqualTo(logStorage.failedAppends.get());
+    Assertions.assertThat(writtenPositions)
+        .doesNotHaveDuplicates()
+        .hasSize(logStorage.appendedBatches.get());
+    Assertions.assertThat(logStorage.position)
+        .isEqualTo((long) logStorage.appendedBatches.get() * entries.size());
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
@@ -282,6 +402,11 @@ final class SequencerTest {
   private static final class VerifyingLogStorage implements LogStorage {
 
     private long position = -1;
+    private boolean failNextAppend;
+    private int failEveryNthAppend;
+    private final AtomicInteger appendAttempts = new AtomicInteger();
+    private final AtomicInteger appendedBatches = new AtomicInteger();
+    private final AtomicInteger failedAppends = new AtomicInteger();
 
     @Override
     public LogStorageReader newReader() {
@@ -294,10 +419,17 @@ final class SequencerTest {
         final long highestPosition,
         final BufferWriter bufferWriter,
         final AppendListener listener) {
+      final var attempt = appendAttempts.incrementAndGet();
+      if (failNextAppend || (failEveryNthAppend > 0 && attempt % failEveryNthAppend == 0)) {
+        failNextAppend = false;
+        failedAppends.incrementAndGet();
+        throw new IllegalStateException("Failed to append batch " + lowestPosition);
+      }
       if (position != -1) {
         Assertions.assertThat(lowestPosition).isEqualTo(position + 1);
       }
       position = highestPosition;
+      appendedBatches.incrementAndGet();
       listener.onCommit(position, highestPosition);
     }
 
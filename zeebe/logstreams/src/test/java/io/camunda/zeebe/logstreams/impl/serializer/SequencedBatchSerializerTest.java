@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.impl.log.SequencedBatch;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.util.TestEntry;
 import java.util.List;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -40,4 +41,32 @@ final class SequencedBatchSerializerTest {
     assertThat(secondEvent.getPosition()).isEqualTo(2);
     assertThat(secondEvent.getSourceEventPosition()).isEqualTo(-1);
   }
+
+  @Test
+  void shouldUseSourcePositionOfEntryOverSourcePositionOfBatch() {
+    // given
+    final var entries =
+        List.of(
+            LogAppendEntry.withSourcePosition(TestEntry.ofKey(1), 3),
+            LogAppendEntry.withSourcePosition(LogAppendEntry.ofProcessed(TestEntry.ofKey(2)), 4),
+            TestEntry.ofKey(3));
+    final var batch = new SequencedBatch(0, 10, 5, entries);
+
+    // when
+    final var serialized = new UnsafeBuffer(SequencedBatchSerializer.serializeBatch(batch));
+
+    // then
+    final var firstEvent = new LoggedEventImpl();
+    firstEvent.wrap(serialized, 0);
+    assertThat(firstEvent.getSourceEventPosition()).isEqualTo(3);
+
+    final var secondEvent = new LoggedEventImpl();
+    secondEvent.wrap(serialized, firstEvent.getLength());
+    assertThat(secondEvent.getSourceEventPosition()).isEqualTo(4);
+    assertThat(secondEvent.shouldSkipProcessing()).isTrue();
+
+    final var thirdEvent = new LoggedEventImpl();
+    thirdEvent.wrap(serialized, firstEvent.getLength() + secondEvent.getLength());
+    assertThat(thirdEvent.getSourceEventPosition()).isEqualTo(5);
+  }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH result files, as written with {@code -rf json}, and reports the relative change
+ * of every benchmark present in both. A benchmark regressed if its score got worse by more than the
+ * given threshold, taking into account whether higher (throughput) or lower (average time, sample
+ * time, single shot) scores are better.
+ *
+ * <p>Usage: {@code BaselineComparison <baseline.json> <current.json> [maxRegressionPercent]}. Exits
+ * with 1 if any benchmark regressed, such that it can be used to gate an upgrade.
+ */
+public final class BaselineComparison {
+
+  static final double DEFAULT_MAX_REGRESSION_PERCENT = 10.0;
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String THROUGHPUT_MODE = "thrpt";
+
+  private BaselineComparison() {}
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 2 || args.length > 3) {
+      System.err.println(
+          "Usage: BaselineComparison <baseline.json> <current.json> [maxRegressionPercent]");
+      System.exit(2);
+    }
+
+    final var maxRegressionPercent =
+        args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_MAX_REGRESSION_PERCENT;
+    final List<Comparison> comparisons;
+    try (final var baseline = Files.newInputStream(Path.of(args[0]));
+        final var current = Files.newInputStream(Path.of(args[1]))) {
+      comparisons = compare(read(baseline), read(current), maxRegressionPercent);
+    }
+
+    report(comparisons, System.out);
+    if (comparisons.stream().anyMatch(Comparison::regressed)) {
+      System.exit(1);
+    }
+  }
+
+  /** Reads the results of a JMH JSON result file, keyed by benchmark name and parameters. */
+  static Map<String, Result> read(final InputStream json) throws IOException {
+    final var results = new LinkedHashMap<String, Result>();
+    for (final JsonNode node : MAPPER.readTree(json)) {
+      final var params = new TreeMap<String, String>();
+      node.path("params")
+          .fields()
+          .forEachRemaining(e -> params.put(e.getKey(), e.getValue().asText()));
+
+      final var name = node.path("benchmark").asText() + (params.isEmpty() ? "" : params);
+      final var metric = node.path("primaryMetric");
+      results.put(
+          name,
+          new Result(
+              name,
+              node.path("mode").asText(),
+              metric.path("score").asDouble(),
+              metric.path("scoreError").asDouble(),
+              metric.path("scoreUnit").asText()));
+    }
+    return results;
+  }
+
+  /**
+   * Compares every benchmark of the current results with the baseline. Benchmarks which are missing
+   * from either side, or whose mode or unit changed, are skipped, as their scores are not
+   * comparable.
+   */
+  static List<Comparison> compare(
+      final Map<String, Result> baseline,
+      final Map<String, Result> current,
+      final double maxRegressionPercent) {
+    final var comparisons = new ArrayList<Comparison>();
+    for (final var result : current.values()) {
+      final var base = baseline.get(result.name());
+      if (base == null
+          || !base.mode().equals(result.mode())
+          || !base.unit().equals(result.unit())) {
+        continue;
+      }
+
+      final var changePercent = (result.score() - base.score()) / base.score() * 100;
+      final var improvementPercent =
+          THROUGHPUT_MODE.equals(result.mode()) ? changePercent : -changePercent;
+      comparisons.add(
+          new Comparison(base, result, changePercent, improvementPercent < -maxRegressionPercent));
+    }
+    return comparisons;
+  }
+
+  static void report(final List<Comparison> comparisons, final PrintStream out) {
+    for (final var comparison : comparisons) {
+      out.printf(
+          "%-10s %+8.2f%%  %14.3f -> %14.3f %-8s %s%n",
+          comparison.regressed() ? "REGRESSED" : "ok",
+          comparison.changePercent(),
+          comparison.baseline().score(),
+          comparison.current().score(),
+          comparison.current().unit(),
+          comparison.current().name());
+    }
+  }
+
+  record Result(String name, String mode, double score, double error, String unit) {}
+
+  record Comparison(Result baseline, Result current, double changePercent, boolean regressed) {}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures iterating over all keys sharing a prefix in a transactional column family with {@link
+ * #prefixes} prefixes of {@link #keysPerPrefix} keys each, which is the access pattern behind most
+ * of the engine's secondary indexes.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ColumnFamilyPrefixIterationBenchmark {
+
+  private static final int BATCH_SIZE = 10_000;
+
+  @Param({"1000"})
+  private int prefixes;
+
+  @Param({"10", "1000"})
+  private int keysPerPrefix;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> columnFamily;
+  private DbLong prefixKey;
+  private DbLong suffixKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("zeebe-microbenchmark");
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    transactionContext = zeebeDb.createContext();
+    prefixKey = new DbLong();
+    suffixKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(prefixKey, suffixKey);
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, DbNil.INSTANCE);
+
+    final long entries = (long) prefixes * keysPerPrefix;
+    for (long batchStart = 0; batchStart < entries; batchStart += BATCH_SIZE) {
+      final long start = batchStart;
+      final long end = Math.min(entries, batchStart + BATCH_SIZE);
+      final var transaction = transactionContext.getCurrentTransaction();
+      transaction.run(
+          () -> {
+            for (long i = start; i < end; i++) {
+              prefixKey.wrapLong(i / keysPerPrefix);
+              suffixKey.wrapLong(i % keysPerPrefix);
+              columnFamily.insert(compositeKey, DbNil.INSTANCE);
+            }
+          });
+      transaction.commit();
+    }
+
+    // iterate over a prefix in the middle of the column family
+    prefixKey.wrapLong(prefixes / 2);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public long iteratePrefix() {
+    return countKeysWithPrefix();
+  }
+
+  /**
+   * Iterates within a transaction which holds an uncommitted write under the same prefix, such that
+   * the iterator has to merge the pending writes with the committed data.
+   */
+  @Benchmark
+  public long iteratePrefixWithPendingWrites() throws Exception {
+    final var count = new long[1];
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          suffixKey.wrapLong(keysPerPrefix);
+          columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+          count[0] = countKeysWithPrefix();
+        });
+    transaction.rollback();
+    return count[0];
+  }
+
+  private long countKeysWithPrefix() {
+    final var count = new long[1];
+    columnFamily.whileEqualPrefix(
+        prefixKey,
+        (key, value) -> {
+          count[0] += key.second().getValue();
+          return true;
+        });
+    return count[0];
+  }
+}
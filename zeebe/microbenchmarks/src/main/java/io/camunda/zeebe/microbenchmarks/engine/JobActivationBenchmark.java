@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how long it takes to collect a batch of activatable jobs of one type, while the state
+ * contains {@link #activatableJobs} jobs of that type and as many jobs of another type.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobActivationBenchmark {
+
+  private static final DirectBuffer JOB_TYPE = wrapString("task");
+  private static final DirectBuffer OTHER_JOB_TYPE = wrapString("other-task");
+  private static final List<String> TENANTS = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+  @Param({"1000", "100000"})
+  private int activatableJobs;
+
+  @Param({"32"})
+  private int maxJobsToActivate;
+
+  private ProcessingStateFixture fixture;
+
+  @Setup
+  public void setup() throws Exception {
+    fixture = new ProcessingStateFixture();
+    final var jobState = fixture.state().getJobState();
+    final var job =
+        new JobRecord()
+            .setBpmnProcessId("process")
+            .setElementId("task")
+            .setRetries(3)
+            .setVariables(wrapString(""));
+    fixture.fill(
+        activatableJobs,
+        i -> {
+          jobState.create(2L * i, job.setType(JOB_TYPE).setProcessInstanceKey(i));
+          jobState.create(2L * i + 1, job.setType(OTHER_JOB_TYPE).setProcessInstanceKey(i));
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    fixture.close();
+  }
+
+  @Benchmark
+  public int activateJobs(final Blackhole blackhole) {
+    final var activated = new int[1];
+    fixture
+        .state()
+        .getJobState()
+        .forEachActivatableJobs(
+            JOB_TYPE,
+            TENANTS,
+            (key, job) -> {
+              blackhole.consume(job);
+              return ++activated[0] < maxJobsToActivate;
+            });
+    return activated[0];
+  }
+}
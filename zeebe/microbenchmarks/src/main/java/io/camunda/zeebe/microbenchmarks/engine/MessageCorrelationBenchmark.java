@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageSubscriptionRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how long it takes to find the subscriptions a published message correlates to, while the
+ * state contains {@link #subscriptions} subscriptions for the same message name, of which {@link
+ * #subscriptionsPerCorrelationKey} share each correlation key.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MessageCorrelationBenchmark {
+
+  private static final DirectBuffer MESSAGE_NAME = wrapString("message");
+
+  @Param({"1000", "100000"})
+  private int subscriptions;
+
+  @Param({"1", "100"})
+  private int subscriptionsPerCorrelationKey;
+
+  private ProcessingStateFixture fixture;
+  private DirectBuffer correlationKey;
+
+  @Setup
+  public void setup() throws Exception {
+    fixture = new ProcessingStateFixture();
+    final var subscriptionState = fixture.state().getMessageSubscriptionState();
+    final var subscription =
+        new MessageSubscriptionRecord()
+            .setBpmnProcessId(wrapString("process"))
+            .setMessageName(MESSAGE_NAME)
+            .setInterrupting(true)
+            .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    fixture.fill(
+        subscriptions,
+        i ->
+            subscriptionState.put(
+                i,
+                subscription
+                    .setElementInstanceKey(i)
+                    .setProcessInstanceKey(i)
+                    .setCorrelationKey(correlationKey(i / subscriptionsPerCorrelationKey))));
+
+    // pick a correlation key in the middle of the column family
+    correlationKey = correlationKey(subscriptions / subscriptionsPerCorrelationKey / 2);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    fixture.close();
+  }
+
+  @Benchmark
+  public int correlateMessage(final Blackhole blackhole) {
+    final var correlated = new int[1];
+    fixture
+        .state()
+        .getMessageSubscriptionState()
+        .visitSubscriptions(
+            TenantOwned.DEFAULT_TENANT_IDENTIFIER,
+            MESSAGE_NAME,
+            correlationKey,
+            subscription -> {
+              blackhole.consume(subscription);
+              correlated[0]++;
+              return true;
+            });
+    return correlated[0];
+  }
+
+  private static DirectBuffer correlationKey(final int index) {
+    return wrapString("order-" + index);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import io.camunda.zeebe.engine.perf.TestEngine;
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of creating a process instance up to its first service task, on a single
+ * partition engine which already holds {@link #existingInstances} active process instances.
+ *
+ * <p>Unlike the other benchmarks this one runs the full stream processor, i.e. it includes writing
+ * to and reading from the log.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ProcessInstanceCreationBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(ProcessInstanceCreationBenchmark.class);
+  private static final String PROCESS_ID = "process";
+
+  @Param({"0", "10000"})
+  private int existingInstances;
+
+  private TestContext testContext;
+  private TestEngine engine;
+  private ProcessInstanceClient processInstanceClient;
+
+  @Setup
+  public void setup() throws IOException {
+    testContext = createTestContext();
+    engine = TestEngine.createSinglePartitionEngine(testContext);
+    engine
+        .createDeploymentClient()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask("task", t -> t.zeebeJobType("task"))
+                .endEvent()
+                .done())
+        .deploy();
+    processInstanceClient = engine.createProcessInstanceClient();
+
+    LOG.info("Creating {} process instances before measuring", existingInstances);
+    for (int i = 0; i < existingInstances; i++) {
+      processInstanceClient.ofBpmnProcessId(PROCESS_ID).create();
+      RecordingExporter.reset();
+      if (i % 10_000 == 0) {
+        engine.reset();
+      }
+    }
+    engine.reset();
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<JobRecordValue> createProcessInstance() {
+    final long processInstanceKey = processInstanceClient.ofBpmnProcessId(PROCESS_ID).create();
+    final var job =
+        RecordingExporter.jobRecords()
+            .withIntent(JobIntent.CREATED)
+            .withProcessInstanceKey(processInstanceKey)
+            .getFirst();
+
+    // drop the exported records and the log, otherwise both grow with every invocation
+    engine.reset();
+    return job;
+  }
+
+  private static TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+}
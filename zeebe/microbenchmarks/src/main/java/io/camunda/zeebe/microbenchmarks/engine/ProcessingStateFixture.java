@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.function.IntConsumer;
+
+/**
+ * Opens a RocksDB backed processing state in a temporary folder, configured like a broker would
+ * (i.e. without the consistency checks which are only enabled in tests), and removes it again on
+ * close.
+ */
+final class ProcessingStateFixture implements AutoCloseable {
+
+  private static final int BATCH_SIZE = 10_000;
+
+  private final Path directory;
+  private final ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private final TransactionContext transactionContext;
+  private final MutableProcessingState processingState;
+
+  ProcessingStateFixture() throws IOException {
+    directory = Files.createTempDirectory("zeebe-microbenchmark");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, Protocol.DEPLOYMENT_PARTITION))
+            .createDb(directory.toFile());
+    transactionContext = zeebeDb.createContext();
+    processingState =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext),
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new EngineConfiguration(),
+            InstantSource.system());
+  }
+
+  /**
+   * Calls the given writer {@code count} times, committing every {@link #BATCH_SIZE} calls, to fill
+   * the state quickly without a huge write batch.
+   */
+  void fill(final int count, final IntConsumer writer) throws Exception {
+    for (int batchStart = 0; batchStart < count; batchStart += BATCH_SIZE) {
+      final var batchEnd = Math.min(count, batchStart + BATCH_SIZE);
+      final var start = batchStart;
+      final var transaction = transactionContext.getCurrentTransaction();
+      transaction.run(
+          () -> {
+            for (int i = start; i < batchEnd; i++) {
+              writer.accept(i);
+            }
+          });
+      transaction.commit();
+    }
+  }
+
+  MutableProcessingState state() {
+    return processingState;
+  }
+
+  TransactionContext transactionContext() {
+    return transactionContext;
+  }
+
+  @Override
+  public void close() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to resolve a variable which is only defined in the root scope from the
+ * innermost of {@link #scopeDepth} nested scopes, each containing {@link #variablesPerScope} other
+ * variables.
+ *
+ * <p>Every look-up runs in its own transaction, like the look-ups of a processed command do, so
+ * that it is not served by the per-transaction variable cache.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class VariableLookupBenchmark {
+
+  private static final long ROOT_SCOPE_KEY = 1L;
+  private static final long PROCESS_DEFINITION_KEY = 1L;
+  private static final DirectBuffer VARIABLE_NAME = wrapString("orderId");
+
+  @Param({"1", "10"})
+  private int scopeDepth;
+
+  @Param({"10", "1000"})
+  private int variablesPerScope;
+
+  private ProcessingStateFixture fixture;
+  private long innermostScopeKey;
+  private DirectBuffer result;
+
+  @Setup
+  public void setup() throws Exception {
+    fixture = new ProcessingStateFixture();
+    final var variableState = fixture.state().getVariableState();
+    final var value = MsgPackUtil.asMsgPack("\"a-string-value-of-moderate-length\"");
+    final var variableKey = new long[] {scopeDepth + 1L};
+
+    innermostScopeKey = ROOT_SCOPE_KEY + scopeDepth - 1;
+    fixture.fill(
+        scopeDepth,
+        depth -> {
+          final long scopeKey = ROOT_SCOPE_KEY + depth;
+          if (depth == 0) {
+            variableState.createScope(scopeKey, -1);
+            variableState.setVariableLocal(
+                variableKey[0]++, scopeKey, PROCESS_DEFINITION_KEY, VARIABLE_NAME, value);
+          } else {
+            variableState.createScope(scopeKey, scopeKey - 1);
+          }
+
+          for (int i = 0; i < variablesPerScope; i++) {
+            variableState.setVariableLocal(
+                variableKey[0]++,
+                scopeKey,
+                PROCESS_DEFINITION_KEY,
+                wrapString("variable-" + i),
+                value);
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    fixture.close();
+  }
+
+  @Benchmark
+  public DirectBuffer lookUpVariable() throws Exception {
+    final var transaction = fixture.transactionContext().getCurrentTransaction();
+    transaction.run(
+        () ->
+            result =
+                fixture.state().getVariableState().getVariable(innermostScopeKey, VARIABLE_NAME));
+    transaction.rollback();
+    return result;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.exporter;
+
+import com.fasterxml.jackson.core.JsonParser.Feature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serializing records to JSON the way the Elasticsearch and OpenSearch exporters do before
+ * adding them to a bulk request, i.e. with Jackson and the record sequence appended as an
+ * additional property.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordJsonSerializationBenchmark {
+
+  private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+  private static final int RECORD_COUNT = 1024;
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .addMixIn(Record.class, RecordSequenceMixin.class)
+          .enable(Feature.ALLOW_SINGLE_QUOTES);
+
+  @Param({"JOB", "PROCESS_INSTANCE", "VARIABLE"})
+  private ValueType valueType;
+
+  private List<Record<?>> records;
+  private int next;
+
+  @Setup
+  public void setup() {
+    final var factory = new ProtocolFactory();
+    records =
+        Stream.generate(() -> factory.<RecordValue>generateRecord(valueType))
+            .limit(RECORD_COUNT)
+            .<Record<?>>map(Function.identity())
+            .toList();
+  }
+
+  @Benchmark
+  public byte[] serializeRecord() throws IOException {
+    final var record = records.get(next++ & (RECORD_COUNT - 1));
+    return MAPPER
+        .writer()
+        .withAttribute(RECORD_SEQUENCE_PROPERTY, record.getPosition())
+        .writeValueAsBytes(record);
+  }
+
+  @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
+  private static final class RecordSequenceMixin {}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.journal;
+
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending to and reading from a segmented journal which already holds {@link #entries}
+ * entries of {@link #entrySize} bytes each. Entries are not flushed, so the numbers reflect the
+ * journal itself rather than the disk.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+
+  private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  @Param({"10000", "100000"})
+  private int entries;
+
+  @Param({"256", "4096"})
+  private int entrySize;
+
+  private Path directory;
+  private Journal journal;
+  private JournalReader reader;
+  private DirectBufferWriter entryWriter;
+  private long lastIndex;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("zeebe-microbenchmark");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .withMetaStore(new JournalMetaStore.InMemory())
+            .build();
+
+    final var entry = new byte[entrySize];
+    ThreadLocalRandom.current().nextBytes(entry);
+    entryWriter = new DirectBufferWriter().wrap(new UnsafeBuffer(entry));
+    for (int i = 0; i < entries; i++) {
+      journal.append(i + 1, entryWriter);
+    }
+
+    lastIndex = journal.getLastIndex();
+    reader = journal.openReader();
+  }
+
+  /**
+   * Truncates what the previous iteration appended, so every iteration starts from the same size.
+   */
+  @Setup(Level.Iteration)
+  public void truncate() {
+    journal.deleteAfter(lastIndex);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    reader.close();
+    journal.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public JournalRecord append() {
+    return journal.append(entryWriter);
+  }
+
+  @Benchmark
+  public JournalRecord seekAndRead() {
+    reader.seek(ThreadLocalRandom.current().nextLong(1, lastIndex + 1));
+    return reader.next();
+  }
+}
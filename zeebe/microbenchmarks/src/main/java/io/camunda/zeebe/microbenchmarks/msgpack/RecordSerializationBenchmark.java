@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing a job record to and reading it from its MessagePack representation, with a
+ * variables document of {@link #variableCount} variables, as happens for every record written to or
+ * read from the log.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordSerializationBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int variableCount;
+
+  private final JobRecord record = new JobRecord();
+  private final JobRecord readRecord = new JobRecord();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private DirectBuffer serialized;
+
+  @Setup
+  public void setup() {
+    final var variables = new HashMap<String, Object>();
+    for (int i = 0; i < variableCount; i++) {
+      variables.put("variable-" + i, "a-string-value-of-moderate-length-" + i);
+    }
+
+    record
+        .setType("task")
+        .setWorker("worker")
+        .setBpmnProcessId("process")
+        .setElementId("task")
+        .setRetries(3)
+        .setDeadline(System.currentTimeMillis())
+        .setProcessInstanceKey(1L)
+        .setElementInstanceKey(2L)
+        .setProcessDefinitionKey(3L)
+        .setCustomHeaders(MsgPackUtil.asMsgPack("header", "value"))
+        .setVariables(MsgPackUtil.asMsgPack(variables));
+
+    final var bytes = new byte[record.getLength()];
+    record.write(new UnsafeBuffer(bytes), 0);
+    serialized = new UnsafeBuffer(bytes);
+  }
+
+  @Benchmark
+  public int serialize() {
+    record.write(writeBuffer, 0);
+    return record.getLength();
+  }
+
+  @Benchmark
+  public JobRecord deserialize() {
+    readRecord.reset();
+    readRecord.wrap(serialized);
+    return readRecord;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.microbenchmarks.BaselineComparison.Comparison;
+import io.camunda.zeebe.microbenchmarks.BaselineComparison.Result;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class BaselineComparisonTest {
+
+  @Test
+  void shouldReadResultsKeyedByBenchmarkAndParameters() throws IOException {
+    // given
+    final var json =
+        """
+        [
+          {
+            "benchmark": "io.camunda.JobActivationBenchmark.activateJobs",
+            "mode": "avgt",
+            "params": {"maxJobsToActivate": "32", "activatableJobs": "1000"},
+            "primaryMetric": {"score": 12.5, "scoreError": 0.5, "scoreUnit": "us/op"}
+          }
+        ]
+        """;
+
+    // when
+    final var results =
+        BaselineComparison.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+    // then
+    final var name =
+        "io.camunda.JobActivationBenchmark.activateJobs{activatableJobs=1000, maxJobsToActivate=32}";
+    assertThat(results).containsOnlyKeys(name);
+    assertThat(results.get(name)).isEqualTo(new Result(name, "avgt", 12.5, 0.5, "us/op"));
+  }
+
+  @Test
+  void shouldDetectThroughputRegression() {
+    // given
+    final var baseline = result("a", "thrpt", 1000, "ops/s");
+    final var current = result("a", "thrpt", 850, "ops/s");
+
+    // when
+    final var comparisons =
+        BaselineComparison.compare(Map.of("a", baseline), Map.of("a", current), 10);
+
+    // then
+    assertThat(comparisons)
+        .singleElement()
+        .satisfies(c -> assertThat(c.changePercent()).isEqualTo(-15.0))
+        .extracting(Comparison::regressed)
+        .isEqualTo(true);
+  }
+
+  @Test
+  void shouldDetectAverageTimeRegression() {
+    // given - a higher average time is worse
+    final var baseline = result("a", "avgt", 10, "us/op");
+    final var current = result("a", "avgt", 12, "us/op");
+
+    // when
+    final var comparisons =
+        BaselineComparison.compare(Map.of("a", baseline), Map.of("a", current), 10);
+
+    // then
+    assertThat(comparisons).singleElement().extracting(Comparison::regressed).isEqualTo(true);
+  }
+
+  @Test
+  void shouldNotReportImprovementOrChangeWithinThresholdAsRegression() {
+    // given
+    final var baseline =
+        Map.of("a", result("a", "avgt", 10, "us/op"), "b", result("b", "thrpt", 100, "ops/s"));
+    final var current =
+        Map.of("a", result("a", "avgt", 5, "us/op"), "b", result("b", "thrpt", 95, "ops/s"));
+
+    // when
+    final var comparisons = BaselineComparison.compare(baseline, current, 10);
+
+    // then
+    assertThat(comparisons).hasSize(2).noneMatch(Comparison::regressed);
+  }
+
+  @Test
+  void shouldSkipBenchmarksWhichAreNotComparable() {
+    // given
+    final var baseline =
+        Map.of("a", result("a", "avgt", 10, "us/op"), "b", result("b", "avgt", 10, "us/op"));
+    final var current =
+        Map.of("a", result("a", "avgt", 10, "ms/op"), "c", result("c", "avgt", 10, "us/op"));
+
+    // when
+    final var comparisons = BaselineComparison.compare(baseline, current, 10);
+
+    // then
+    assertThat(comparisons).isEmpty();
+  }
+
+  private static Result result(
+      final String name, final String mode, final double score, final String unit) {
+    return new Result(name, mode, score, 0, unit);
+  }
+}
@@ -36,10 +36,28 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
 
   @Override
   public void wrap(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, false);
+  }
+
+  /**
+   * Wraps the given buffer like {@link #wrap(DirectBuffer, int, int)}, but nested arrays and
+   * objects are only decoded on first access, so reading a value touches only the properties that
+   * are needed. The buffer must not be modified until the object is reset or wrapped again.
+   */
+  public void wrapLazily(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, true);
+  }
+
+  private void wrap(
+      final DirectBuffer buff, final int offset, final int length, final boolean lazily) {
     reset();
     reader.wrap(buff, offset, length);
     try {
-      read(reader);
+      if (lazily) {
+        readLazily(reader);
+      } else {
+        read(reader);
+      }
     } catch (final Exception e) {
       throw new RuntimeException(
           "Could not deserialize object ["
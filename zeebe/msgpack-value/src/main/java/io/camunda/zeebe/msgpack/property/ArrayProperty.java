@@ -36,6 +36,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add() {
+    decodeIfRequired();
     try {
       return value.add();
     } catch (final Exception e) {
@@ -45,6 +46,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add(final int index) {
+    decodeIfRequired();
     try {
       return value.add(index);
     } catch (final Exception e) {
@@ -60,6 +62,12 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   }
 
   public boolean isEmpty() {
+    decodeIfRequired();
     return value.isEmpty();
   }
+
+  @Override
+  protected boolean isDecodedLazily() {
+    return true;
+  }
 }
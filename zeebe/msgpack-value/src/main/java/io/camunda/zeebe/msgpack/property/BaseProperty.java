@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +22,11 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  // the encoded value, if it was read lazily and has not been decoded yet; see readLazily
+  private UnsafeBuffer encodedValue;
+  private MsgPackReader encodedValueReader;
+  private boolean isEncoded;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -45,6 +51,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   @Override
   public void reset() {
     isSet = false;
+    isEncoded = false;
     value.reset();
   }
 
@@ -58,6 +65,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   protected T resolveValue() {
     if (isSet) {
+      decodeIfRequired();
       return value;
     } else if (defaultValue != null) {
       return defaultValue;
@@ -68,6 +76,10 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (isEncoded) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -76,7 +88,54 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Reads the value like {@link #read(MsgPackReader)}, but if the property {@link
+   * #isDecodedLazily() is decoded lazily}, only keeps a view of the encoded value, which is decoded
+   * on first access. Until then, the underlying buffer must not be modified. Writing a value which
+   * was not accessed copies the encoded value as is.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    if (!isDecodedLazily()) {
+      read(reader);
+      return;
+    }
+
+    if (encodedValue == null) {
+      encodedValue = new UnsafeBuffer(0, 0);
+      encodedValueReader = new MsgPackReader();
+    }
+
+    final int offset = reader.getOffset();
+    reader.skipValue();
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    isEncoded = true;
+    set();
+  }
+
+  /**
+   * @return true if the value should only be decoded on first access when read via {@link
+   *     #readLazily(MsgPackReader)}, which pays off for values which are expensive to decode
+   */
+  protected boolean isDecodedLazily() {
+    return false;
+  }
+
+  /** Decodes the value if it was read lazily and has not been accessed yet. */
+  protected void decodeIfRequired() {
+    if (isEncoded) {
+      isEncoded = false;
+      value.reset();
+      value.read(encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity()));
+    }
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (isEncoded) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +162,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeIfRequired();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +183,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeIfRequired();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
@@ -17,4 +17,9 @@ public final class ObjectProperty<T extends ObjectValue> extends BaseProperty<T>
   public T getValue() {
     return resolveValue();
   }
+
+  @Override
+  protected boolean isDecodedLazily() {
+    return true;
+  }
 }
@@ -22,6 +22,8 @@ import org.agrona.collections.CollectionUtil;
 public final class ArrayValue<T extends BaseValue> extends BaseValue
     implements Iterable<T>, RandomAccess {
   private final List<T> items;
+  // items which were cleared on reset, reused instead of creating new ones
+  private final List<T> recycledItems = new ArrayList<>(0);
   private final Supplier<T> valueFactory;
 
   public ArrayValue(final Supplier<T> valueFactory) {
@@ -32,7 +34,9 @@ public final class ArrayValue<T extends BaseValue> extends BaseValue
 
   @Override
   public void reset() {
-    items.clear();
+    for (int i = items.size() - 1; i >= 0; i--) {
+      recycledItems.add(items.remove(i));
+    }
   }
 
   public boolean isEmpty() {
@@ -68,7 +72,7 @@ public final class ArrayValue<T extends BaseValue> extends BaseValue
 
     final var size = reader.readArrayHeader();
     for (int i = 0; i < size; i++) {
-      final var value = valueFactory.get();
+      final var value = newItem();
       value.read(reader);
       items.add(i, value);
     }
@@ -104,14 +108,14 @@ public final class ArrayValue<T extends BaseValue> extends BaseValue
   }
 
   public T add() {
-    final var item = valueFactory.get();
+    final var item = newItem();
     items.add(item);
 
     return item;
   }
 
   public T add(final int index) {
-    final var item = valueFactory.get();
+    final var item = newItem();
     items.add(index, item);
     return item;
   }
@@ -127,4 +131,15 @@ public final class ArrayValue<T extends BaseValue> extends BaseValue
   public int size() {
     return items.size();
   }
+
+  private T newItem() {
+    final int recycledSize = recycledItems.size();
+    if (recycledSize == 0) {
+      return valueFactory.get();
+    }
+
+    final var item = recycledItems.remove(recycledSize - 1);
+    item.reset();
+    return item;
+  }
 }
@@ -95,6 +95,21 @@ public class ObjectValue extends BaseValue {
 
   @Override
   public void read(final MsgPackReader reader) {
+    read(reader, false);
+  }
+
+  /**
+   * Reads the object like {@link #read(MsgPackReader)}, but nested values which are expensive to
+   * decode, like arrays and objects, are only decoded on first access. Until then, the buffer which
+   * is read must not be modified.
+   *
+   * @see BaseProperty#readLazily(MsgPackReader)
+   */
+  public void readLazily(final MsgPackReader reader) {
+    read(reader, true);
+  }
+
+  private void read(final MsgPackReader reader, final boolean lazily) {
     final int mapSize = reader.readMapHeader();
 
     for (int i = 0; i < mapSize; ++i) {
@@ -117,7 +132,11 @@ public class ObjectValue extends BaseValue {
       }
 
       try {
-        prop.read(reader);
+        if (lazily) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
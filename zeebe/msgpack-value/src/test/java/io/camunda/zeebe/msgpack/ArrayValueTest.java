@@ -121,6 +121,36 @@ public final class ArrayValueTest {
     assertIntValues(array, 1, 2, 3);
   }
 
+  @Test
+  void shouldReuseItemsAfterReset() {
+    // given
+    addIntValues(array, 1, 2, 3);
+    final IntegerValue first = array.iterator().next();
+    final DirectBuffer buffer = encode(array);
+    array.reset();
+
+    // when
+    decode(array, buffer);
+
+    // then
+    assertThat(array.iterator().next()).isSameAs(first);
+    assertIntValues(array, 1, 2, 3);
+  }
+
+  @Test
+  void shouldResetReusedItems() {
+    // given
+    final ArrayValue<StringValue> stringArray = new ArrayValue<>(StringValue::new);
+    addStringValues(stringArray, "foo");
+    stringArray.reset();
+
+    // when
+    final StringValue value = stringArray.add();
+
+    // then
+    assertThat(value.getValue().capacity()).isZero();
+  }
+
   @Test
   void shouldRemoveValueAtBeginning() {
     // given
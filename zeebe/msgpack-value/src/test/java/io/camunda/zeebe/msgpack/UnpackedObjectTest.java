@@ -127,4 +127,98 @@ public class UnpackedObjectTest {
       assertThat(newSchemaObject.getLength()).isEqualTo(length);
     }
   }
+
+  @Nested
+  class LazyDecoding {
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(100));
+
+    @Test
+    void shouldDecodeArrayOnAccess() {
+      // given
+      final var written = new POJOArray();
+      written.simpleArray().add().setLongProp(1L);
+      written.simpleArray().add().setLongProp(2L);
+      written.write(buffer, 0);
+
+      // when
+      final var read = new POJOArray();
+      read.wrapLazily(buffer, 0, written.getLength());
+
+      // then
+      assertThat(read.simpleArray()).extracting(MinimalPOJO::getLongProp).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldWriteUndecodedValueAsIs() {
+      // given
+      final var written = new POJOArray();
+      written.simpleArray().add().setLongProp(1L);
+      written.write(buffer, 0);
+      final var length = written.getLength();
+      final var read = new POJOArray();
+      read.wrapLazily(buffer, 0, length);
+
+      // when
+      final var copy = new UnsafeBuffer(new byte[read.getLength()]);
+      read.write(copy, 0);
+
+      // then
+      assertThat(read.getLength()).isEqualTo(length);
+      assertThat(copy).isEqualTo(new UnsafeBuffer(buffer, 0, length));
+    }
+
+    @Test
+    void shouldWriteModifiedValue() {
+      // given
+      final var written = new POJOArray();
+      written.simpleArray().add().setLongProp(1L);
+      written.write(buffer, 0);
+      final var read = new POJOArray();
+      read.wrapLazily(buffer, 0, written.getLength());
+
+      // when
+      read.simpleArray().add().setLongProp(2L);
+      final var copy = new UnsafeBuffer(new byte[read.getLength()]);
+      read.write(copy, 0);
+
+      // then
+      final var result = new POJOArray();
+      result.wrap(copy);
+      assertThat(result.simpleArray()).extracting(MinimalPOJO::getLongProp).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldNotDecodeStaleValueAfterReset() {
+      // given
+      final var written = new POJOArray();
+      written.simpleArray().add().setLongProp(1L);
+      written.write(buffer, 0);
+      final var read = new POJOArray();
+      read.wrapLazily(buffer, 0, written.getLength());
+
+      // when
+      read.reset();
+
+      // then
+      assertThat(read.simpleArray()).isEmpty();
+    }
+
+    @Test
+    void shouldBeEqualToEagerlyDecodedObject() {
+      // given
+      final var written = new POJOArray();
+      written.simpleArray().add().setLongProp(1L);
+      written.write(buffer, 0);
+
+      // when
+      final var lazy = new POJOArray();
+      lazy.wrapLazily(buffer, 0, written.getLength());
+      final var eager = new POJOArray();
+      eager.wrap(buffer, 0, written.getLength());
+
+      // then
+      assertThat(lazy).isEqualTo(eager).hasSameHashCodeAs(eager);
+      assertThat(lazy.toString()).isEqualTo(eager.toString());
+    }
+  }
 }
@@ -14,6 +14,7 @@ public final class ActorFutureSubscription implements ActorSubscription {
   private final ActorJob callbackJob;
   private final int phaseMask;
   private final ActorFuture<?> future;
+  private final long subscribedAt = System.nanoTime();
 
   public ActorFutureSubscription(
       final ActorFuture<?> future, final ActorJob callbackJob, final int phaseMask) {
@@ -46,4 +47,8 @@ public final class ActorFutureSubscription implements ActorSubscription {
   ActorFuture<?> getFuture() {
     return future;
   }
+
+  long getSubscribedAt() {
+    return subscribedAt;
+  }
 }
@@ -38,6 +38,7 @@ public final class ActorJob {
   @Async.Execute
   void execute(final ActorThread runner) {
     observeSchedulingLatency(runner.getActorMetrics());
+    observeFutureWaitTime();
     try {
       invoke();
     } catch (final Throwable e) {
@@ -70,6 +71,16 @@ public final class ActorJob {
     }
   }
 
+  private void observeFutureWaitTime() {
+    final var profile = task.profile;
+    if (profile != null
+        && subscription instanceof final ActorFutureSubscription s
+        && s.getFuture() instanceof final CompletableActorFuture<?> f) {
+      // the future may have been completed before the actor subscribed to it
+      profile.onFutureWaited(Math.max(0, f.getCompletedAt() - s.getSubscribedAt()));
+    }
+  }
+
   private void invoke() throws Exception {
     final Object invocationResult;
     if (callable != null) {
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfileSnapshot;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The profile of a single scheduled {@link ActorTask}. Executions of a task are sequential, but the
+ * task may be resubmitted to another thread before the previous thread recorded its execution, and
+ * jobs are submitted from any thread, so everything is recorded in concurrent accumulators.
+ */
+final class ActorProfile {
+  private final String actorName;
+  private final boolean cpuBound;
+  private final long longExecutionThresholdNanos;
+  private final ActorProfileMetrics metrics;
+
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder executionNanos = new LongAdder();
+  private final LongAdder cpuNanos = new LongAdder();
+  private final LongAccumulator maxExecutionNanos = new LongAccumulator(Math::max, 0);
+  private final LongAdder longExecutions = new LongAdder();
+  private final LongAdder threadWaitNanos = new LongAdder();
+  private final LongAdder submittedJobs = new LongAdder();
+  private final LongAdder futureWaitNanos = new LongAdder();
+  private volatile int queueLength;
+
+  ActorProfile(
+      final String actorName, final boolean cpuBound, final long longExecutionThresholdNanos) {
+    this.actorName = actorName;
+    this.cpuBound = cpuBound;
+    this.longExecutionThresholdNanos = longExecutionThresholdNanos;
+    metrics = new ActorProfileMetrics(actorName);
+  }
+
+  void onExecuted(
+      final long threadWaitNanos,
+      final long executionNanos,
+      final long cpuNanos,
+      final int queueLength) {
+    executions.increment();
+    this.threadWaitNanos.add(threadWaitNanos);
+    this.executionNanos.add(executionNanos);
+    this.cpuNanos.add(cpuNanos);
+    maxExecutionNanos.accumulate(executionNanos);
+    this.queueLength = queueLength;
+    metrics.observeExecution(threadWaitNanos, executionNanos, cpuNanos);
+
+    // an actor which holds a CPU thread for long delays all other actors queued on that thread,
+    // until another thread steals them from the work stealing group
+    if (cpuBound && executionNanos > longExecutionThresholdNanos) {
+      longExecutions.increment();
+      metrics.countLongExecution();
+    }
+  }
+
+  void onJobSubmitted() {
+    submittedJobs.increment();
+    metrics.countJobSubmission();
+  }
+
+  void onFutureWaited(final long waitNanos) {
+    futureWaitNanos.add(waitNanos);
+    metrics.observeFutureWait(waitNanos);
+  }
+
+  ActorProfileSnapshot snapshot() {
+    return new ActorProfileSnapshot(
+        actorName,
+        cpuBound,
+        executions.sum(),
+        Duration.ofNanos(executionNanos.sum()),
+        Duration.ofNanos(cpuNanos.sum()),
+        Duration.ofNanos(maxExecutionNanos.get()),
+        longExecutions.sum(),
+        Duration.ofNanos(threadWaitNanos.sum()),
+        queueLength,
+        submittedJobs.sum(),
+        Duration.ofNanos(futureWaitNanos.sum()));
+  }
+}
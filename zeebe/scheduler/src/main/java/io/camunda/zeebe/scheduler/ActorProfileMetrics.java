@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.prometheus.client.Counter;
+
+/** Per actor metrics of the {@link ActorProfiler}, resolved once when the actor is scheduled. */
+final class ActorProfileMetrics {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private static final Counter EXECUTION_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_execution_time")
+          .help("Total time in seconds an actor task held an actor thread")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter CPU_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_cpu_time")
+          .help("Total CPU time in seconds an actor task used while holding an actor thread")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter THREAD_WAIT_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_thread_wait_time")
+          .help(
+              "Total time in seconds an actor task was queued before an actor thread picked it up")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter LONG_EXECUTION_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_long_execution_count")
+          .help(
+              "Number of times an actor task held a CPU bound actor thread longer than the long "
+                  + "execution threshold, delaying the other actors queued on that thread")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter JOB_SUBMISSION_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_job_submission_count")
+          .help("Number of jobs submitted to an actor task from outside of the actor")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter FUTURE_WAIT_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_future_wait_time")
+          .help("Total time in seconds between an actor subscribing to a future and its completion")
+          .labelNames("actorName")
+          .register();
+
+  private final Counter.Child executionTime;
+  private final Counter.Child cpuTime;
+  private final Counter.Child threadWaitTime;
+  private final Counter.Child longExecutionCount;
+  private final Counter.Child jobSubmissionCount;
+  private final Counter.Child futureWaitTime;
+
+  ActorProfileMetrics(final String actorName) {
+    executionTime = EXECUTION_TIME.labels(actorName);
+    cpuTime = CPU_TIME.labels(actorName);
+    threadWaitTime = THREAD_WAIT_TIME.labels(actorName);
+    longExecutionCount = LONG_EXECUTION_COUNT.labels(actorName);
+    jobSubmissionCount = JOB_SUBMISSION_COUNT.labels(actorName);
+    futureWaitTime = FUTURE_WAIT_TIME.labels(actorName);
+  }
+
+  void observeExecution(
+      final long threadWaitNanos, final long executionNanos, final long cpuNanos) {
+    threadWaitTime.inc(threadWaitNanos / NANOS_PER_SECOND);
+    executionTime.inc(executionNanos / NANOS_PER_SECOND);
+    cpuTime.inc(cpuNanos / NANOS_PER_SECOND);
+  }
+
+  void countLongExecution() {
+    longExecutionCount.inc();
+  }
+
+  void countJobSubmission() {
+    jobSubmissionCount.inc();
+  }
+
+  void observeFutureWait(final long waitNanos) {
+    futureWaitTime.inc(waitNanos / NANOS_PER_SECOND);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Profiles the actors of an {@link ActorScheduler}, to find out which actors hold the actor threads
+ * when the scheduler is saturated. For each scheduled actor, it records how long and how much CPU
+ * time its executions take, how long it waits for a thread, its queue length, how many jobs are
+ * submitted to it and how long it waits for the futures it subscribed to. Actors which hold a CPU
+ * bound thread longer than the long execution threshold are flagged, as they delay all other actors
+ * queued on the same thread.
+ *
+ * <p>The profiler is enabled together with the actor metrics, and exposes the profile of each actor
+ * as metrics as well as through {@link #snapshot()}.
+ */
+public final class ActorProfiler {
+  public static final Duration DEFAULT_LONG_EXECUTION_THRESHOLD = Duration.ofMillis(50);
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME_SUPPORTED =
+      THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+
+  private final boolean enabled;
+  private final long longExecutionThresholdNanos;
+  private final Map<ActorTask, ActorProfile> profiles = new ConcurrentHashMap<>();
+
+  public ActorProfiler(final boolean enabled, final Duration longExecutionThreshold) {
+    this.enabled = enabled;
+    longExecutionThresholdNanos = longExecutionThreshold.toNanos();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the profile of all currently scheduled actors, the actors which held the actor threads
+   * the longest first. Empty if the profiler is disabled.
+   */
+  public List<ActorProfileSnapshot> snapshot() {
+    return profiles.values().stream()
+        .map(ActorProfile::snapshot)
+        .sorted(Comparator.comparing(ActorProfileSnapshot::executionTime).reversed())
+        .toList();
+  }
+
+  /**
+   * @return the profile of the given task, or null if the profiler is disabled
+   */
+  ActorProfile register(final ActorTask task, final boolean cpuBound) {
+    if (!enabled) {
+      return null;
+    }
+
+    final var profile = new ActorProfile(task.getName(), cpuBound, longExecutionThresholdNanos);
+    profiles.put(task, profile);
+    return profile;
+  }
+
+  void unregister(final ActorTask task) {
+    profiles.remove(task);
+  }
+
+  static long currentThreadCpuTime() {
+    return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+  }
+
+  /**
+   * The profile of a single actor, accumulated since it was scheduled.
+   *
+   * @param actorName the name of the actor
+   * @param cpuBound true if the actor runs on the CPU bound threads
+   * @param executions how often the actor was executed
+   * @param executionTime the total time the actor held an actor thread
+   * @param cpuTime the total CPU time the actor used while holding an actor thread; zero if the JVM
+   *     does not support measuring the CPU time of a thread
+   * @param maxExecutionTime the longest single execution
+   * @param longExecutions how often the actor held a CPU bound thread longer than the long
+   *     execution threshold
+   * @param threadWaitTime the total time the actor was queued before a thread picked it up
+   * @param queueLength the number of jobs queued for the actor after its last execution
+   * @param submittedJobs the number of jobs submitted to the actor from outside of it
+   * @param futureWaitTime the total time between subscribing to a future and its completion
+   */
+  public record ActorProfileSnapshot(
+      String actorName,
+      boolean cpuBound,
+      long executions,
+      Duration executionTime,
+      Duration cpuTime,
+      Duration maxExecutionTime,
+      long longExecutions,
+      Duration threadWaitTime,
+      int queueLength,
+      long submittedJobs,
+      Duration futureWaitTime) {}
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -20,10 +21,12 @@ import org.agrona.concurrent.IdleStrategy;
 public final class ActorScheduler implements AutoCloseable, ActorSchedulingService {
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
   private final ActorExecutor actorTaskExecutor;
+  private final ActorProfiler actorProfiler;
 
   public ActorScheduler(final ActorSchedulerBuilder builder) {
     state.set(SchedulerState.NEW);
     actorTaskExecutor = builder.getActorExecutor();
+    actorProfiler = builder.getActorProfiler();
   }
 
   /**
@@ -97,6 +100,14 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     stop().get(10, TimeUnit.SECONDS);
   }
 
+  /**
+   * Returns the profiler of the actors scheduled by this scheduler, which is only enabled if the
+   * metrics are enabled.
+   */
+  public ActorProfiler getActorProfiler() {
+    return actorProfiler;
+  }
+
   public static ActorSchedulerBuilder newActorScheduler() {
     return new ActorSchedulerBuilder();
   }
@@ -131,6 +142,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
     private boolean enableMetrics = false;
+    private Duration longExecutionThreshold = ActorProfiler.DEFAULT_LONG_EXECUTION_THRESHOLD;
+    private ActorProfiler actorProfiler;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
 
@@ -228,6 +241,29 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public Duration getLongExecutionThreshold() {
+      return longExecutionThreshold;
+    }
+
+    /**
+     * Sets the time after which the profiler flags an execution of an actor on a CPU bound thread
+     * as long running; only used if the metrics are enabled.
+     */
+    public ActorSchedulerBuilder setLongExecutionThreshold(final Duration longExecutionThreshold) {
+      this.longExecutionThreshold = Objects.requireNonNull(longExecutionThreshold);
+      return this;
+    }
+
+    public ActorProfiler getActorProfiler() {
+      return actorProfiler;
+    }
+
+    private void initActorProfiler() {
+      if (actorProfiler == null) {
+        actorProfiler = new ActorProfiler(enableMetrics, longExecutionThreshold);
+      }
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -253,6 +289,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     }
 
     public ActorScheduler build() {
+      initActorProfiler();
       initActorThreadFactory();
       initCpuBoundActorThreadGroup();
       initIoBoundActorThreadGroup();
@@ -43,6 +43,10 @@ public class ActorTask {
   final Actor actor;
   ActorJob currentJob;
   boolean shouldYield;
+  // only set if the scheduler's profiler is enabled
+  ActorProfile profile;
+  // written by the submitting thread, read by the actor thread which picks up the task
+  volatile long queuedAt;
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
   final AtomicLong stateCount = new AtomicLong(0);
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
@@ -66,6 +70,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    profile = actorThreadGroup.getProfiler().register(this, actorThreadGroup.isCpuBound());
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -106,6 +111,9 @@ public class ActorTask {
         // we have to manually fail the job to make sure does not get lost
         failJob(job);
       } else {
+        if (profile != null) {
+          profile.onJobSubmitted();
+        }
         // wakeup task if waiting
         tryWakeup();
       }
@@ -241,6 +249,7 @@ public class ActorTask {
 
   private void onClosed() {
     schedulingState.set(TaskSchedulingState.NOT_SCHEDULED);
+    actorThreadGroup.getProfiler().unregister(this);
 
     // we need to work on a copy - otherwise we would get a ConcurrentModificationException
     // since some subscriptions remove them self on cancel
@@ -499,6 +508,12 @@ public class ActorTask {
     }
   }
 
+  void onQueued() {
+    if (profile != null) {
+      queuedAt = System.nanoTime();
+    }
+  }
+
   public void resubmit() {
     actorThreadGroup.submit(this);
   }
@@ -103,19 +103,44 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     currentTask = taskScheduler.getNextTask();
 
     if (currentTask != null) {
-      final var actorName = currentTask.actor.getName();
-      try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
-        executeCurrentTask();
-      }
-      if (actorMetrics.isEnabled()) {
-        actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
-        actorMetrics.countExecution(actorName);
+      final var profile = currentTask.profile;
+      if (profile == null) {
+        executeAndMeasureCurrentTask();
+      } else {
+        executeAndProfileCurrentTask(profile);
       }
     } else {
       idleStrategy.onIdle();
     }
   }
 
+  private void executeAndMeasureCurrentTask() {
+    final var actorName = currentTask.actor.getName();
+    try (final var timer = actorMetrics.startExecutionTimer(actorName)) {
+      executeCurrentTask();
+    }
+    if (actorMetrics.isEnabled()) {
+      actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
+      actorMetrics.countExecution(actorName);
+    }
+  }
+
+  private void executeAndProfileCurrentTask(final ActorProfile profile) {
+    // read before executing, as the task may be queued again by the execution
+    final var task = currentTask;
+    final var queuedAt = task.queuedAt;
+    final var startedAt = System.nanoTime();
+    final var cpuTimeAtStart = ActorProfiler.currentThreadCpuTime();
+
+    executeAndMeasureCurrentTask();
+
+    profile.onExecuted(
+        startedAt - queuedAt,
+        System.nanoTime() - startedAt,
+        ActorProfiler.currentThreadCpuTime() - cpuTimeAtStart,
+        task.estimateQueueLength());
+  }
+
   private void executeCurrentTask() {
     final var properties = currentTask.getActor().getContext();
     boolean resubmit = false;
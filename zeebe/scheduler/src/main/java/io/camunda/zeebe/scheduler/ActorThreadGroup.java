@@ -22,6 +22,7 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final ActorProfiler profiler;
 
   public ActorThreadGroup(
       final String groupName,
@@ -31,6 +32,7 @@ public abstract class ActorThreadGroup {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    profiler = builder.getActorProfiler();
 
     tasks = new WorkStealingGroup(numOfThreads);
 
@@ -76,6 +78,15 @@ public abstract class ActorThreadGroup {
     return schedulerName;
   }
 
+  ActorProfiler getProfiler() {
+    return profiler;
+  }
+
+  /** Returns true if long running tasks of this group delay the other tasks of the group. */
+  boolean isCpuBound() {
+    return false;
+  }
+
   public CompletableFuture<Void> closeAsync() {
     Loggers.ACTOR_LOGGER.debug("Closing actor thread ground '{}'", groupName);
 
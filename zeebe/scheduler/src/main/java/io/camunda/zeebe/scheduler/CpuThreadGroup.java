@@ -15,4 +15,9 @@ public final class CpuThreadGroup extends ActorThreadGroup {
   public CpuThreadGroup(final ActorSchedulerBuilder builder) {
     super("zb-actors", builder.getCpuBoundActorThreadCount(), builder, builder.getSchedulerName());
   }
+
+  @Override
+  boolean isCpuBound() {
+    return true;
+  }
 }
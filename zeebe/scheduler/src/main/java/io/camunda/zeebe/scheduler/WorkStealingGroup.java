@@ -32,6 +32,7 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
+    task.onQueued();
     taskQueues[threadId].append(task);
   }
 
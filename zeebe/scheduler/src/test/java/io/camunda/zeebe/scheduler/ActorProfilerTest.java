@@ -0,0 +1,209 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.scheduler.ActorProfiler.ActorProfileSnapshot;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ActorProfilerTest {
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldNotProfileIfMetricsAreDisabled() {
+    // given
+    scheduler = ActorScheduler.newActorScheduler().setMetricsEnabled(false).build();
+    scheduler.start();
+    final var actor = new TestActor("disabled");
+
+    // when
+    scheduler.submitActor(actor).join();
+    actor.call(() -> null).join();
+
+    // then
+    assertThat(scheduler.getActorProfiler().isEnabled()).isFalse();
+    assertThat(scheduler.getActorProfiler().snapshot()).isEmpty();
+  }
+
+  @Test
+  void shouldProfileExecutionsAndSubmittedJobs() {
+    // given
+    scheduler = newProfiledScheduler(Duration.ofMinutes(1));
+    final var actor = new TestActor("executions");
+    scheduler.submitActor(actor).join();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      actor.call(() -> null).join();
+    }
+
+    // then
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(profileOf("executions"))
+                    .satisfies(
+                        profile -> {
+                          assertThat(profile.cpuBound()).isTrue();
+                          assertThat(profile.executions()).isPositive();
+                          assertThat(profile.submittedJobs()).isEqualTo(10);
+                          assertThat(profile.executionTime()).isPositive();
+                          assertThat(profile.longExecutions()).isZero();
+                        }));
+  }
+
+  @Test
+  void shouldFlagLongExecutionsOnCpuThreads() {
+    // given
+    scheduler = newProfiledScheduler(Duration.ofMillis(1));
+    final var actor = new TestActor("long-running");
+    scheduler.submitActor(actor).join();
+
+    // when
+    actor.call(() -> busyWait(20)).join();
+
+    // then
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(profileOf("long-running"))
+                    .satisfies(
+                        profile -> {
+                          assertThat(profile.longExecutions()).isPositive();
+                          assertThat(profile.maxExecutionTime())
+                              .isGreaterThanOrEqualTo(Duration.ofMillis(20));
+                        }));
+  }
+
+  @Test
+  void shouldNotFlagLongExecutionsOnIoThreads() {
+    // given
+    scheduler = newProfiledScheduler(Duration.ofMillis(1));
+    final var actor = new TestActor("io-bound");
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // when
+    actor.call(() -> busyWait(20)).join();
+
+    // then
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(profileOf("io-bound"))
+                    .satisfies(
+                        profile -> {
+                          assertThat(profile.cpuBound()).isFalse();
+                          assertThat(profile.maxExecutionTime())
+                              .isGreaterThanOrEqualTo(Duration.ofMillis(20));
+                          assertThat(profile.longExecutions()).isZero();
+                        }));
+  }
+
+  @Test
+  void shouldProfileTimeWaitingOnFutures() throws InterruptedException {
+    // given
+    scheduler = newProfiledScheduler(Duration.ofMinutes(1));
+    final var actor = new TestActor("waiting");
+    scheduler.submitActor(actor).join();
+    final var future = new CompletableActorFuture<Void>();
+    final var completed = new CountDownLatch(1);
+    actor
+        .call(
+            () -> {
+              actor.runOnCompletion(future, (ok, error) -> completed.countDown());
+              return null;
+            })
+        .join();
+
+    // when
+    Thread.sleep(20);
+    future.complete(null);
+
+    // then
+    assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(profileOf("waiting").futureWaitTime())
+                    .isGreaterThanOrEqualTo(Duration.ofMillis(20)));
+  }
+
+  @Test
+  void shouldRemoveProfileOfClosedActor() {
+    // given
+    scheduler = newProfiledScheduler(Duration.ofMinutes(1));
+    final var actor = new TestActor("closed");
+    scheduler.submitActor(actor).join();
+
+    // when
+    actor.closeAsync().join();
+
+    // then
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(scheduler.getActorProfiler().snapshot())
+                    .extracting(ActorProfileSnapshot::actorName)
+                    .doesNotContain("closed"));
+  }
+
+  private ActorScheduler newProfiledScheduler(final Duration longExecutionThreshold) {
+    final var profiledScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setMetricsEnabled(true)
+            .setLongExecutionThreshold(longExecutionThreshold)
+            .build();
+    profiledScheduler.start();
+    return profiledScheduler;
+  }
+
+  private ActorProfileSnapshot profileOf(final String actorName) {
+    return scheduler.getActorProfiler().snapshot().stream()
+        .filter(profile -> profile.actorName().equals(actorName))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static Void busyWait(final long millis) {
+    final var deadline = System.nanoTime() + Duration.ofMillis(millis).toNanos();
+    while (System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    return null;
+  }
+
+  private static final class TestActor extends Actor {
+    private final String name;
+
+    private TestActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,16 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Sets the checksums of the files which the receiver already has, e.g. as part of its latest
+   * snapshot. Files which were not read yet and which the receiver has with the same checksum are
+   * not read anymore; instead, a single chunk without content is returned for them, such that the
+   * receiver can take the file from its own copy.
+   *
+   * <p>Implementations which cannot determine whether files are unchanged may ignore this.
+   *
+   * @param receiverFileChecksums the checksums of the receiver's files, by file name
+   */
+  default void skipFilesAvailableAtReceiver(final Map<String, Long> receiverFileChecksums) {}
 }
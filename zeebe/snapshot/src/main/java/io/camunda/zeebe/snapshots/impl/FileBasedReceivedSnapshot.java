@@ -18,6 +18,8 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
@@ -97,12 +99,20 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
-    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
-
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
+
+    if (SnapshotChunkUtil.isReusedFileChunk(snapshotChunk)) {
+      LOGGER.trace("Reuse snapshot file {} for snapshot {}", chunkName, snapshotId);
+      reuseFileOfLatestSnapshot(snapshotChunk, snapshotFile);
+      checksumCollection.updateFromChecksum(snapshotFile, snapshotChunk.getChecksum());
+      return;
+    }
+
+    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+
     checksumCollection.updateFromBytes(
         snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
@@ -128,9 +138,55 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Links the file of the given chunk from the latest persisted snapshot into this snapshot, since
+   * the sender only sends such chunks for files which the receiver has with the same checksum. As
+   * snapshot files are never modified, the link can be shared safely; if the file system does not
+   * support links, the file is copied instead.
+   */
+  private void reuseFileOfLatestSnapshot(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse file %s of the latest snapshot, but there is none", chunkName));
+    }
+
+    final var latestChecksum = latestSnapshot.get().getChecksums().getChecksums().get(chunkName);
+    if (latestChecksum == null || latestChecksum != snapshotChunk.getChecksum()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse file %s with checksum %d of snapshot %s, but it has checksum %s",
+              chunkName,
+              snapshotChunk.getChecksum(),
+              latestSnapshot.get().getId(),
+              latestChecksum));
+    }
+
+    final var existingFile = latestSnapshot.get().getPath().resolve(chunkName);
+    try {
+      try {
+        Files.createLink(snapshotFile, existingFile);
+      } catch (final UnsupportedOperationException | FileSystemException e) {
+        LOGGER.debug("Failed to link {}, copying it instead", existingFile, e);
+        Files.copy(existingFile, snapshotFile);
+      }
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse snapshot file %s", existingFile), e);
+    }
+  }
+
   private void checkChunkChecksumIsValid(
       final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
       throws SnapshotWriteException {
+    if (SnapshotChunkUtil.isReusedFileChunk(snapshotChunk)) {
+      // the checksum of the whole file is verified against the reused file instead
+      return;
+    }
+
     final long expectedChecksum = snapshotChunk.getChecksum();
     final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
 
@@ -9,19 +9,30 @@ package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>A file which is split into multiple chunks is kept open until its last chunk was read, such
+ * that reading consecutive chunks does not reopen the file every time.
+ *
+ * <p>If the checksums of the snapshot files are known, files which the receiver already has with
+ * the same checksum are not read at all, see {@link #skipFilesAvailableAtReceiver(Map)}.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
@@ -32,6 +43,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final String snapshotID;
   private long maximumChunkSize;
+  private final Map<String, Long> fileChecksums;
+  private final Set<String> filesAvailableAtReceiver = new HashSet<>();
+
+  private FileChannel currentFile;
+  private String currentFileName;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
     this(directory, Long.MAX_VALUE);
@@ -39,6 +55,17 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, maximumChunkSize, Map.of());
+  }
+
+  FileBasedSnapshotChunkReader(final Path directory, final Map<String, Long> fileChecksums)
+      throws IOException {
+    this(directory, Long.MAX_VALUE, fileChecksums);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long maximumChunkSize, final Map<String, Long> fileChecksums)
+      throws IOException {
     this.directory = directory;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
@@ -47,6 +74,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     snapshotID = directory.getFileName().toString();
 
     this.maximumChunkSize = maximumChunkSize;
+    this.fileChecksums = fileChecksums;
   }
 
   private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
@@ -60,6 +88,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public void reset() {
     chunksView = new TreeSet<>(chunks);
+    offset = 0;
   }
 
   @Override
@@ -69,10 +98,16 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     }
 
     final var chunkId = new SnapshotChunkId(id);
+    final var fileName = chunkId.fileName();
 
     offset = chunkId.offset();
 
-    chunksView = new TreeSet<>(chunks.tailSet(chunkId.fileName(), true));
+    // seeking to the next chunk is the common case, which does not need to copy the chunks
+    if (!chunksView.isEmpty() && CharSequence.compare(chunksView.first(), fileName) == 0) {
+      return;
+    }
+
+    chunksView = new TreeSet<>(chunks.tailSet(fileName, true));
   }
 
   @Override
@@ -89,8 +124,23 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void skipFilesAvailableAtReceiver(final Map<String, Long> receiverFileChecksums) {
+    filesAvailableAtReceiver.clear();
+    fileChecksums.forEach(
+        (fileName, checksum) -> {
+          // the metadata differs between snapshots and is decoded by the receiver, so always send
+          // it
+          if (!FileBasedSnapshotStoreImpl.METADATA_FILE_NAME.equals(fileName)
+              && checksum.equals(receiverFileChecksums.get(fileName))) {
+            filesAvailableAtReceiver.add(fileName);
+          }
+        });
+  }
+
   @Override
   public void close() {
+    closeCurrentFile();
     chunks.clear();
     chunksView.clear();
   }
@@ -103,26 +153,77 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
-    final var filePath = directory.resolve(fileName).toString();
 
-    try (final var file = new RandomAccessFile(filePath, "r")) {
-      final var fileLength = file.length();
+    try {
+      if (offset == 0 && filesAvailableAtReceiver.contains(fileName)) {
+        final var fileLength = Files.size(directory.resolve(fileName));
+        if (fileLength > 0) {
+          chunksView.pollFirst();
+          return SnapshotChunkUtil.createReusedFileChunk(
+              snapshotID, totalCount, fileName, fileChecksums.get(fileName), fileLength);
+        }
+      }
+
+      final var file = openFile(fileName);
+      final var fileLength = file.size();
       final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
       final byte[] buffer = new byte[(int) bytesToRead];
-      file.seek(offset);
-      file.readFully(buffer);
+      readFully(file, ByteBuffer.wrap(buffer), offset);
 
       final var fileBlockPosition = offset;
       offset += bytesToRead;
       if (offset == fileLength) {
         offset = 0;
         chunksView.pollFirst();
+        closeCurrentFile();
       }
 
       return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
           snapshotID, totalCount, fileName, buffer, fileBlockPosition, fileLength);
     } catch (final IOException e) {
+      closeCurrentFile();
       throw new UncheckedIOException(e);
     }
   }
+
+  private FileChannel openFile(final String fileName) throws IOException {
+    if (currentFile != null && fileName.equals(currentFileName)) {
+      return currentFile;
+    }
+
+    closeCurrentFile();
+    // closing the channel closes the file as well
+    currentFile = new RandomAccessFile(directory.resolve(fileName).toFile(), "r").getChannel();
+    currentFileName = fileName;
+    return currentFile;
+  }
+
+  private void readFully(final FileChannel file, final ByteBuffer buffer, final long position)
+      throws IOException {
+    long readPosition = position;
+    while (buffer.hasRemaining()) {
+      final int read = file.read(buffer, readPosition);
+      if (read < 0) {
+        throw new EOFException(
+            "Expected to read %d more bytes of %s at position %d, but reached the end of the file"
+                .formatted(buffer.remaining(), currentFileName, readPosition));
+      }
+      readPosition += read;
+    }
+  }
+
+  private void closeCurrentFile() {
+    if (currentFile == null) {
+      return;
+    }
+
+    try {
+      currentFile.close();
+    } catch (final IOException e) {
+      // the file is only read, so there is nothing to lose when closing fails
+    } finally {
+      currentFile = null;
+      currentFileName = null;
+    }
+  }
 }
@@ -25,6 +25,28 @@ final class SnapshotChunkUtil {
     return new CRC32C();
   }
 
+  /**
+   * Creates a chunk which replaces the whole content of a file the receiver already has. It carries
+   * no content, and the checksum of the whole file instead of the content's checksum.
+   */
+  static SnapshotChunk createReusedFileChunk(
+      final String snapshotId,
+      final int totalCount,
+      final String fileName,
+      final long fileChecksum,
+      final long totalFileSize) {
+    return new SnapshotChunkImpl(
+        snapshotId, totalCount, fileName, fileChecksum, new byte[0], 0, totalFileSize);
+  }
+
+  /**
+   * @return true if the chunk was created via {@link #createReusedFileChunk(String, int, String,
+   *     long, long)}; a regular chunk of a non-empty file always has content
+   */
+  static boolean isReusedFileChunk(final SnapshotChunk chunk) {
+    return chunk.getTotalFileSize() > 0 && chunk.getContent().length == 0;
+  }
+
   static SnapshotChunk createSnapshotChunkFromFileChunk(
       final String snapshotId,
       final int totalCount,
@@ -26,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -348,6 +349,60 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var firstSnapshot = takePersistedSnapshot(1L);
+    final var latestSnapshot = receiveSnapshot(firstSnapshot).persist().join();
+    final var secondSnapshot = takePersistedSnapshot(2L);
+
+    // when
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+    final var reusedChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.skipFilesAvailableAtReceiver(
+          latestSnapshot.getChecksums().getChecksums());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        if (SnapshotChunkUtil.isReusedFileChunk(chunk)) {
+          reusedChunks.add(chunk);
+        }
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(reusedChunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactlyInAnyOrderElementsOf(SNAPSHOT_FILE_CONTENTS.keySet());
+    assertThat(persistedSnapshot.getChecksums().sameChecksums(secondSnapshot.getChecksums()))
+        .isTrue();
+    for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(persistedSnapshot.getPath().resolve(entry.getKey())).hasContent(entry.getValue());
+    }
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var secondSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+
+    // when
+    final var reusedChunk =
+        SnapshotChunkUtil.createReusedFileChunk(
+            secondSnapshot.getId(), SNAPSHOT_FILE_CONTENTS.size() + 1, "file1", 0xCAFEL, 14);
+
+    // then
+    assertThatCode(() -> receivedSnapshot.apply(reusedChunk).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class)
+        .hasMessageContaining("Expected to reuse file file1 with checksum " + 0xCAFEL);
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
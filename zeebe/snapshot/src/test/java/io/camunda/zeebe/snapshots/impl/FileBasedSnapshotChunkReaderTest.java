@@ -332,6 +332,85 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldRereadChunkAfterSeekingBackWithinFile() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(3);
+    snapshotChunkReader.seek(ByteBuffer.wrap("file3__0".getBytes(StandardCharsets.UTF_8)));
+    snapshotChunkReader.next();
+    final var secondChunkId = snapshotChunkReader.nextId();
+    final var secondChunk = snapshotChunkReader.next();
+
+    // when
+    snapshotChunkReader.seek(secondChunkId);
+    final var rereadChunk = snapshotChunkReader.next();
+
+    // then
+    assertThat(rereadChunk.getFileBlockPosition()).isEqualTo(3);
+    assertThat(rereadChunk.getContent()).isEqualTo(secondChunk.getContent());
+    assertThat(snapshotChunkReader.nextId())
+        .isEqualTo(ByteBuffer.wrap("file3__6".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void shouldResetToStartOfFirstFileAfterPartialRead() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(2);
+    snapshotChunkReader.next();
+    snapshotChunkReader.next();
+
+    // when
+    snapshotChunkReader.reset();
+
+    // then
+    assertThat(snapshotChunkReader.nextId())
+        .isEqualTo(ByteBuffer.wrap("file1__0".getBytes(StandardCharsets.UTF_8)));
+    assertThat(snapshotChunkReader.next().getFileBlockPosition()).isZero();
+  }
+
+  @Test
+  public void shouldSkipFilesAvailableAtReceiver() throws IOException {
+    // given
+    newReader();
+    final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(
+            snapshotDirectory, Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+
+    // when
+    snapshotChunkReader.skipFilesAvailableAtReceiver(Map.of("file2", 2L, "file3", 4L));
+    final var chunks = getAllChunks(snapshotChunkReader);
+
+    // then
+    assertThat(chunks).hasSize(3);
+    assertThat(chunks.get(0).getContent()).isEqualTo("this".getBytes(StandardCharsets.UTF_8));
+    assertThat(chunks.get(1).getContent()).isEmpty();
+    assertThat(chunks.get(1).getChecksum()).isEqualTo(2L);
+    assertThat(chunks.get(1).getTotalFileSize()).isEqualTo("is".length());
+    assertThat(SnapshotChunkUtil.isReusedFileChunk(chunks.get(1))).isTrue();
+    assertThat(chunks.get(2).getContent()).isEqualTo("content".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void shouldNotSkipMetadataFile() throws IOException {
+    // given
+    newReader();
+    final var metadataFile =
+        snapshotDirectory.resolve(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
+    Files.writeString(metadataFile, "metadata");
+    final var checksums = Map.of(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME, 1L);
+    final var snapshotChunkReader = new FileBasedSnapshotChunkReader(snapshotDirectory, checksums);
+
+    // when
+    snapshotChunkReader.skipFilesAvailableAtReceiver(checksums);
+    final var chunks = getAllChunks(snapshotChunkReader);
+
+    // then
+    assertThat(chunks)
+        .filteredOn(SnapshotChunkUtil::isReusedFileChunk)
+        .as("the metadata file is always sent")
+        .isEmpty();
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
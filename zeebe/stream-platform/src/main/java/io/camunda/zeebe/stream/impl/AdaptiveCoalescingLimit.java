@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import java.time.Duration;
+
+/**
+ * Limits how many commands, which directly follow each other on the log, the {@link
+ * ProcessingStateMachine} processes in one transaction and writes in one batch.
+ *
+ * <p>The limit adapts to the observed latency of such coalesced batches: it starts at the maximum,
+ * is halved whenever a batch of several commands took longer than the target latency, and grows by
+ * one whenever a batch reached the limit within the target latency. Since only commands which are
+ * already on the log are coalesced, a low request rate does not add any latency.
+ */
+final class AdaptiveCoalescingLimit {
+
+  private final int maxLimit;
+  private final long targetLatencyNanos;
+  private int limit;
+
+  AdaptiveCoalescingLimit(final int maxLimit, final Duration targetLatency) {
+    this.maxLimit = maxLimit;
+    targetLatencyNanos = targetLatency.toNanos();
+    limit = maxLimit;
+  }
+
+  /**
+   * @return true if more than one command may be processed in one transaction
+   */
+  boolean isEnabled() {
+    return maxLimit > 1;
+  }
+
+  /**
+   * @return the current maximum number of commands to process in one transaction
+   */
+  int get() {
+    return limit;
+  }
+
+  /**
+   * Adapts the limit to the latency of a completed batch.
+   *
+   * @param commands the number of commands which were processed in the batch
+   * @param latencyNanos the time it took to process, write and commit the batch
+   */
+  void onBatchCompleted(final int commands, final long latencyNanos) {
+    if (latencyNanos > targetLatencyNanos) {
+      if (commands > 1) {
+        limit = Math.max(1, commands / 2);
+      }
+    } else if (commands >= limit) {
+      limit = Math.min(maxLimit, limit + 1);
+    }
+  }
+}
@@ -10,12 +10,14 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.impl.record.value.error.ErrorRecord;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
@@ -35,6 +37,7 @@ import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.StreamClock.ControllableStreamClock;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
+import io.camunda.zeebe.stream.api.records.RecordBatchSizePredicate;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
@@ -43,6 +46,7 @@ import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import io.camunda.zeebe.util.ReflectUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.exception.RecoverableException;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
@@ -52,9 +56,13 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BooleanSupplier;
+import org.agrona.ExpandableArrayBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -95,11 +103,20 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If enabled via {@link StreamProcessorContext#getMaxCoalescedCommands()}, commands which
+ * directly follow the current command on the log are processed in the same transaction, and their
+ * results are written in one batch, such that committing and appending is done once for all of
+ * them. Their number is limited by an {@link AdaptiveCoalescingLimit}. If processing, writing or
+ * committing fails for such a coalesced batch, it is rolled back and processed again with fewer
+ * commands, so the usual error handling only ever applies to a single command.
  */
 public final class ProcessingStateMachine {
 
   public static final String WARN_MESSAGE_BATCH_PROCESSING_RETRY =
       "Expected to process commands in a batch, but exceeded the resulting batch size after processing {} commands (maxCommandsInBatch: {}).";
+  private static final String WARN_MESSAGE_COALESCED_PROCESSING_RETRY =
+      "Expected to process {} commands in one transaction, but failed to process command '{} {}'. Retry with the commands before it only.";
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
   private static final String ERROR_MESSAGE_WRITE_RECORD_ABORTED =
       "Expected to write one or more follow-up records for record '{} {}' without errors, but exception was thrown.";
@@ -118,6 +135,7 @@ public final class ProcessingStateMachine {
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
+  private static final int NO_COALESCING_LIMIT_OVERRIDE = -1;
   private static final String ERROR_MESSAGE_HANDLING_PROCESSING_ERROR_FAILED =
       "Expected to process command '{} {}' successfully on stream processor, but caught unexpected exception. Failed to handle the exception gracefully.";
   private final EventFilter processingFilter;
@@ -165,6 +183,17 @@ public final class ProcessingStateMachine {
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
   private final ControllableStreamClock clock;
+  private final AdaptiveCoalescingLimit coalescingLimit;
+  // the commands which have been processed in the current transaction before the current command
+  private final List<CoalescedCommand> coalescedCommands = new ArrayList<>();
+  // the holders of the coalesced commands, which are reused by the following transactions
+  private final List<CoalescedCommand> coalescedCommandPool = new ArrayList<>();
+  private final List<LogAppendEntry> coalescedWrites = new ArrayList<>();
+  private final Set<ProcessingResponse> coalescedResponses =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+  private int coalescedWritesLength;
+  private int coalescingLimitOverride = NO_COALESCING_LIMIT_OVERRIDE;
+  private long coalescingStartNanos;
 
   public ProcessingStateMachine(
       final StreamProcessorContext context,
@@ -182,6 +211,9 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    coalescingLimit =
+        new AdaptiveCoalescingLimit(
+            context.getMaxCoalescedCommands(), context.getCoalescingTargetLatency());
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -196,6 +228,7 @@ public final class ProcessingStateMachine {
     streamProcessorListener = context.getStreamProcessorListener();
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
+    processingMetrics.setCoalescingLimit(coalescingLimit.get());
 
     processingFilter =
         new MetadataEventFilter(
@@ -214,6 +247,7 @@ public final class ProcessingStateMachine {
 
   void markProcessingCompleted() {
     inProcessing = false;
+    coalescingLimitOverride = NO_COALESCING_LIMIT_OVERRIDE;
     if (onErrorRetries > 0) {
       onErrorRetries = 0;
       updateErrorHandlingPhase(ErrorHandlingPhase.NO_ERROR);
@@ -265,29 +299,37 @@ public final class ProcessingStateMachine {
     inProcessing = true;
 
     currentProcessingResult = EmptyProcessingResult.INSTANCE;
+    resetCoalescedCommands();
+    coalescingStartNanos = System.nanoTime();
 
     metadata.reset();
     loggedEvent.readMetadata(metadata);
 
     try {
-      // Here we need to get the current time, since we want to calculate
-      // how long it took between writing to the dispatcher and processing.
-      // In all other cases we should prefer to use the Prometheus Timer API.
-      metrics.processingLatency(loggedEvent.getTimestamp(), clock.millis());
-      processingTimer =
-          metrics.startProcessingDurationTimer(metadata.getValueType(), metadata.getIntent());
-
-      final var value = recordValues.readRecordValue(loggedEvent, metadata.getValueType());
-      typedCommand.wrap(loggedEvent, metadata, value);
+      wrapCommand(loggedEvent);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
-        zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
+        zeebeDbTransaction.run(
+            () -> {
+              batchProcessing(typedCommand, logStreamWriter::canWriteEvents);
+              coalesceFollowingCommands();
+            });
         processingMetrics.observeCommandCount(processedCommandsCount);
       }
 
       finalizeCommandProcessing();
       writeRecords();
+    } catch (final CoalescedCommandFailedException coalescedCommandFailedException) {
+      LOG.warn(
+          WARN_MESSAGE_COALESCED_PROCESSING_RETRY,
+          coalescedCommandFailedException.processedCommands + 1,
+          currentRecord,
+          metadata,
+          coalescedCommandFailedException.getCause());
+      retryWithFewerCoalescedCommands(
+          coalescedCommandFailedException.getCause(),
+          coalescedCommandFailedException.processedCommands);
     } catch (final RecoverableException recoverableException) {
       // recoverable
       LOG.error(
@@ -326,6 +368,125 @@ public final class ProcessingStateMachine {
     }
   }
 
+  /**
+   * Wraps the given command, which must be the current record of the reader, as the current typed
+   * command. Expects that its metadata has already been read.
+   */
+  private void wrapCommand(final LoggedEvent loggedEvent) {
+    // Here we need to get the current time, since we want to calculate
+    // how long it took between writing to the dispatcher and processing.
+    // In all other cases we should prefer to use the Prometheus Timer API.
+    metrics.processingLatency(loggedEvent.getTimestamp(), clock.millis());
+    processingTimer =
+        metrics.startProcessingDurationTimer(metadata.getValueType(), metadata.getIntent());
+
+    final var value = recordValues.readRecordValueLazily(loggedEvent, metadata.getValueType());
+    typedCommand.wrap(loggedEvent, metadata, value);
+  }
+
+  /**
+   * Processes the commands which directly follow the current command on the log in the same
+   * transaction, up to the current coalescing limit, such that their results are committed and
+   * written together. Stops at the first record which should not be processed, without consuming
+   * it.
+   *
+   * <p>If the processing of a following command fails, a {@link CoalescedCommandFailedException} is
+   * thrown, as the transaction has to be rolled back and only the commands before it should be
+   * processed together.
+   */
+  private void coalesceFollowingCommands() {
+    final int limit =
+        coalescingLimitOverride != NO_COALESCING_LIMIT_OVERRIDE
+            ? coalescingLimitOverride
+            : coalescingLimit.get();
+
+    while (coalescedCommands.size() + 1 < limit
+        && errorHandlingPhase == ErrorHandlingPhase.NO_ERROR
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext()
+        && processingFilter.applies(logStreamReader.peekNext())) {
+      processingMetrics.observeCommandCount(processedCommandsCount);
+      coalesceCurrentCommand();
+
+      currentRecord = logStreamReader.next();
+      currentProcessingResult = EmptyProcessingResult.INSTANCE;
+      processedCommandsCount = 0;
+      metadata.reset();
+      currentRecord.readMetadata(metadata);
+      try {
+        wrapCommand(currentRecord);
+        // the results of all commands are written in one batch, so they have to fit together
+        final RecordBatchSizePredicate remainingBatchSize =
+            (count, size) ->
+                logStreamWriter.canWriteEvents(
+                    count + coalescedWrites.size(), size + coalescedWritesLength);
+        batchProcessing(typedCommand, remainingBatchSize);
+      } catch (final Exception e) {
+        throw new CoalescedCommandFailedException(coalescedCommands.size(), e);
+      }
+    }
+
+    if (!coalescedCommands.isEmpty()) {
+      // the results of the current command point to the source position of the whole batch
+      coalescedWrites.addAll(pendingWrites);
+      coalescedResponses.addAll(pendingResponses);
+      pendingWrites = coalescedWrites;
+      pendingResponses = coalescedResponses;
+    }
+  }
+
+  /**
+   * Keeps a copy of the current command and its results, such that the reader can move on to the
+   * next command. As the results are written together with the results of the following commands,
+   * they are pointed explicitly to the current command as their source.
+   */
+  private void coalesceCurrentCommand() {
+    final int slot = coalescedCommands.size();
+    if (slot == coalescedCommandPool.size()) {
+      coalescedCommandPool.add(new CoalescedCommand(context.getPartitionId()));
+    }
+
+    final var coalescedCommand = coalescedCommandPool.get(slot);
+    coalescedCommand.wrap(currentRecord, currentProcessingResult, processingTimer);
+    coalescedCommands.add(coalescedCommand);
+
+    final long sourcePosition = coalescedCommand.command().getPosition();
+    for (final var entry : pendingWrites) {
+      coalescedWrites.add(LogAppendEntry.withSourcePosition(entry, sourcePosition));
+      coalescedWritesLength += entry.getLength();
+    }
+    coalescedResponses.addAll(pendingResponses);
+  }
+
+  private void resetCoalescedCommands() {
+    for (final var coalescedCommand : coalescedCommands) {
+      coalescedCommand.reset();
+    }
+    coalescedCommands.clear();
+    coalescedWrites.clear();
+    coalescedResponses.clear();
+    coalescedWritesLength = 0;
+  }
+
+  /**
+   * Rolls back the current transaction and processes the commands again from the first command of
+   * the transaction, but coalesces at most the given number of commands.
+   */
+  private void retryWithFewerCoalescedCommands(
+      final Throwable error, final int commandsInTransaction) {
+    final var firstCommandPosition = coalescedCommands.getFirst().command().getPosition();
+    onError(
+        error,
+        () -> {
+          resetCoalescedCommands();
+          processedCommandsCount = 0;
+          coalescingLimitOverride = commandsInTransaction;
+          logStreamReader.seek(firstCommandPosition);
+          currentRecord = logStreamReader.next();
+          processCommand(currentRecord);
+        });
+  }
+
   /**
    * Finalize the command processing, which includes certain clean-up tasks, like mark the command
    * as processed and reset transient processing state, etc.
@@ -342,12 +503,13 @@ public final class ProcessingStateMachine {
    * and applies all follow-up commands until the command limit is reached or no more follow-up
    * commands are created.
    */
-  private void batchProcessing(final TypedRecord<?> initialCommand) {
+  private void batchProcessing(
+      final TypedRecord<?> initialCommand, final RecordBatchSizePredicate batchSizePredicate) {
     // propagate the operation reference from the initial command to the processingResultBuilder to
     // be appended to the followup events
     final var processingResultBuilder =
         new BufferedProcessingResultBuilder(
-            logStreamWriter::canWriteEvents, initialCommand.getOperationReference());
+            batchSizePredicate, initialCommand.getOperationReference());
     var lastProcessingResultSize = 0;
 
     // It might be that we reached the batch size limit during processing a command.
@@ -588,11 +750,21 @@ public final class ProcessingStateMachine {
   private ActorFuture<Boolean> writeWithRetryAsync() {
     final var sourceRecordPosition = typedCommand.getPosition();
 
-    final ActorFuture<Boolean> writeFuture;
+    for (final var coalescedCommand : coalescedCommands) {
+      if (coalescedCommand.processingResult().isEmpty()) {
+        notifySkippedListener(coalescedCommand.event());
+        metrics.eventSkipped();
+      }
+    }
+
     if (currentProcessingResult.isEmpty()) {
       // we skipped the processing entirely; we have no results
       notifySkippedListener(currentRecord);
       metrics.eventSkipped();
+    }
+
+    final ActorFuture<Boolean> writeFuture;
+    if (currentProcessingResult.isEmpty() && coalescedCommands.isEmpty()) {
       writeFuture = CompletableActorFuture.completed(true);
     } else if (pendingWrites.isEmpty()) {
       // we might have nothing to write but likely something to send as response
@@ -624,6 +796,10 @@ public final class ProcessingStateMachine {
         (bool, t) -> {
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_RECORD_ABORTED, currentRecord, metadata, t);
+            if (!coalescedCommands.isEmpty()) {
+              retryWithFewerCoalescedCommands(t, 1);
+              return;
+            }
             onError(
                 t,
                 () -> {
@@ -658,6 +834,10 @@ public final class ProcessingStateMachine {
         (bool, throwable) -> {
           if (throwable != null) {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentRecord, metadata, throwable);
+            if (!coalescedCommands.isEmpty()) {
+              retryWithFewerCoalescedCommands(throwable, 1);
+              return;
+            }
             onError(
                 throwable,
                 () -> {
@@ -665,6 +845,10 @@ public final class ProcessingStateMachine {
                   updateState();
                 });
           } else {
+            for (final var coalescedCommand : coalescedCommands) {
+              final var command = coalescedCommand.command();
+              scheduledCommandCache.remove(command.getIntent(), command.getKey());
+            }
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
             executeSideEffects();
           }
@@ -706,10 +890,20 @@ public final class ProcessingStateMachine {
                 ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
           }
 
+          for (final var coalescedCommand : coalescedCommands) {
+            notifyProcessedListener(coalescedCommand.command());
+            coalescedCommand.processingTimer().close();
+          }
           notifyProcessedListener(typedCommand);
 
           // observe the processing duration
           processingTimer.close();
+          if (coalescingLimit.isEnabled()) {
+            final var commands = coalescedCommands.size() + 1;
+            coalescingLimit.onBatchCompleted(commands, System.nanoTime() - coalescingStartNanos);
+            processingMetrics.observeCoalescedCommands(commands);
+            processingMetrics.setCoalescingLimit(coalescingLimit.get());
+          }
 
           // continue with next record
           markProcessingCompleted();
@@ -719,7 +913,11 @@ public final class ProcessingStateMachine {
 
   private boolean executePostCommitTasks() {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      boolean executed = true;
+      for (final var coalescedCommand : coalescedCommands) {
+        executed &= coalescedCommand.processingResult().executePostCommitTasks();
+      }
+      return currentProcessingResult.executePostCommitTasks() && executed;
     }
   }
 
@@ -777,6 +975,77 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  /**
+   * Holds a copy of a command which was processed in the current transaction, together with its
+   * processing result. The holders are reused by the following transactions, such that coalescing
+   * doesn't allocate new buffers and records for every command.
+   */
+  private static final class CoalescedCommand {
+    private final ExpandableArrayBuffer eventBuffer = new ExpandableArrayBuffer();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final Map<ValueType, UnifiedRecordValue> values = new EnumMap<>(ValueType.class);
+    private final TypedRecordImpl command;
+    private ProcessingResult processingResult;
+    private Histogram.Timer processingTimer;
+
+    private CoalescedCommand(final int partitionId) {
+      command = new TypedRecordImpl(partitionId);
+    }
+
+    private void wrap(
+        final LoggedEvent record,
+        final ProcessingResult processingResult,
+        final Histogram.Timer processingTimer) {
+      record.write(eventBuffer, 0);
+      event.wrap(eventBuffer, 0);
+
+      metadata.reset();
+      event.readMetadata(metadata);
+      final var value =
+          values.computeIfAbsent(
+              metadata.getValueType(),
+              valueType ->
+                  ReflectUtil.newInstance(TypedEventRegistry.EVENT_REGISTRY.get(valueType)));
+      value.reset();
+      event.readValue(value);
+      command.wrap(event, metadata, value);
+
+      this.processingResult = processingResult;
+      this.processingTimer = processingTimer;
+    }
+
+    private void reset() {
+      processingResult = null;
+      processingTimer = null;
+    }
+
+    private LoggedEvent event() {
+      return event;
+    }
+
+    private TypedRecord<?> command() {
+      return command;
+    }
+
+    private ProcessingResult processingResult() {
+      return processingResult;
+    }
+
+    private Histogram.Timer processingTimer() {
+      return processingTimer;
+    }
+  }
+
+  private static final class CoalescedCommandFailedException extends RuntimeException {
+    private final int processedCommands;
+
+    private CoalescedCommandFailedException(final int processedCommands, final Throwable cause) {
+      super(cause);
+      this.processedCommands = processedCommands;
+    }
+  }
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
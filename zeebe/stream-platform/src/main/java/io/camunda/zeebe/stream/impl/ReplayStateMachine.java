@@ -68,6 +68,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final RetryStrategy replayStrategy;
 
   private final BooleanSupplier abortCondition;
+  private final int maxEventsInReplayTransaction;
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
@@ -76,6 +77,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
 
+  // the current transaction, which may span multiple batches
+  private long transactionStartReadRecordPosition = StreamProcessor.UNSET_POSITION;
+  private int batchesInTransaction;
+  private int eventsInTransaction;
+
   private ActorFuture<LastProcessingPositions> recoveryFuture;
   private ZeebeDbTransaction zeebeDbTransaction;
   private final StreamProcessorMode streamProcessorMode;
@@ -98,6 +104,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     recordValues = context.getRecordValues();
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
+    maxEventsInReplayTransaction = context.getMaxEventsInReplayTransaction();
     keyGeneratorControls = context.getKeyGeneratorControls();
     lastProcessedPositionState = context.getLastProcessedPositionState();
 
@@ -196,18 +203,42 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
+  /**
+   * Replays the given batch and, as long as fewer than {@link #maxEventsInReplayTransaction} events
+   * were read, the following batches within a single transaction. Replaying several small batches
+   * at once saves committing a transaction and scheduling a new actor job for each of them.
+   */
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      lastReadRecordPosition = transactionStartReadRecordPosition;
+      if (batchesInTransaction > 1) {
+        // the batch was overwritten by the following batches, so it is read from the log again
+        logStreamBatchReader.seekToNextBatch(
+            lastReadRecordPosition != StreamProcessor.UNSET_POSITION
+                ? lastReadRecordPosition
+                : snapshotPosition);
+        logStreamBatchReader.next();
+      } else {
+        // reading the whole batch from the beginning again
+        batch.head();
+      }
+    } else {
+      transactionStartReadRecordPosition = lastReadRecordPosition;
     }
 
+    batchesInTransaction = 1;
+    eventsInTransaction = 0;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
           batch.forEachRemaining(this::replayEvent);
+          while (eventsInTransaction < maxEventsInReplayTransaction
+              && logStreamBatchReader.hasNext()) {
+            logStreamBatchReader.next().forEachRemaining(this::replayEvent);
+            batchesInTransaction++;
+          }
 
           if (batchSourceEventPosition > snapshotPosition) {
             lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
@@ -216,6 +247,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
     zeebeDbTransaction.commit();
     zeebeDbTransaction = null;
+    replayMetrics.observeEventsInTransaction(eventsInTransaction);
 
     return true;
   }
@@ -270,6 +302,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
    */
   private void onRecordReplayed(final LoggedEvent currentEvent) {
     replayMetrics.event();
+    eventsInTransaction++;
     final var sourceEventPosition = currentEvent.getSourceEventPosition();
     final var currentPosition = currentEvent.getPosition();
     final var currentRecordKey = currentEvent.getKey();
@@ -309,7 +342,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private TypedRecord<?> readRecordValue(final LoggedEvent currentEvent) {
     final UnifiedRecordValue value =
-        recordValues.readRecordValue(currentEvent, metadata.getValueType());
+        recordValues.readRecordValueLazily(currentEvent, metadata.getValueType());
     typedEvent.wrap(currentEvent, metadata, value);
     return typedEvent;
   }
@@ -147,6 +147,24 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxEventsInReplayTransaction() < 1) {
+      throw new IllegalArgumentException(
+          "Replay transaction limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxEventsInReplayTransaction()));
+    }
+    if (streamProcessorContext.getMaxCoalescedCommands() < 1) {
+      throw new IllegalArgumentException(
+          "Command coalescing limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCoalescedCommands()));
+    }
+    Objects.requireNonNull(
+        streamProcessorContext.getCoalescingTargetLatency(),
+        "No coalescing target latency provided");
+    if (!streamProcessorContext.getCoalescingTargetLatency().isPositive()) {
+      throw new IllegalArgumentException(
+          "Command coalescing target latency must be positive but was %s"
+              .formatted(streamProcessorContext.getCoalescingTargetLatency()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +172,22 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxEventsInReplayTransaction(
+      final int maxEventsInReplayTransaction) {
+    streamProcessorContext.maxEventsInReplayTransaction(maxEventsInReplayTransaction);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxCoalescedCommands(final int maxCoalescedCommands) {
+    streamProcessorContext.maxCoalescedCommands(maxCoalescedCommands);
+    return this;
+  }
+
+  public StreamProcessorBuilder coalescingTargetLatency(final Duration coalescingTargetLatency) {
+    streamProcessorContext.coalescingTargetLatency(coalescingTargetLatency);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
@@ -30,6 +30,9 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_EVENTS_IN_REPLAY_TRANSACTION = 1;
+  public static final int DEFAULT_MAX_COALESCED_COMMANDS = 1;
+  public static final Duration DEFAULT_COALESCING_TARGET_LATENCY = Duration.ofMillis(10);
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -52,6 +55,9 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxEventsInReplayTransaction = DEFAULT_MAX_EVENTS_IN_REPLAY_TRANSACTION;
+  private int maxCoalescedCommands = DEFAULT_MAX_COALESCED_COMMANDS;
+  private Duration coalescingTargetLatency = DEFAULT_COALESCING_TARGET_LATENCY;
   private boolean enableAsyncScheduledTasks = true;
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
@@ -223,6 +229,34 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext maxEventsInReplayTransaction(
+      final int maxEventsInReplayTransaction) {
+    this.maxEventsInReplayTransaction = maxEventsInReplayTransaction;
+    return this;
+  }
+
+  public int getMaxEventsInReplayTransaction() {
+    return maxEventsInReplayTransaction;
+  }
+
+  public StreamProcessorContext maxCoalescedCommands(final int maxCoalescedCommands) {
+    this.maxCoalescedCommands = maxCoalescedCommands;
+    return this;
+  }
+
+  public int getMaxCoalescedCommands() {
+    return maxCoalescedCommands;
+  }
+
+  public StreamProcessorContext coalescingTargetLatency(final Duration coalescingTargetLatency) {
+    this.coalescingTargetLatency = coalescingTargetLatency;
+    return this;
+  }
+
+  public Duration getCoalescingTargetLatency() {
+    return coalescingTargetLatency;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl.metrics;
 import io.camunda.zeebe.stream.impl.ProcessingStateMachine.ErrorHandlingPhase;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Enumeration;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
 import io.prometheus.client.Histogram.Timer;
@@ -54,6 +55,25 @@ public class ProcessingMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Histogram COALESCED_COMMANDS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_coalesced_commands")
+          .help(
+              "Records the distribution of commands read from the log which were processed in one transaction")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Gauge COALESCING_LIMIT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_coalescing_limit")
+          .help(
+              "The current limit of commands read from the log which are processed in one transaction")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private static final Enumeration ERROR_HANDLING_PHASE =
       Enumeration.build()
           .namespace(NAMESPACE)
@@ -67,6 +87,8 @@ public class ProcessingMetrics {
   private final Child batchProcessingCommands;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
+  private final Child coalescedCommands;
+  private final Gauge.Child coalescingLimit;
   private final Enumeration.Child errorHandlingPhase;
 
   public ProcessingMetrics(final String partitionIdLabel) {
@@ -74,6 +96,8 @@ public class ProcessingMetrics {
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
+    coalescedCommands = COALESCED_COMMANDS.labels(partitionIdLabel);
+    coalescingLimit = COALESCING_LIMIT.labels(partitionIdLabel);
     errorHandlingPhase = ERROR_HANDLING_PHASE.labels(partitionIdLabel);
   }
 
@@ -93,6 +117,14 @@ public class ProcessingMetrics {
     return batchProcessingPostCommitTasks.startTimer();
   }
 
+  public void observeCoalescedCommands(final int commandCount) {
+    coalescedCommands.observe(commandCount);
+  }
+
+  public void setCoalescingLimit(final int limit) {
+    coalescingLimit.set(limit);
+  }
+
   public void errorHandlingPhase(final ErrorHandlingPhase phase) {
     errorHandlingPhase.state(phase);
   }
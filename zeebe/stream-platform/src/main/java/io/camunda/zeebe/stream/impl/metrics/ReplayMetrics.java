@@ -41,6 +41,15 @@ public final class ReplayMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Histogram REPLAY_TRANSACTION_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("replay_events_per_transaction")
+          .help("Number of events read by the stream processor in a single replay transaction.")
+          .labelNames(LABEL_NAME_PARTITION)
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000)
+          .register();
+
   private final String partitionIdLabel;
 
   public ReplayMetrics(final int partitionId) {
@@ -55,6 +64,10 @@ public final class ReplayMetrics {
     return REPLAY_DURATION.labels(partitionIdLabel).startTimer();
   }
 
+  public void observeEventsInTransaction(final int events) {
+    REPLAY_TRANSACTION_SIZE.labels(partitionIdLabel).observe(events);
+  }
+
   public void setLastSourcePosition(final long position) {
     LAST_SOURCE_POSITION.labels(partitionIdLabel).set(position);
   }
@@ -35,4 +35,18 @@ public final class RecordValues {
     }
     return value;
   }
+
+  /**
+   * Reads the value like {@link #readRecordValue(LoggedEvent, ValueType)}, but nested arrays and
+   * objects are only decoded when accessed. The returned value is only valid as long as the given
+   * event is, i.e. until the reader moves on to the next event.
+   */
+  public UnifiedRecordValue readRecordValueLazily(
+      final LoggedEvent event, final ValueType valueType) {
+    final UnifiedRecordValue value = eventCache.get(valueType);
+    if (value != null) {
+      value.wrapLazily(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+    }
+    return value;
+  }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveCoalescingLimitTest {
+
+  private static final long TARGET_LATENCY_NANOS = Duration.ofMillis(10).toNanos();
+
+  private final AdaptiveCoalescingLimit limit =
+      new AdaptiveCoalescingLimit(8, Duration.ofNanos(TARGET_LATENCY_NANOS));
+
+  @Test
+  void shouldStartAtMaxLimit() {
+    assertThat(limit.isEnabled()).isTrue();
+    assertThat(limit.get()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldBeDisabledWithMaxLimitOfOne() {
+    // given
+    final var disabledLimit = new AdaptiveCoalescingLimit(1, Duration.ofMillis(10));
+
+    // when
+    disabledLimit.onBatchCompleted(1, 0);
+
+    // then
+    assertThat(disabledLimit.isEnabled()).isFalse();
+    assertThat(disabledLimit.get()).isOne();
+  }
+
+  @Test
+  void shouldHalveLimitWhenBatchExceedsTargetLatency() {
+    // when
+    limit.onBatchCompleted(6, TARGET_LATENCY_NANOS + 1);
+
+    // then
+    assertThat(limit.get()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotDecreaseLimitWhenSingleCommandExceedsTargetLatency() {
+    // given
+    limit.onBatchCompleted(4, TARGET_LATENCY_NANOS + 1);
+
+    // when
+    limit.onBatchCompleted(1, TARGET_LATENCY_NANOS + 1);
+
+    // then
+    assertThat(limit.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldIncreaseLimitWhenFullBatchIsWithinTargetLatency() {
+    // given
+    limit.onBatchCompleted(4, TARGET_LATENCY_NANOS + 1);
+
+    // when
+    limit.onBatchCompleted(2, TARGET_LATENCY_NANOS);
+
+    // then
+    assertThat(limit.get()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitWhenBatchWasNotFull() {
+    // given
+    limit.onBatchCompleted(4, TARGET_LATENCY_NANOS + 1);
+
+    // when
+    limit.onBatchCompleted(1, 0);
+
+    // then
+    assertThat(limit.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitBeyondMax() {
+    // when
+    limit.onBatchCompleted(8, 0);
+
+    // then
+    assertThat(limit.get()).isEqualTo(8);
+  }
+}
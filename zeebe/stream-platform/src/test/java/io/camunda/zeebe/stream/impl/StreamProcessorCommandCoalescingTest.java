@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorCommandCoalescingTest {
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  private final List<String> steps = new CopyOnWriteArrayList<>();
+  private final AtomicLong failOnceAtPosition = new AtomicLong(-1);
+  private RecordProcessor recordProcessor;
+
+  @BeforeEach
+  void setup() {
+    recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(0);
+              final ProcessingResultBuilder resultBuilder = invocation.getArgument(1);
+              if (failOnceAtPosition.compareAndSet(command.getPosition(), -1)) {
+                steps.add("fail " + command.getPosition());
+                throw new RuntimeException("expected");
+              }
+              steps.add("process " + command.getPosition());
+              resultBuilder.appendRecordReturnEither(
+                  command.getPosition(),
+                  Records.processInstance(1),
+                  new RecordMetadata()
+                      .recordType(RecordType.EVENT)
+                      .intent(ELEMENT_ACTIVATED)
+                      .rejectionType(RejectionType.NULL_VAL)
+                      .rejectionReason(""));
+              return resultBuilder.build();
+            })
+        .when(recordProcessor)
+        .process(any(), any());
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(0);
+              steps.add("processed " + command.getPosition());
+              return null;
+            })
+        .when(streamPlatform.getMockStreamProcessorListener())
+        .onProcessed(any());
+  }
+
+  @Test
+  void shouldNotCoalesceCommandsByDefault() {
+    // given
+    writeCommands(3);
+
+    // when
+    streamPlatform.startStreamProcessor();
+
+    // then
+    await().until(() -> steps.size() == 6);
+    assertThat(steps)
+        .containsExactly(
+            "process 1", "processed 1", "process 2", "processed 2", "process 3", "processed 3");
+  }
+
+  @Test
+  void shouldProcessFollowingCommandsInOneTransaction() {
+    // given
+    writeCommands(3);
+
+    // when
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        true,
+        cfg -> cfg.maxCoalescedCommands(10).coalescingTargetLatency(Duration.ofMinutes(1)));
+
+    // then
+    await().until(() -> steps.size() == 6);
+    assertThat(steps)
+        .containsExactly(
+            "process 1", "process 2", "process 3", "processed 1", "processed 2", "processed 3");
+    assertThat(followUpEventSources(3)).containsExactly(1L, 2L, 3L);
+    assertThat(streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+        .isEqualTo(3L);
+  }
+
+  @Test
+  void shouldCoalesceAtMostMaxCommands() {
+    // given
+    writeCommands(3);
+
+    // when
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        true,
+        cfg -> cfg.maxCoalescedCommands(2).coalescingTargetLatency(Duration.ofMinutes(1)));
+
+    // then
+    await().until(() -> steps.size() == 6);
+    assertThat(steps)
+        .containsExactly(
+            "process 1", "process 2", "processed 1", "processed 2", "process 3", "processed 3");
+    assertThat(followUpEventSources(3)).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldReuseCoalescedCommandsAcrossTransactions() {
+    // given
+    writeCommands(5);
+
+    // when
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        true,
+        cfg -> cfg.maxCoalescedCommands(2).coalescingTargetLatency(Duration.ofMinutes(1)));
+
+    // then
+    await().until(() -> steps.size() == 10);
+    assertThat(steps)
+        .containsExactly(
+            "process 1",
+            "process 2",
+            "processed 1",
+            "processed 2",
+            "process 3",
+            "process 4",
+            "processed 3",
+            "processed 4",
+            "process 5",
+            "processed 5");
+    assertThat(followUpEventSources(5)).containsExactly(1L, 2L, 3L, 4L, 5L);
+  }
+
+  @Test
+  void shouldRetryWithFewerCommandsIfCoalescedCommandFails() {
+    // given
+    writeCommands(3);
+    failOnceAtPosition.set(2);
+
+    // when
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        true,
+        cfg -> cfg.maxCoalescedCommands(10).coalescingTargetLatency(Duration.ofMinutes(1)));
+
+    // then
+    await().until(() -> steps.size() == 8);
+    assertThat(steps)
+        .containsExactly(
+            "process 1",
+            "fail 2",
+            "process 1",
+            "processed 1",
+            "process 2",
+            "process 3",
+            "processed 2",
+            "processed 3");
+    assertThat(followUpEventSources(3)).containsExactly(1L, 2L, 3L);
+    verify(recordProcessor, never()).onProcessingError(any(), any(), any());
+  }
+
+  private void writeCommands(final int count) {
+    for (int i = 0; i < count; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+    }
+  }
+
+  private List<Long> followUpEventSources(final int commands) {
+    // every command is followed by one event
+    await().until(() -> streamPlatform.events().count() == 2L * commands);
+    final var sources = new ArrayList<Long>();
+    streamPlatform
+        .events()
+        .filter(event -> event.getSourceEventPosition() >= 0)
+        .map(LoggedEvent::getSourceEventPosition)
+        .forEach(sources::add);
+    return sources;
+  }
+}
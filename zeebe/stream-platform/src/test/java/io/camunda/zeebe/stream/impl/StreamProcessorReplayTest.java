@@ -16,6 +16,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.protocol.Protocol;
@@ -30,6 +31,9 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -164,6 +168,65 @@ final class StreamProcessorReplayTest {
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
 
+  @Test
+  void shouldReplayMultipleBatchesInOneTransaction() {
+    // given
+    for (int i = 0; i < 3; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+              .causedBy(0));
+    }
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxEventsInReplayTransaction(100));
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, times(3)).replay(any());
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L);
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L);
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5L);
+  }
+
+  @Test
+  void shouldRetryAllBatchesOfFailedReplayTransaction() {
+    // given
+    for (int i = 0; i < 3; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+              .causedBy(0));
+    }
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final List<Long> replayedPositions = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              replayedPositions.add(record.getPosition());
+              if (replayedPositions.size() == 2) {
+                throw new RecoverableException("expected");
+              }
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxEventsInReplayTransaction(100));
+
+    // then
+    assertThat(replayedPositions).containsExactly(2L, 4L, 2L, 4L, 6L);
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L);
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L);
+  }
+
   @Test
   void shouldRestoreFromSnapshot() throws Exception {
     // given
@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Listener which is notified when a transaction of a {@link TransactionContext} ends. This allows
+ * in-memory structures which mirror parts of the database to stay consistent with it, e.g. by
+ * reverting changes which were made as part of a rolled back transaction.
+ *
+ * <p>Listeners are called on the thread which ends the transaction.
+ */
+public interface TransactionListener {
+
+  /** Called after the current transaction was successfully committed. */
+  void onCommit();
+
+  /**
+   * Called after the current transaction was rolled back, either explicitly or because committing
+   * it failed. All changes made during the transaction are discarded.
+   */
+  void onRollback();
+}
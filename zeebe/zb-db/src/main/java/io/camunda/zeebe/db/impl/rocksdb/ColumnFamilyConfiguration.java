@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import org.rocksdb.CompactionStyle;
+
+/**
+ * Options of a dedicated RocksDB column family, see {@link
+ * RocksDbConfiguration#getDedicatedColumnFamilies()}. Everything not configured here is shared with
+ * the default column family, including the block cache and the memtable memory budget.
+ */
+public final class ColumnFamilyConfiguration {
+
+  public static final CompactionStyle DEFAULT_COMPACTION_STYLE = CompactionStyle.LEVEL;
+  public static final boolean DEFAULT_PREFIX_BLOOM_ENABLED = true;
+  public static final boolean DEFAULT_WHOLE_KEY_FILTERING_ENABLED = true;
+
+  /**
+   * Short-lived data (e.g. jobs, timers) may benefit from {@link CompactionStyle#UNIVERSAL}, which
+   * trades space amplification for less write amplification.
+   */
+  private CompactionStyle compactionStyle = DEFAULT_COMPACTION_STYLE;
+
+  /**
+   * Whether to build a prefix bloom filter for the memtables of this column family. Worth it for
+   * families which are mostly scanned by prefix, wasted memory for families only read by key.
+   */
+  private boolean prefixBloomEnabled = DEFAULT_PREFIX_BLOOM_ENABLED;
+
+  /**
+   * Whether the SST bloom filters contain the whole keys, speeding up point lookups at the cost of
+   * memory in the block cache.
+   */
+  private boolean wholeKeyFilteringEnabled = DEFAULT_WHOLE_KEY_FILTERING_ENABLED;
+
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  public ColumnFamilyConfiguration setCompactionStyle(final CompactionStyle compactionStyle) {
+    this.compactionStyle = compactionStyle;
+    return this;
+  }
+
+  public boolean isPrefixBloomEnabled() {
+    return prefixBloomEnabled;
+  }
+
+  public ColumnFamilyConfiguration setPrefixBloomEnabled(final boolean prefixBloomEnabled) {
+    this.prefixBloomEnabled = prefixBloomEnabled;
+    return this;
+  }
+
+  public boolean isWholeKeyFilteringEnabled() {
+    return wholeKeyFilteringEnabled;
+  }
+
+  public ColumnFamilyConfiguration setWholeKeyFilteringEnabled(
+      final boolean wholeKeyFilteringEnabled) {
+    this.wholeKeyFilteringEnabled = wholeKeyFilteringEnabled;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyConfiguration{"
+        + "compactionStyle="
+        + compactionStyle
+        + ", prefixBloomEnabled="
+        + prefixBloomEnabled
+        + ", wholeKeyFilteringEnabled="
+        + wholeKeyFilteringEnabled
+        + '}';
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -43,6 +45,12 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * Key of {@link #getDedicatedColumnFamilies()} which applies to every logical column family that
+   * is not explicitly configured.
+   */
+  public static final String ALL_COLUMN_FAMILIES = "*";
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -52,6 +60,17 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  /**
+   * Logical column families (by name, e.g. {@code JOBS}) which are stored in their own RocksDB
+   * column family instead of being multiplexed by key prefix into the default one. This allows
+   * separating hot, short-lived data from cold data, such that they don't share memtables,
+   * compactions and filters. Use {@link #ALL_COLUMN_FAMILIES} as key to apply to all families.
+   *
+   * <p>Empty by default, meaning every logical column family lives in the default column family.
+   * Existing data is migrated in both directions when the layout changes.
+   */
+  private Map<String, ColumnFamilyConfiguration> dedicatedColumnFamilies = new HashMap<>();
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -147,6 +166,29 @@ public final class RocksDbConfiguration {
     return this;
   }
 
+  public Map<String, ColumnFamilyConfiguration> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setDedicatedColumnFamilies(
+      final Map<String, ColumnFamilyConfiguration> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+    return this;
+  }
+
+  /**
+   * @return the configuration of the dedicated RocksDB column family for the given logical column
+   *     family, or null if it is stored in the default column family
+   */
+  public ColumnFamilyConfiguration getDedicatedColumnFamily(final String columnFamilyName) {
+    final var configuration = dedicatedColumnFamilies.get(columnFamilyName);
+    return configuration != null ? configuration : dedicatedColumnFamilies.get(ALL_COLUMN_FAMILIES);
+  }
+
+  public boolean hasDedicatedColumnFamilies() {
+    return !dedicatedColumnFamilies.isEmpty();
+  }
+
   public boolean isSstPartitioningEnabled() {
     return sstPartitioningEnabled;
   }
@@ -26,7 +26,6 @@ import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
-import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
@@ -40,6 +39,7 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
@@ -49,6 +49,14 @@ public final class ZeebeRocksDbFactory<
     RocksDB.loadLibrary();
   }
 
+  /**
+   * This is a current guess and candidate for further tuning. Values can be between 0 and 0.25
+   * (anything higher gets clamped to 0.25), we randomly picked 0.15. Prefix seek must be fast, so
+   * we allocate some extra memory of a single memtable budget to create a filter for each memtable,
+   * allowing us to skip the prefixes if possible.
+   */
+  private static final double MEMTABLE_PREFIX_FILTER_MEMORY = 0.15;
+
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
@@ -102,15 +110,41 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
+    final var blockCache = createBlockCache(managedResources);
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    final var columnFamilyOptions = createColumnFamilyOptions(managedResources, blockCache, null);
     managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
+    final var dbOptions = createDefaultDbOptions(managedResources, blockCache);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(
+        dbOptions,
+        columnFamilyOptions,
+        columnFamilyName ->
+            createDedicatedColumnFamilyOptions(managedResources, blockCache, columnFamilyName));
+  }
+
+  /**
+   * Creates the options of a dedicated column family. Dedicated column families which are not
+   * configured anymore (e.g. when reverting to the shared layout) are opened with default options.
+   */
+  private ColumnFamilyOptions createDedicatedColumnFamilyOptions(
+      final List<AutoCloseable> managedResources,
+      final LRUCache blockCache,
+      final String columnFamilyName) {
+    final var options =
+        createColumnFamilyOptions(
+            managedResources,
+            blockCache,
+            Objects.requireNonNullElseGet(
+                rocksDbConfiguration.getDedicatedColumnFamily(columnFamilyName),
+                ColumnFamilyConfiguration::new));
+    // column family options have to be closed after the database, even if they are created later
+    managedResources.addFirst(options);
+    return options;
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var props = new Properties();
     props.put("file_checksum_gen_factory", "FileChecksumGenCrc32cFactory");
     //    Enables full file checksum
@@ -123,7 +157,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // dedicated column families are created on demand
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -143,6 +177,17 @@ public final class ZeebeRocksDbFactory<
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    if (rocksDbConfiguration.hasDedicatedColumnFamilies()) {
+      // with more than one column family, a checkpoint is only consistent across all of them if
+      // they are flushed together, as we don't rely on the WAL
+      dbOptions.setAtomicFlush(true);
+      // every column family has its own memtables, so we bound the total memtable memory by
+      // charging it to the block cache, which is then sized to the whole memory budget
+      final var writeBufferManager = new WriteBufferManager(getMemtableMemoryBudget(), blockCache);
+      closeables.add(writeBufferManager);
+      dbOptions.setWriteBufferManager(writeBufferManager);
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -162,14 +207,32 @@ public final class ZeebeRocksDbFactory<
    * @return Options which are used on all column families
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(closeables, createBlockCache(closeables), null);
+  }
+
+  /**
+   * @param dedicatedConfiguration the configuration of a dedicated column family, or null for the
+   *     default column family
+   */
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final LRUCache blockCache,
+      final ColumnFamilyConfiguration dedicatedConfiguration) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
     if (hasUserOptions) {
-      return createFromUserOptions(userProvidedColumnFamilyOptions);
+      final var columnFamilyOptions = createFromUserOptions(userProvidedColumnFamilyOptions);
+      if (dedicatedConfiguration != null) {
+        columnFamilyOptions.setCompactionStyle(dedicatedConfiguration.getCompactionStyle());
+      }
+      return columnFamilyOptions;
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(
+        closeables,
+        blockCache,
+        Objects.requireNonNullElseGet(dedicatedConfiguration, ColumnFamilyConfiguration::new));
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -189,41 +252,29 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables,
+      final LRUCache blockCache,
+      final ColumnFamilyConfiguration configuration) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
-    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
-    // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
-    // although only a single one is writable. once we have too many memtables, writes will stop.
-    // since prefix iteration is our bread n butter, we will build an additional filter for each
-    // memtable which takes a bit of memory which must be accounted for from the memtable's memory
     final var maxConcurrentMemtableCount = rocksDbConfiguration.getMaxWriteBufferNumber();
-    // this is a current guess and candidate for further tuning
-    // values can be between 0 and 0.25 (anything higher gets clamped to 0.25), we randomly picked
-    // 0.15
-    // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
-    // create
-    // a filter for each memtable, allowing us to skip the prefixes if possible
-    final var memtablePrefixFilterMemory = 0.15;
-    final var memtableMemory =
-        Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
-                * (1 - memtablePrefixFilterMemory));
-
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var memtableMemory = getMemtableMemoryBudget() / maxConcurrentMemtableCount;
+
+    final var tableConfig =
+        createTableFormatConfig(closeables, blockCache, configuration.isWholeKeyFilteringEnabled());
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
           new SstPartitionerFixedPrefixFactory(Long.BYTES));
     }
 
+    if (configuration.isPrefixBloomEnabled()) {
+      columnFamilyOptions.setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_FILTER_MEMORY);
+    }
+
     return columnFamilyOptions
         // to extract our column family type (used as prefix) and seek faster
         .useFixedLengthPrefixExtractor(Long.BYTES)
-        .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
         // memtables
         // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
         // files
@@ -235,7 +286,7 @@ public final class ZeebeRocksDbFactory<
         // compaction
         .setLevelCompactionDynamicLevelBytes(true)
         .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst)
-        .setCompactionStyle(CompactionStyle.LEVEL)
+        .setCompactionStyle(configuration.getCompactionStyle())
         // L-0 means immediately flushed memtables
         .setLevel0FileNumCompactionTrigger(maxConcurrentMemtableCount)
         .setLevel0SlowdownWritesTrigger(
@@ -269,13 +320,44 @@ public final class ZeebeRocksDbFactory<
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  /**
+   * Flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
+   * although only a single one is writable. Once we have too many memtables, writes will stop.
+   * Since prefix iteration is our bread n butter, we will build an additional filter for each
+   * memtable which takes a bit of memory which must be accounted for from the memtable's memory.
+   *
+   * @return the memory available to all memtables, excluding their prefix filters
+   */
+  private long getMemtableMemoryBudget() {
+    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+    return Math.round(
+        (totalMemoryBudget - getBlockCacheMemory(totalMemoryBudget))
+            * (1 - MEMTABLE_PREFIX_FILTER_MEMORY));
+  }
+
+  private long getBlockCacheMemory(final long totalMemoryBudget) {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return totalMemoryBudget / 3;
+  }
+
+  private LRUCache createBlockCache(final List<AutoCloseable> closeables) {
+    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+    // with dedicated column families the memtables are charged to the block cache (see
+    // createDefaultDbOptions), so the cache must be sized to the whole memory budget
+    final var blockCacheMemory =
+        rocksDbConfiguration.hasDedicatedColumnFamilies()
+            ? totalMemoryBudget
+            : getBlockCacheMemory(totalMemoryBudget);
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
     final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables, final LRUCache cache, final boolean wholeKeyFiltering) {
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
 
@@ -304,6 +386,6 @@ public final class ZeebeRocksDbFactory<
         // setMemtablePrefixBloomSizeRatio which will create a separate index for prefixes, so
         // keeping the whole keys in the prefixes is still useful for efficient gets. think of
         // it as a two-tiered index
-        .setWholeKeyFiltering(true);
+        .setWholeKeyFiltering(wholeKeyFiltering);
   }
 }
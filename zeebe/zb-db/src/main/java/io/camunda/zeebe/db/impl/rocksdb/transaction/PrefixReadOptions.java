@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import org.rocksdb.DirectSlice;
+import org.rocksdb.ReadOptions;
+
+/**
+ * Read options for prefix iterations with an explicit upper bound. The bound is written in place
+ * for every iteration, such that iterating over a prefix doesn't allocate new native objects.
+ *
+ * <p>As the iterator only references the bound, an instance must not be reused before the iterator
+ * created with it is closed.
+ */
+final class PrefixReadOptions implements AutoCloseable {
+
+  private static final int INITIAL_UPPER_BOUND_CAPACITY = 64;
+
+  private final ReadOptions readOptions;
+  private ByteBuffer upperBoundBuffer;
+  private DirectSlice upperBound;
+
+  PrefixReadOptions(final ReadOptions prefixReadOptions) {
+    readOptions = new ReadOptions(prefixReadOptions);
+    allocateUpperBound(INITIAL_UPPER_BOUND_CAPACITY);
+  }
+
+  /**
+   * Sets the upper bound to the given prefix, truncated to the given length and with its last byte
+   * incremented, see {@link TransactionalColumnFamily#prefixUpperBoundLength(byte[], int)}.
+   *
+   * @return the read options with the updated upper bound
+   */
+  ReadOptions withUpperBound(final byte[] prefix, final int upperBoundLength) {
+    if (upperBoundLength > upperBoundBuffer.capacity()) {
+      final var previousUpperBound = upperBound;
+      allocateUpperBound(upperBoundLength);
+      previousUpperBound.close();
+    }
+
+    upperBoundBuffer.put(0, prefix, 0, upperBoundLength);
+    upperBoundBuffer.put(upperBoundLength - 1, (byte) (prefix[upperBoundLength - 1] + 1));
+    upperBound.setLength(upperBoundLength);
+    return readOptions;
+  }
+
+  private void allocateUpperBound(final int capacity) {
+    upperBoundBuffer = ByteBuffer.allocateDirect(capacity);
+    upperBound = new DirectSlice(upperBoundBuffer);
+    readOptions.setIterateUpperBound(upperBound);
+  }
+
+  @Override
+  public void close() {
+    readOptions.close();
+    upperBound.close();
+  }
+}
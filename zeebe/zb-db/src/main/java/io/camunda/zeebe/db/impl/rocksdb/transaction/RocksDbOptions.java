@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import java.util.function.Function;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +16,16 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>By default, Zeebe only uses a single RocksDB column family, into which all logical column
+ * families are multiplexed by key prefix. Logical column families can optionally be stored in
+ * dedicated RocksDB column families, which are configured individually and created on demand.
  *
  * @param dbOptions The database options used to open the RocksDB database
- * @param cfOptions The column family options used to open the RocksDB database
+ * @param cfOptions The column family options used for the default column family
+ * @param dedicatedCfOptions Creates the options of the dedicated column family with the given name;
+ *     the returned options are managed by the caller of the factory
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions,
+    ColumnFamilyOptions cfOptions,
+    Function<String, ColumnFamilyOptions> dedicatedCfOptions) {}
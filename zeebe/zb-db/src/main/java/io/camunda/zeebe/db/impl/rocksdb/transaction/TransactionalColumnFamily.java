@@ -19,12 +19,15 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayDeque;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -48,6 +51,8 @@ class TransactionalColumnFamily<
     implements ColumnFamily<KeyType, ValueType> {
 
   private final ZeebeTransactionDb<ColumnFamilyNames> transactionDb;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final ColumnFamilyNames columnFamily;
   private final TransactionContext context;
@@ -56,9 +61,12 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  // reused for every bounded prefix iteration, one per nested iteration
+  private final Queue<PrefixReadOptions> boundedReadOptions = new ArrayDeque<>();
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
+      final ColumnFamilyHandle handle,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final ColumnFamilyNames columnFamily,
       final TransactionContext context,
@@ -66,6 +74,8 @@ class TransactionalColumnFamily<
       final ValueType valueInstance,
       final ColumnFamilyMetrics metrics) {
     this.transactionDb = transactionDb;
+    this.handle = handle;
+    nativeHandle = ZeebeTransactionDb.getNativeHandle(handle);
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
     this.context = context;
@@ -87,7 +97,7 @@ class TransactionalColumnFamily<
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -106,7 +116,7 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -124,7 +134,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -141,7 +151,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    nativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
                     columnFamilyContext.getKeyLength());
@@ -226,7 +236,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
@@ -240,7 +250,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
@@ -255,7 +265,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             final byte[] value =
                 transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
+                    nativeHandle,
                     transactionDb.getReadOptionsNativeHandle(),
                     columnFamilyContext.getKeyBufferArray(),
                     columnFamilyContext.getKeyLength());
@@ -308,7 +318,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -324,7 +334,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -346,7 +356,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   /**
@@ -379,35 +389,26 @@ class TransactionalColumnFamily<
       Objects.requireNonNull(prefix);
       Objects.requireNonNull(visitor);
 
-      /*
-       * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-       * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-       * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-       * over all keys contained in those files, so we still need to make sure the key actually
-       * matches the prefix.
-       *
-       * <p>While iterating over subsequent keys we have to validate it.
-       */
       columnFamilyContext.withPrefixKey(
           prefix,
-          (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-              boolean shouldVisitNext = true;
-
-              for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                  iterator.isValid() && shouldVisitNext;
-                  iterator.next()) {
-                final byte[] keyBytes = iterator.key();
-                if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                  break;
-                }
-
-                shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
-              }
-            }
-          });
+          (prefixKey, prefixLength) ->
+              withPrefixIterator(
+                  prefixKey,
+                  prefixLength,
+                  iterator -> {
+                    boolean shouldVisitNext = true;
+
+                    for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
+                        iterator.isValid() && shouldVisitNext;
+                        iterator.next()) {
+                      final byte[] keyBytes = iterator.key();
+                      if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                        break;
+                      }
+
+                      shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+                    }
+                  }));
     }
   }
 
@@ -426,37 +427,82 @@ class TransactionalColumnFamily<
 
     final var count = new AtomicLong(0);
 
-    /*
-     * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-     * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-     * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-     * over all keys contained in those files, so we still need to make sure the key actually
-     * matches the prefix.
-     *
-     * <p>While iterating over subsequent keys we have to validate it.
-     */
     columnFamilyContext.withPrefixKey(
         prefix,
-        (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-            for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                iterator.isValid();
-                iterator.next()) {
-              final byte[] keyBytes = iterator.key();
-              if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                break;
-              }
-
-              count.getAndIncrement();
-            }
-          }
-        });
+        (prefixKey, prefixLength) ->
+            withPrefixIterator(
+                prefixKey,
+                prefixLength,
+                iterator -> {
+                  for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
+                      iterator.isValid();
+                      iterator.next()) {
+                    final byte[] keyBytes = iterator.key();
+                    if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                      break;
+                    }
+
+                    count.getAndIncrement();
+                  }
+                }));
 
     return count.get();
   }
 
+  /**
+   * Opens an iterator which is bounded to the given prefix, such that RocksDB doesn't read past the
+   * end of the prefix range, e.g. walking over tombstones of deleted neighbouring keys.
+   *
+   * <p>The configured prefix extractor only covers the column family prefix (see {@link
+   * io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory}), as key parts have different lengths
+   * depending on the column family. For longer prefixes, we set an explicit upper bound on the
+   * iterator. As the bound is only a hint for RocksDB, callers must still check that each key
+   * matches the prefix.
+   */
+  private void withPrefixIterator(
+      final byte[] prefix, final int prefixLength, final Consumer<RocksIterator> consumer) {
+    final int upperBoundLength = prefixUpperBoundLength(prefix, prefixLength);
+    if (upperBoundLength == 0) {
+      try (final RocksIterator iterator =
+          newIterator(context, transactionDb.getPrefixReadOptions())) {
+        consumer.accept(iterator);
+      }
+      return;
+    }
+
+    final var readOptions =
+        Objects.requireNonNullElseGet(
+            boundedReadOptions.poll(), transactionDb::newPrefixReadOptions);
+    try (final RocksIterator iterator =
+        newIterator(context, readOptions.withUpperBound(prefix, upperBoundLength))) {
+      consumer.accept(iterator);
+    } finally {
+      boundedReadOptions.add(readOptions);
+    }
+  }
+
+  /**
+   * Returns the length of the smallest key which is greater than all keys starting with the given
+   * prefix. The key is the prefix up to its last byte which is not 0xFF, with that byte
+   * incremented.
+   *
+   * @return the length of the upper bound, or 0 if the prefix is already bounded by the prefix
+   *     extractor or no such key exists
+   */
+  static int prefixUpperBoundLength(final byte[] prefix, final int prefixLength) {
+    if (prefixLength <= Long.BYTES) {
+      return 0;
+    }
+
+    for (int i = prefixLength - 1; i >= 0; i--) {
+      if (prefix[i] != (byte) 0xFF) {
+        return i + 1;
+      }
+    }
+
+    return 0;
+  }
+
   private boolean visit(
       final KeyType keyInstance,
       final ValueType valueInstance,
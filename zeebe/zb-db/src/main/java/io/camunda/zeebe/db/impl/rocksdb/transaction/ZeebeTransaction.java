@@ -9,9 +9,12 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -24,7 +27,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
 
+  private final List<TransactionListener> listeners = new ArrayList<>();
+
   private boolean inCurrentTransaction;
+  // whether the transaction was started and neither committed nor rolled back yet
+  private boolean pendingCompletion;
   private Transaction transaction;
 
   public ZeebeTransaction(
@@ -97,6 +104,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    pendingCompletion = true;
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
   }
 
   boolean isInCurrentTransaction() {
@@ -145,11 +157,24 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+
+    if (pendingCompletion) {
+      pendingCompletion = false;
+      listeners.forEach(TransactionListener::onCommit);
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    try {
+      transaction.rollback();
+    } finally {
+      // rollback is also called after a successful commit, in which case there is nothing to revert
+      if (pendingCompletion) {
+        pendingCompletion = false;
+        listeners.forEach(TransactionListener::onRollback);
+      }
+    }
   }
 
   @Override
@@ -18,24 +18,32 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -45,25 +53,37 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  // entries are moved between column families in batches of this size, to bound memory usage
+  private static final long MIGRATION_BATCH_SIZE = 16 * 1024 * 1024L;
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
-  private final long defaultNativeHandle;
+  private final RocksDbOptions options;
+  private final RocksDbConfiguration rocksDbConfiguration;
+  // dedicated RocksDB column families by logical column family name
+  private final Map<String, ColumnFamilyHandle> dedicatedHandles;
+  // dedicated column families which may still have leftover entries in the default one
+  private final Map<String, ColumnFamilyHandle> unmigratedHandles;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> dedicatedHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
+      final RocksDbOptions options,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
-    defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.dedicatedHandles = new ConcurrentHashMap<>(dedicatedHandles);
+    unmigratedHandles = new ConcurrentHashMap<>(dedicatedHandles);
+    this.options = options;
+    this.rocksDbConfiguration = rocksDbConfiguration;
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
@@ -93,30 +113,59 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final List<ColumnFamilyDescriptor> cfDescriptors = new ArrayList<>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    for (final var name : listDedicatedColumnFamilies(options, path)) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              name.getBytes(StandardCharsets.UTF_8), options.dedicatedCfOptions().apply(name)));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
+    closables.addAll(cfHandles);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    final Map<String, ColumnFamilyHandle> dedicatedHandles = new ConcurrentHashMap<>();
+    for (final var handle : cfHandles.subList(1, cfHandles.size())) {
+      dedicatedHandles.put(new String(handle.getName(), StandardCharsets.UTF_8), handle);
+    }
 
-    return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
-        optimisticTransactionDB,
-        closables,
-        rocksDbConfiguration,
-        consistencyChecksSettings,
-        metrics);
+    final var db =
+        new ZeebeTransactionDb<ColumnFamilyNames>(
+            defaultColumnFamilyHandle,
+            dedicatedHandles,
+            optimisticTransactionDB,
+            closables,
+            options,
+            rocksDbConfiguration,
+            consistencyChecksSettings,
+            metrics);
+    db.dropUnconfiguredColumnFamilies();
+    return db;
+  }
+
+  private static List<String> listDedicatedColumnFamilies(
+      final RocksDbOptions options, final String path) throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of();
+    }
+
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      return RocksDB.listColumnFamilies(listOptions, path).stream()
+          .filter(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY))
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -132,16 +181,128 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  /**
+   * Creates read options for prefix iterations with an explicit upper bound, which are closed
+   * together with the database.
+   */
+  PrefixReadOptions newPrefixReadOptions() {
+    final var boundedReadOptions = new PrefixReadOptions(prefixReadOptions);
+    closables.add(boundedReadOptions);
+    return boundedReadOptions;
+  }
+
+  /**
+   * Returns the RocksDB column family in which the entries of the given logical column family are
+   * stored. If it should be stored in a dedicated column family, that one is created on demand, and
+   * any entries which are still in the default column family are moved there.
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final Enum<? extends EnumValue> columnFamily) {
+    final var name = columnFamily.name();
+    if (rocksDbConfiguration.getDedicatedColumnFamily(name) == null) {
+      return defaultHandle;
+    }
+
+    final var handle = dedicatedHandles.get(name);
+    if (handle != null && !unmigratedHandles.containsKey(name)) {
+      return handle;
+    }
+
+    return openDedicatedColumnFamily(columnFamily);
   }
 
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  protected long getColumnFamilyNativeHandle(final Enum<? extends EnumValue> columnFamily) {
+    return getNativeHandle(getColumnFamilyHandle(columnFamily));
+  }
+
+  private synchronized ColumnFamilyHandle openDedicatedColumnFamily(
+      final Enum<? extends EnumValue> columnFamily) {
+    final var name = columnFamily.name();
+    var handle = dedicatedHandles.get(name);
+    try {
+      if (handle == null) {
+        final var descriptor =
+            new ColumnFamilyDescriptor(
+                name.getBytes(StandardCharsets.UTF_8), options.dedicatedCfOptions().apply(name));
+        handle = optimisticTransactionDB.createColumnFamily(descriptor);
+        closables.add(handle);
+        dedicatedHandles.put(name, handle);
+        unmigratedHandles.put(name, handle);
+        LOG.debug("Created dedicated RocksDB column family for {}", name);
+      }
+
+      if (unmigratedHandles.remove(name) != null) {
+        final var prefix = new UnsafeBuffer(new byte[Long.BYTES]);
+        prefix.putLong(0, ((EnumValue) columnFamily).getValue(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+        moveEntries(defaultHandle, handle, prefix.byteArray());
+      }
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to open dedicated RocksDB column family for %s".formatted(name), e);
+    }
+
+    return handle;
+  }
+
+  /**
+   * Moves the entries of dedicated column families which are not configured anymore back into the
+   * default column family, and drops them afterwards. As keys are always prefixed with the logical
+   * column family, the entries don't have to be transformed.
+   */
+  private void dropUnconfiguredColumnFamilies() throws RocksDBException {
+    for (final var entry : List.copyOf(dedicatedHandles.entrySet())) {
+      final var name = entry.getKey();
+      final var handle = entry.getValue();
+      if (rocksDbConfiguration.getDedicatedColumnFamily(name) != null) {
+        continue;
+      }
+
+      moveEntries(handle, defaultHandle, new byte[0]);
+      optimisticTransactionDB.dropColumnFamily(handle);
+      dedicatedHandles.remove(name);
+      unmigratedHandles.remove(name);
+      closables.remove(handle);
+      handle.close();
+      LOG.debug("Dropped dedicated RocksDB column family for {}", name);
+    }
+  }
+
+  private void moveEntries(
+      final ColumnFamilyHandle source, final ColumnFamilyHandle target, final byte[] prefix)
+      throws RocksDBException {
+    long movedEntries = 0;
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var iterator = optimisticTransactionDB.newIterator(source, readOptions);
+        final var batch = new WriteBatch()) {
+      for (iterator.seek(prefix); iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        if (!BufferUtil.startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(target, key, iterator.value());
+        batch.delete(source, key);
+        movedEntries++;
+
+        if (batch.getDataSize() >= MIGRATION_BATCH_SIZE) {
+          optimisticTransactionDB.write(defaultWriteOptions, batch);
+          batch.clear();
+        }
+      }
+      iterator.status();
+      optimisticTransactionDB.write(defaultWriteOptions, batch);
+    }
+
+    if (movedEntries > 0) {
+      LOG.info(
+          "Moved {} entries from column family {} to {}",
+          movedEntries,
+          new String(source.getName(), StandardCharsets.UTF_8),
+          new String(target.getName(), StandardCharsets.UTF_8));
+    }
   }
 
   @Override
@@ -160,6 +321,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         };
     return new TransactionalColumnFamily<>(
         this,
+        getColumnFamilyHandle(columnFamily),
         consistencyChecksSettings,
         columnFamily,
         context,
@@ -184,7 +346,14 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (dedicatedHandles.isEmpty()) {
+        propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      } else {
+        // sums up the property over all column families; only numeric properties can be
+        // aggregated, which covers the ones we export as metrics
+        propertyValue =
+            String.valueOf(optimisticTransactionDB.getAggregatedLongProperty(propertyName));
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
@@ -0,0 +1,192 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+
+final class DedicatedColumnFamiliesTest {
+
+  private @TempDir File runtime;
+  private @TempDir File snapshots;
+
+  @Test
+  void shouldMigrateToDedicatedColumnFamily() throws Exception {
+    // given
+    try (final var db = createDb(Map.of())) {
+      insert(db, TestColumnFamilies.HOT, 1, "hot");
+      insert(db, TestColumnFamilies.COLD, 1, "cold");
+    }
+
+    // when
+    try (final var db =
+        createDb(
+            Map.of(
+                TestColumnFamilies.HOT.name(),
+                new ColumnFamilyConfiguration().setCompactionStyle(CompactionStyle.UNIVERSAL)))) {
+
+      // then
+      assertThat(get(db, TestColumnFamilies.HOT, 1)).isEqualTo("hot");
+      assertThat(get(db, TestColumnFamilies.COLD, 1)).isEqualTo("cold");
+      assertThat(count(db, TestColumnFamilies.HOT)).isOne();
+      assertThat(count(db, TestColumnFamilies.COLD)).isOne();
+    }
+    assertThat(listColumnFamilies(runtime)).containsExactlyInAnyOrder("default", "HOT");
+  }
+
+  @Test
+  void shouldMigrateBackToDefaultColumnFamily() throws Exception {
+    // given
+    try (final var db = createDb(Map.of(RocksDbConfiguration.ALL_COLUMN_FAMILIES, config()))) {
+      insert(db, TestColumnFamilies.HOT, 1, "hot");
+      insert(db, TestColumnFamilies.COLD, 1, "cold");
+    }
+
+    // when
+    try (final var db = createDb(Map.of())) {
+
+      // then
+      assertThat(get(db, TestColumnFamilies.HOT, 1)).isEqualTo("hot");
+      assertThat(get(db, TestColumnFamilies.COLD, 1)).isEqualTo("cold");
+      assertThat(count(db, TestColumnFamilies.HOT)).isOne();
+    }
+    assertThat(listColumnFamilies(runtime)).containsExactly("default");
+  }
+
+  @Test
+  void shouldIncludeDedicatedColumnFamiliesInSnapshot() throws Exception {
+    // given
+    final var snapshot = new File(snapshots, "snapshot");
+    try (final var db = createDb(Map.of(TestColumnFamilies.HOT.name(), config()))) {
+      insert(db, TestColumnFamilies.HOT, 1, "hot");
+      insert(db, TestColumnFamilies.COLD, 1, "cold");
+
+      // when
+      db.createSnapshot(snapshot);
+    }
+
+    // then
+    try (final var db =
+        factory(Map.of(TestColumnFamilies.HOT.name(), config())).createDb(snapshot)) {
+      assertThat(get(db, TestColumnFamilies.HOT, 1)).isEqualTo("hot");
+      assertThat(get(db, TestColumnFamilies.COLD, 1)).isEqualTo("cold");
+    }
+  }
+
+  @Test
+  void shouldCopySnapshotOnlyDbWithDedicatedColumnFamilies() throws Exception {
+    // given
+    final var snapshot = new File(snapshots, "snapshot");
+    final var copy = new File(snapshots, "copy");
+    try (final var db = createDb(Map.of(TestColumnFamilies.HOT.name(), config()))) {
+      insert(db, TestColumnFamilies.HOT, 1, "hot");
+      db.createSnapshot(snapshot);
+    }
+
+    // when
+    final var factory = factory(Map.of(TestColumnFamilies.HOT.name(), config()));
+    try (final var snapshotOnlyDb = factory.openSnapshotOnlyDb(snapshot)) {
+      snapshotOnlyDb.createSnapshot(copy);
+    }
+
+    // then
+    try (final var db = factory.createDb(copy)) {
+      assertThat(get(db, TestColumnFamilies.HOT, 1)).isEqualTo("hot");
+    }
+  }
+
+  private ColumnFamilyConfiguration config() {
+    return new ColumnFamilyConfiguration();
+  }
+
+  private ZeebeDb<TestColumnFamilies> createDb(
+      final Map<String, ColumnFamilyConfiguration> dedicatedColumnFamilies) {
+    return factory(dedicatedColumnFamilies).createDb(runtime);
+  }
+
+  private ZeebeRocksDbFactory<TestColumnFamilies> factory(
+      final Map<String, ColumnFamilyConfiguration> dedicatedColumnFamilies) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setDedicatedColumnFamilies(dedicatedColumnFamilies),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private ColumnFamily<DbLong, DbString> columnFamily(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily) {
+    return db.createColumnFamily(columnFamily, db.createContext(), new DbLong(), new DbString());
+  }
+
+  private void insert(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final long key,
+      final String value) {
+    final var dbKey = new DbLong();
+    dbKey.wrapLong(key);
+    final var dbValue = new DbString();
+    dbValue.wrapString(value);
+    columnFamily(db, columnFamily).insert(dbKey, dbValue);
+  }
+
+  private String get(
+      final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily, final long key) {
+    final var dbKey = new DbLong();
+    dbKey.wrapLong(key);
+    final var value = columnFamily(db, columnFamily).get(dbKey);
+    return value == null ? null : value.toString();
+  }
+
+  private long count(final ZeebeDb<TestColumnFamilies> db, final TestColumnFamilies columnFamily) {
+    return columnFamily(db, columnFamily).count();
+  }
+
+  private List<String> listColumnFamilies(final File path) throws Exception {
+    final var names = new ArrayList<String>();
+    try (final var options = new Options()) {
+      for (final var name : RocksDB.listColumnFamilies(options, path.getAbsolutePath())) {
+        names.add(new String(name, StandardCharsets.UTF_8));
+      }
+    }
+    return names;
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    HOT(1),
+    COLD(2);
+
+    private final int value;
+
+    TestColumnFamilies(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getValue() {
+      return value;
+    }
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -85,4 +89,105 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldIterateOverPrefixEndingWithMaxBytes() {
+    // given
+    final long suffixes = 5;
+    for (final long prefix : new long[] {0, -1}) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < suffixes; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+      }
+    }
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    firstKey.wrapLong(-1);
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          visited.add(key.second().getValue());
+        });
+
+    // then
+    assertThat(visited).containsExactly(0L, 1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldComputePrefixUpperBound() {
+    // given
+    final byte[] prefix = {0, 0, 0, 0, 0, 0, 0, 1, 5, (byte) 0xFF, 7};
+
+    // when - then
+    assertThat(TransactionalColumnFamily.prefixUpperBoundLength(prefix, 11)).isEqualTo(11);
+    assertThat(TransactionalColumnFamily.prefixUpperBoundLength(prefix, 10)).isEqualTo(9);
+    assertThat(TransactionalColumnFamily.prefixUpperBoundLength(prefix, Long.BYTES)).isZero();
+  }
+
+  @Test
+  public void shouldReuseReadOptionsForBoundedPrefixIterations() {
+    // given
+    final long prefixes = 3;
+    final long suffixes = 5;
+    for (long prefix = 0; prefix < prefixes; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < suffixes; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+      }
+    }
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    for (long prefix = 0; prefix < prefixes; prefix++) {
+      firstKey.wrapLong(prefix);
+      columnFamily.whileEqualPrefix(
+          firstKey,
+          (key, value) -> {
+            visited.add(key.first().getValue());
+          });
+    }
+
+    // then
+    assertThat(visited).containsExactly(0L, 0L, 0L, 0L, 0L, 1L, 1L, 1L, 1L, 1L, 2L, 2L, 2L, 2L, 2L);
+    Mockito.verify(zeebeDb, Mockito.times(1)).newPrefixReadOptions();
+  }
+
+  @Test
+  public void shouldKeepUpperBoundOfOuterIterationDuringNestedIteration() {
+    // given
+    final long suffixes = 3;
+    for (long prefix = 0; prefix < 3; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < suffixes; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+      }
+    }
+
+    // when
+    final DbLong outerPrefix = new DbLong();
+    outerPrefix.wrapLong(1);
+    final DbLong innerPrefix = new DbLong();
+    innerPrefix.wrapLong(2);
+    final List<Long> visitedOuter = new ArrayList<>();
+    final List<Long> visitedInner = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        outerPrefix,
+        (key, value) -> {
+          visitedOuter.add(key.first().getValue());
+          columnFamily.whileEqualPrefix(
+              innerPrefix,
+              (innerKey, innerValue) -> {
+                visitedInner.add(innerKey.first().getValue());
+              });
+        });
+
+    // then
+    assertThat(visitedOuter).containsExactly(1L, 1L, 1L);
+    assertThat(visitedInner).hasSize(9).containsOnly(2L);
+    Mockito.verify(zeebeDb, Mockito.times(2)).newPrefixReadOptions();
+  }
 }
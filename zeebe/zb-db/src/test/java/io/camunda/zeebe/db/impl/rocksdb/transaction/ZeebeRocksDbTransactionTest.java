@@ -7,11 +7,16 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbFactory;
@@ -214,4 +219,54 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldNotifyListenerOnCommit() {
+    // given
+    final TransactionListener listener = mock(TransactionListener.class);
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    transactionContext.runInTransaction(() -> {});
+
+    // then
+    verify(listener).onCommit();
+    verify(listener, never()).onRollback();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() {
+    // given
+    final TransactionListener listener = mock(TransactionListener.class);
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                transactionContext.runInTransaction(
+                    () -> {
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    verify(listener).onRollback();
+    verify(listener, never()).onCommit();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnExplicitRollback() throws Exception {
+    // given
+    final TransactionListener listener = mock(TransactionListener.class);
+    transactionContext.addTransactionListener(listener);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.rollback();
+    transaction.rollback();
+
+    // then
+    verify(listener, times(1)).onRollback();
+    verify(listener, never()).onCommit();
+  }
 }